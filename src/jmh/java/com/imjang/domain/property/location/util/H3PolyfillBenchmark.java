@@ -0,0 +1,106 @@
+package com.imjang.domain.property.location.util;
+
+import com.uber.h3core.H3Core;
+import com.uber.h3core.util.LatLng;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 서울 viewport(줌 12~18) 기준 polyfill 경로별 호출당 시간/할당량 비교
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op) 값으로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class H3PolyfillBenchmark {
+
+  // 서울시청 중심, 모바일 화면(400x800px) 기준
+  private static final double CENTER_LAT = 37.5665;
+  private static final double CENTER_LNG = 126.9780;
+  private static final int SCREEN_WIDTH_PX = 400;
+  private static final int SCREEN_HEIGHT_PX = 800;
+
+  @Param({"12", "14", "15", "16", "18"})
+  public int zoomLevel;
+
+  private H3Core h3Core;
+  private H3Util h3Util;
+
+  private double northEastLat;
+  private double northEastLng;
+  private double southWestLat;
+  private double southWestLng;
+  private List<LatLng> boundary;
+
+  @Setup
+  public void setUp() throws IOException {
+    h3Core = H3Core.newInstance();
+    h3Util = new H3Util();
+
+    // 웹 메르카토르: 줌 z에서 픽셀당 경도 = 360 / (256 * 2^z)
+    double degreesPerPixel = 360.0 / (256 * Math.pow(2, zoomLevel));
+    double lngSpan = SCREEN_WIDTH_PX * degreesPerPixel;
+    double latSpan = SCREEN_HEIGHT_PX * degreesPerPixel * Math.cos(Math.toRadians(CENTER_LAT));
+
+    northEastLat = CENTER_LAT + latSpan / 2;
+    northEastLng = CENTER_LNG + lngSpan / 2;
+    southWestLat = CENTER_LAT - latSpan / 2;
+    southWestLng = CENTER_LNG - lngSpan / 2;
+    boundary = List.of(
+            new LatLng(southWestLat, southWestLng),
+            new LatLng(northEastLat, southWestLng),
+            new LatLng(northEastLat, northEastLng),
+            new LatLng(southWestLat, northEastLng),
+            new LatLng(southWestLat, southWestLng)
+    );
+  }
+
+  /**
+   * 기존 경로: List<LatLng> -> List<Long> -> HashSet<String>
+   */
+  @Benchmark
+  public Set<String> stringSet() {
+    Set<String> result = new HashSet<>();
+    for (Long cell : h3Core.polygonToCells(boundary, null, H3Util.PROPERTY_RESOLUTION)) {
+      result.add(h3Core.h3ToString(cell));
+    }
+    return result;
+  }
+
+  /**
+   * 공개 API 경로: List<Long> (셀마다 boxing) -> HashSet<Long>
+   */
+  @Benchmark
+  public Set<Long> boxedSet() {
+    return new HashSet<>(h3Core.polygonToCells(boundary, null, H3Util.PROPERTY_RESOLUTION));
+  }
+
+  /**
+   * primitive 경로: long[]
+   */
+  @Benchmark
+  public long[] primitiveArray() {
+    return h3Util.getH3CellsForBounds(northEastLat, northEastLng, southWestLat, southWestLng,
+            H3Util.PROPERTY_RESOLUTION);
+  }
+
+  /**
+   * 마커 조회 경로 전체: polyfill + compact + 컬럼 해상도 정규화
+   */
+  @Benchmark
+  public H3CellCover primitiveCover() {
+    return h3Util.getCellCover(h3Util.getH3CellsForBounds(
+            northEastLat, northEastLng, southWestLat, southWestLng, H3Util.PROPERTY_RESOLUTION));
+  }
+}
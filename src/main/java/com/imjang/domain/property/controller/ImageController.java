@@ -1,17 +1,27 @@
 package com.imjang.domain.property.controller;
 
 import com.imjang.domain.auth.dto.UserSession;
+import com.imjang.domain.property.dto.request.CompletePresignedUploadRequest;
+import com.imjang.domain.property.dto.request.PresignedUploadRequest;
 import com.imjang.domain.property.dto.response.ImageUploadResponse;
+import com.imjang.domain.property.dto.response.PresignedUploadResponse;
 import com.imjang.domain.property.service.ImageService;
 import com.imjang.global.annotation.LoginRequired;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,7 +35,8 @@ public class ImageController {
 
   private final ImageService imageService;
 
-  @Operation(summary = "이미지 업로드", description = "이미지 업로드 후 썸네일 생성")
+  @Operation(summary = "이미지 업로드",
+          description = "원본 저장 후 즉시 반환. 썸네일은 백그라운드에서 생성되며 status가 PENDING이면 아직 준비 중")
   @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   @LoginRequired
   public ResponseEntity<ImageUploadResponse> uploadImage(
@@ -37,4 +48,66 @@ public class ImageController {
 
     return ResponseEntity.status(HttpStatus.CREATED).body(response);
   }
+
+  @Operation(summary = "이미지 스트리밍 업로드",
+          description = "요청 본문(이미지 바이너리)을 서버 디스크에 저장하지 않고 객체 스토리지로 바로 전송. "
+                  + "Content-Type은 image/jpeg, image/png, image/webp. 썸네일은 같은 읽기에서 디코딩한 이미지로 생성")
+  @PutMapping(value = "/stream", consumes = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, "image/webp"})
+  @LoginRequired
+  public ResponseEntity<ImageUploadResponse> uploadImageStream(HttpServletRequest servletRequest)
+          throws IOException {
+
+    UserSession userSession = (UserSession) servletRequest.getAttribute("USER_SESSION");
+    ImageUploadResponse response = imageService.uploadImageStream(
+            servletRequest.getInputStream(),
+            servletRequest.getContentType(),
+            servletRequest.getContentLengthLong(),
+            userSession.userId()
+    );
+
+    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+  }
+
+  @Operation(summary = "직접 업로드 URL 발급",
+          description = "버킷에 이미지를 직접 PUT할 수 있는 서명된 URL 발급. 응답의 headers를 그대로 포함해 업로드한 뒤 "
+                  + "완료 API에 key를 보내 등록")
+  @PostMapping("/presigned")
+  @LoginRequired
+  public ResponseEntity<PresignedUploadResponse> issuePresignedUpload(
+          @Valid @RequestBody PresignedUploadRequest request,
+          HttpServletRequest servletRequest) {
+
+    UserSession userSession = (UserSession) servletRequest.getAttribute("USER_SESSION");
+    PresignedUploadResponse response = imageService.issuePresignedUpload(request, userSession.userId());
+
+    return ResponseEntity.ok(response);
+  }
+
+  @Operation(summary = "직접 업로드 완료",
+          description = "버킷에 저장된 객체를 임시 이미지로 등록. 썸네일은 저장된 객체로 백그라운드에서 생성")
+  @PostMapping("/presigned/complete")
+  @LoginRequired
+  public ResponseEntity<ImageUploadResponse> completePresignedUpload(
+          @Valid @RequestBody CompletePresignedUploadRequest request,
+          HttpServletRequest servletRequest) {
+
+    UserSession userSession = (UserSession) servletRequest.getAttribute("USER_SESSION");
+    ImageUploadResponse response = imageService.completePresignedUpload(request.key(), userSession.userId());
+
+    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+  }
+
+  @Operation(summary = "업로드 이미지 상태 조회", description = "썸네일 생성 상태(PENDING, COMPLETED, FAILED) 조회")
+  @GetMapping("/{imageId}/status")
+  @LoginRequired
+  public ResponseEntity<ImageUploadResponse> getUploadStatus(
+          @Parameter(description = "업로드 응답의 이미지 ID", required = true, example = "1234")
+          @PathVariable Long imageId,
+          HttpServletRequest servletRequest) {
+
+    UserSession userSession = (UserSession) servletRequest.getAttribute("USER_SESSION");
+    ImageUploadResponse response = imageService.getUploadStatus(imageId, userSession.userId());
+
+    return ResponseEntity.ok(response);
+  }
 }
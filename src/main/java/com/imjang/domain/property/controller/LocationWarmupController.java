@@ -0,0 +1,64 @@
+package com.imjang.domain.property.controller;
+
+import com.imjang.domain.auth.dto.UserSession;
+import com.imjang.domain.property.dto.response.LocationWarmupStatusResponse;
+import com.imjang.domain.property.location.service.LocationWarmupService;
+import com.imjang.global.annotation.LoginRequired;
+import com.imjang.global.common.response.MessageResponse;
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Admin Location Warmup", description = "위치 정보 워밍업 관리 API")
+@RestController
+@RequestMapping("/api/v1/admin/location-warmup")
+@RequiredArgsConstructor
+public class LocationWarmupController {
+
+  private final LocationWarmupService locationWarmupService;
+
+  @Operation(summary = "위치 정보 워밍업 실행",
+          description = "매물 주변 셀과 설정된 영역의 위치 정보를 미리 수집하는 작업을 1회 비동기 실행. "
+                  + "저장된 체크포인트부터 이어서 진행하며, 이미 실행 중이면 무시됨 (관리자 전용)")
+  @PostMapping
+  @LoginRequired
+  public ResponseEntity<MessageResponse> runWarmup(HttpServletRequest servletRequest) {
+    validateAdmin(servletRequest);
+
+    locationWarmupService.runBatchAsync();
+
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(MessageResponse.of("위치 정보 워밍업을 시작했습니다"));
+  }
+
+  @Operation(summary = "위치 정보 워밍업 진행 상태 조회",
+          description = "작업별 체크포인트(처리 셀 수, 수집 셀 수, 완료 여부) 조회 (관리자 전용)")
+  @GetMapping
+  @LoginRequired
+  public ResponseEntity<LocationWarmupStatusResponse> getWarmupStatus(HttpServletRequest servletRequest) {
+    validateAdmin(servletRequest);
+
+    LocationWarmupStatusResponse response = LocationWarmupStatusResponse.of(
+            locationWarmupService.isRunning(),
+            locationWarmupService.getCheckpoints()
+    );
+
+    return ResponseEntity.ok(response);
+  }
+
+  private void validateAdmin(HttpServletRequest servletRequest) {
+    UserSession userSession = (UserSession) servletRequest.getAttribute("USER_SESSION");
+    if (!userSession.isAdmin()) {
+      throw new CustomException(ErrorCode.ACCESS_DENIED);
+    }
+  }
+}
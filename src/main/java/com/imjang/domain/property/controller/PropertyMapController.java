@@ -4,6 +4,8 @@ import com.imjang.domain.auth.dto.UserSession;
 import com.imjang.domain.property.dto.request.MapBoundsRequest;
 import com.imjang.domain.property.dto.response.MapMarkersResponse;
 import com.imjang.domain.property.dto.response.PropertySummaryCardResponse;
+import com.imjang.domain.property.map.MarkerTile;
+import com.imjang.domain.property.map.TileCoordinate;
 import com.imjang.domain.property.service.PropertyMapService;
 import com.imjang.global.annotation.LoginRequired;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,13 +13,18 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Property Map", description = "매물 지도 관련 API")
 @RestController
@@ -25,20 +32,77 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PropertyMapController {
 
+  private static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
   private final PropertyMapService propertyMapService;
 
   @Operation(summary = "지도 범위 내 마커 매물 조회",
-          description = "현재 보이는 지도 영역(viewport) 내의 매물 위치 정보를 조회")
+          description = "현재 보이는 지도 영역(viewport) 내의 매물 위치 정보를 조회. "
+                  + "줌 레벨이 낮으면 상위 H3 셀 단위 클러스터(개수, 중심, 평균 평점, 대표 썸네일)로 반환. "
+                  + "이전 마커 응답의 viewport와 줌 레벨(prev*), version을 함께 보내면, 그 사이 데이터 변경이 없고 "
+                  + "이전 응답도 마커 응답(클러스터 아님)이었을 때 "
+                  + "새로 보이는 마커(markers)와 빠진 매물 ID(removedIds)만 반환(delta=true). "
+                  + "전체 응답에는 ETag가 포함되며, If-None-Match가 일치하면 304 Not Modified 반환")
   @GetMapping("/map/markers")
   @LoginRequired
   public ResponseEntity<MapMarkersResponse> getMapMarkers(
           @Valid @ModelAttribute MapBoundsRequest request,
-          HttpServletRequest servletRequest) {
+          HttpServletRequest servletRequest,
+          WebRequest webRequest) {
 
     UserSession userSession = (UserSession) servletRequest.getAttribute("USER_SESSION");
+
+    // 304 판단은 메모리의 데이터 버전만 사용 (DB 조회, 마커 직렬화 없음)
+    String eTag = propertyMapService.getMarkersETag(request, userSession.userId());
+    if (eTag != null && webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
     MapMarkersResponse response = propertyMapService.getMapMarkers(request, userSession.userId());
 
-    return ResponseEntity.ok(response);
+    return ResponseEntity.ok()
+            .eTag(response.delta() ? null : eTag)
+            .body(response);
+  }
+
+  @Operation(summary = "매물 마커 벡터 타일 조회",
+          description = "XYZ 타일 영역의 매물 마커를 Mapbox Vector Tile(레이어 \"properties\", 점 지오메트리)로 반환. "
+                  + "v에 마커 응답의 version을 붙여 요청하면 현재 버전과 일치할 때 immutable로 캐시 가능. "
+                  + "ETag가 포함되며, If-None-Match가 일치하면 304 Not Modified 반환")
+  @GetMapping("/map/tiles/{z}/{x}/{y}.mvt")
+  @LoginRequired
+  public ResponseEntity<byte[]> getMarkerTile(
+          @Parameter(description = "줌 레벨", required = true, example = "15")
+          @PathVariable int z,
+          @Parameter(description = "타일 X", required = true, example = "27946")
+          @PathVariable int x,
+          @Parameter(description = "타일 Y", required = true, example = "12697")
+          @PathVariable int y,
+          @Parameter(description = "매물 데이터 버전 (마커 응답의 version)", example = "lq2k8f-3")
+          @RequestParam(required = false) String v,
+          HttpServletRequest servletRequest,
+          WebRequest webRequest) {
+
+    UserSession userSession = (UserSession) servletRequest.getAttribute("USER_SESSION");
+    TileCoordinate tile = TileCoordinate.of(z, x, y);
+
+    String eTag = propertyMapService.getMarkerTileETag(tile, userSession.userId());
+    if (webRequest.checkNotModified(eTag)) {
+      return null;
+    }
+
+    MarkerTile markerTile = propertyMapService.getMarkerTile(tile, userSession.userId());
+
+    // 버전이 URL에 포함된 요청은 같은 URL의 내용이 바뀌지 않으므로 재검증 없이 캐시
+    CacheControl cacheControl = markerTile.version().equals(v)
+            ? CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+            : CacheControl.noCache().cachePrivate();
+
+    return ResponseEntity.ok()
+            .contentType(MVT)
+            .cacheControl(cacheControl)
+            .eTag(eTag)
+            .body(markerTile.data());
   }
 
   @Operation(summary = "매물 간략 정보 조회",
@@ -0,0 +1,13 @@
+package com.imjang.domain.property.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "직접 업로드 완료 요청")
+public record CompletePresignedUploadRequest(
+        @Schema(description = "발급받은 객체 키", example = "images/temp/user1/2024/01/uuid.jpg")
+        @NotBlank(message = "객체 키는 필수입니다")
+        String key
+) {
+
+}
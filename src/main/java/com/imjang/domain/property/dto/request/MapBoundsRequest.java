@@ -31,11 +31,62 @@ public record MapBoundsRequest(
         @Max(value = 180, message = "경도는 180 이하여야 합니다")
         Double southWestLng,
 
-        @Schema(description = "현재 지도 줌 레벨", example = "15")
+        @Schema(description = "현재 지도 줌 레벨 (15 미만이면 클러스터로 집계)", example = "15")
         @NotNull(message = "줌 레벨은 필수")
         @Min(value = 1, message = "줌 레벨은 1 이상이어야 합니다")
         @Max(value = 21, message = "줌 레벨은 21 이하여야 합니다")
-        Integer zoomLevel
+        Integer zoomLevel,
+
+        @Schema(description = "이전 응답의 우상단 위도 (증분 조회용, 선택)", example = "37.5080")
+        @Min(value = -90, message = "위도는 -90 이상이어야 합니다")
+        @Max(value = 90, message = "위도는 90 이하여야 합니다")
+        Double prevNorthEastLat,
+
+        @Schema(description = "이전 응답의 우상단 경도 (증분 조회용, 선택)", example = "127.0480")
+        @Min(value = -180, message = "경도는 -180 이상이어야 합니다")
+        @Max(value = 180, message = "경도는 180 이하여야 합니다")
+        Double prevNorthEastLng,
+
+        @Schema(description = "이전 응답의 좌하단 위도 (증분 조회용, 선택)", example = "37.4880")
+        @Min(value = -90, message = "위도는 -90 이상이어야 합니다")
+        @Max(value = 90, message = "위도는 90 이하여야 합니다")
+        Double prevSouthWestLat,
+
+        @Schema(description = "이전 응답의 좌하단 경도 (증분 조회용, 선택)", example = "127.0280")
+        @Min(value = -180, message = "경도는 -180 이상이어야 합니다")
+        @Max(value = 180, message = "경도는 180 이하여야 합니다")
+        Double prevSouthWestLng,
+
+        @Schema(description = "이전 응답을 받은 줌 레벨 (증분 조회용, 선택). 클러스터 줌이었으면 전체 응답", example = "15")
+        @Min(value = 1, message = "줌 레벨은 1 이상이어야 합니다")
+        @Max(value = 21, message = "줌 레벨은 21 이하여야 합니다")
+        Integer prevZoomLevel,
+
+        @Schema(description = "이전 응답의 version (증분 조회용, 선택)", example = "lq2k8f-3")
+        String version
 ) {
 
+  public MapBoundsRequest(Double northEastLat, Double northEastLng,
+                          Double southWestLat, Double southWestLng,
+                          Integer zoomLevel) {
+    this(northEastLat, northEastLng, southWestLat, southWestLng, zoomLevel, null, null, null, null, null, null);
+  }
+
+  /**
+   * 이전 viewport, 줌 레벨, version이 모두 전달된 증분 조회 요청인지 여부
+   */
+  public boolean hasPrevious() {
+    return prevNorthEastLat != null && prevNorthEastLng != null
+            && prevSouthWestLat != null && prevSouthWestLng != null
+            && prevZoomLevel != null && version != null;
+  }
+
+  /**
+   * 이전 viewport와 현재 viewport가 겹치는지 여부
+   */
+  public boolean overlapsPrevious() {
+    return hasPrevious()
+            && prevSouthWestLat <= northEastLat && southWestLat <= prevNorthEastLat
+            && prevSouthWestLng <= northEastLng && southWestLng <= prevNorthEastLng;
+  }
 }
@@ -0,0 +1,20 @@
+package com.imjang.domain.property.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "직접 업로드 URL 발급 요청")
+public record PresignedUploadRequest(
+        @Schema(description = "업로드할 이미지 Content-Type", example = "image/jpeg")
+        @NotBlank(message = "Content-Type은 필수입니다")
+        String contentType,
+
+        @Schema(description = "업로드할 파일 크기 (바이트)", example = "3145728")
+        @NotNull(message = "파일 크기는 필수입니다")
+        @Positive(message = "파일 크기는 0보다 커야 합니다")
+        Long contentLength
+) {
+
+}
@@ -1,6 +1,7 @@
 package com.imjang.domain.property.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.imjang.domain.property.entity.ThumbnailStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "이미지 업로드 응답 DTO")
@@ -13,11 +14,11 @@ public record ImageUploadResponse(
                 + ".com/temp/2024/01/15/uuid-thumb.jpg")
         String thumbnailUrl,
 
-        @Schema(description = "업로드 상태", example = "COMPLETED")
+        @Schema(description = "썸네일 생성 상태 (PENDING이면 썸네일 URL이 아직 준비되지 않음)", example = "PENDING")
         String status
 ) {
 
-  public static ImageUploadResponse of(Long imageId, String thumbnailUrl) {
-    return new ImageUploadResponse(imageId, thumbnailUrl, "COMPLETED");
+  public static ImageUploadResponse of(Long imageId, String thumbnailUrl, ThumbnailStatus thumbnailStatus) {
+    return new ImageUploadResponse(imageId, thumbnailUrl, thumbnailStatus.name());
   }
 }
@@ -0,0 +1,54 @@
+package com.imjang.domain.property.dto.response;
+
+import com.imjang.domain.property.location.entity.LocationWarmupCheckpoint;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "위치 정보 워밍업 진행 상태")
+public record LocationWarmupStatusResponse(
+        @Schema(description = "실행 중 여부", example = "false")
+        boolean running,
+
+        @Schema(description = "작업별 진행 위치")
+        List<JobStatus> jobs
+) {
+
+  public static LocationWarmupStatusResponse of(boolean running, List<LocationWarmupCheckpoint> checkpoints) {
+    return new LocationWarmupStatusResponse(
+            running,
+            checkpoints.stream()
+                    .map(JobStatus::from)
+                    .toList()
+    );
+  }
+
+  @Schema(description = "워밍업 작업 진행 상태")
+  public record JobStatus(
+          @Schema(description = "작업 키", example = "region:seoul")
+          String jobKey,
+
+          @Schema(description = "처리한 셀 수", example = "1520")
+          Long processedCount,
+
+          @Schema(description = "Kakao로 수집한 셀 수", example = "310")
+          Long fetchedCount,
+
+          @Schema(description = "완료 일시 (진행 중이면 null)", example = "2024-12-15T14:30:00")
+          LocalDateTime completedAt,
+
+          @Schema(description = "마지막 진행 일시", example = "2024-12-15T14:30:00")
+          LocalDateTime updatedAt
+  ) {
+
+    public static JobStatus from(LocationWarmupCheckpoint checkpoint) {
+      return new JobStatus(
+              checkpoint.getJobKey(),
+              checkpoint.getProcessedCount(),
+              checkpoint.getFetchedCount(),
+              checkpoint.getCompletedAt(),
+              checkpoint.getUpdatedAt()
+      );
+    }
+  }
+}
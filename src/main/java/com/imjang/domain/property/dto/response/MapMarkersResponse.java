@@ -5,8 +5,35 @@ import java.util.List;
 
 @Schema(description = "지도 마커 목록 응답")
 public record MapMarkersResponse(
-        @Schema(description = "마커 정보 목록")
-        List<PropertyMarkerResponse> markers
+        @Schema(description = "마커 정보 목록 (delta=true면 이전 viewport 대비 새로 보이는 마커만)")
+        List<PropertyMarkerResponse> markers,
+
+        @Schema(description = "클러스터 목록 (줌 아웃 시 상위 H3 셀 단위 집계)")
+        List<MarkerClusterResponse> clusters,
+
+        @Schema(description = "클러스터 응답 여부", example = "false")
+        boolean clustered,
+
+        @Schema(description = "증분 응답 여부. false면 클라이언트는 보유 마커를 모두 교체", example = "false")
+        boolean delta,
+
+        @Schema(description = "이전 viewport에 있었으나 현재 viewport에서 빠진 매물 ID (delta=true일 때만)")
+        List<Long> removedIds,
+
+        @Schema(description = "사용자 매물 데이터 버전. 다음 증분 조회 요청에 그대로 전달", example = "lq2k8f-3")
+        String version
 ) {
 
+  public static MapMarkersResponse ofMarkers(List<PropertyMarkerResponse> markers, String version) {
+    return new MapMarkersResponse(markers, List.of(), false, false, List.of(), version);
+  }
+
+  public static MapMarkersResponse ofDelta(List<PropertyMarkerResponse> addedMarkers, List<Long> removedIds,
+                                           String version) {
+    return new MapMarkersResponse(addedMarkers, List.of(), false, true, removedIds, version);
+  }
+
+  public static MapMarkersResponse ofClusters(List<MarkerClusterResponse> clusters, String version) {
+    return new MapMarkersResponse(List.of(), clusters, true, false, List.of(), version);
+  }
 }
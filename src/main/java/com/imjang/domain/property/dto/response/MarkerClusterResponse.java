@@ -0,0 +1,29 @@
+package com.imjang.domain.property.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "클러스터 마커 정보 (상위 H3 셀 단위 집계)")
+public record MarkerClusterResponse(
+        @Schema(description = "클러스터 H3 셀 인덱스", example = "861f0d927ffffff")
+        String h3Index,
+
+        @Schema(description = "클러스터 내 매물 수", example = "12")
+        Integer count,
+
+        @Schema(description = "매물 좌표 평균 위도", example = "37.5012")
+        Double latitude,
+
+        @Schema(description = "매물 좌표 평균 경도", example = "127.0396")
+        Double longitude,
+
+        @Schema(description = "평균 평점", example = "3.5")
+        Double averageRating,
+
+        @Schema(description = "대표 매물 ID (평점 최고, 동점 시 최신)", example = "1")
+        Long representativePropertyId,
+
+        @Schema(description = "대표 매물 썸네일 URL")
+        String thumbnailUrl
+) {
+
+}
@@ -0,0 +1,22 @@
+package com.imjang.domain.property.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Schema(description = "직접 업로드 URL 발급 응답 DTO")
+public record PresignedUploadResponse(
+        @Schema(description = "업로드 완료 요청에 보낼 객체 키", example = "images/temp/user1/2024/01/uuid.jpg")
+        String key,
+
+        @Schema(description = "PUT 요청을 보낼 서명된 URL")
+        String uploadUrl,
+
+        @Schema(description = "업로드 요청에 그대로 포함해야 하는 헤더", example = "{\"Content-Type\": \"image/jpeg\"}")
+        Map<String, String> headers,
+
+        @Schema(description = "URL 만료 시각", example = "2024-01-15T10:10:00")
+        LocalDateTime expiresAt
+) {
+
+}
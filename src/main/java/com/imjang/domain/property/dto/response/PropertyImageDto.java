@@ -1,7 +1,19 @@
 package com.imjang.domain.property.dto.response;
 
+import java.util.List;
+
 public record PropertyImageDto(
         Long imageId,
         String thumbnailUrl,
-        String originalUrl
-) {}
\ No newline at end of file
+        String originalUrl,
+        List<Variant> variants      // 크기별 변환본 (작은 순). 생성 전이면 빈 목록
+) {
+
+  public record Variant(
+          int width,                // 설정 크기 (긴 변 기준 픽셀)
+          int pixelWidth,
+          int pixelHeight,
+          String format,
+          String url
+  ) {}
+}
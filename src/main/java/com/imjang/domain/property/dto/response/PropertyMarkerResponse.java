@@ -1,7 +1,7 @@
 package com.imjang.domain.property.dto.response;
 
 import com.imjang.domain.property.entity.MarkerColor;
-import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.map.PropertyMarker;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "마커 매물 정보")
@@ -40,19 +40,19 @@ public record PropertyMarkerResponse(
         String thumbnailUrl
 ) {
 
-  public static PropertyMarkerResponse from(Property property, String thumbnailUrl) {
+  public static PropertyMarkerResponse from(PropertyMarker marker) {
     return new PropertyMarkerResponse(
-            property.getId(),
-            property.getLatitude(),
-            property.getLongitude(),
-            property.getAddress(),
-            property.getPriceType().name(),
-            property.getDeposit(),
-            property.getMonthlyRent(),
-            property.getPrice(),
-            property.getRating(),
-            getMarkerColor(property.getRating()),
-            thumbnailUrl
+            marker.id(),
+            marker.latitude(),
+            marker.longitude(),
+            marker.address(),
+            marker.priceType().name(),
+            marker.deposit(),
+            marker.monthlyRent(),
+            marker.price(),
+            marker.rating(),
+            getMarkerColor(marker.rating()),
+            marker.thumbnailUrl()
     );
   }
 
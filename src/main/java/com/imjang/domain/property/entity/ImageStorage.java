@@ -0,0 +1,13 @@
+package com.imjang.domain.property.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageStorage {
+  LOCAL("로컬 디스크 (경로 저장)"),
+  OBJECT_STORAGE("객체 스토리지 (객체 키 저장)");
+
+  private final String description;
+}
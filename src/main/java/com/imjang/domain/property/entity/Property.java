@@ -28,7 +28,10 @@ import lombok.NoArgsConstructor;
         indexes = {
                 @Index(name = "idx_user_created", columnList = "user_id, created_at DESC"),
                 @Index(name = "idx_location", columnList = "latitude, longitude"),
-                @Index(name = "idx_property_h3", columnList = "h3_index")
+                @Index(name = "idx_property_user_location", columnList = "user_id, latitude, longitude"),
+                @Index(name = "idx_property_h3_cell", columnList = "h3_cell"),
+                @Index(name = "idx_property_h3_res5_cell", columnList = "user_id, h3_res5_cell"),
+                @Index(name = "idx_property_h3_res7_cell", columnList = "user_id, h3_res7_cell")
         }
 )
 @Getter
@@ -51,7 +54,18 @@ public class Property extends BaseEntity {
   @Column(nullable = false)
   private Double longitude;
 
-  // H3 인덱스
+  // H3 셀 (res 9, 64비트 정수)
+  @Column(name = "h3_cell")
+  private Long h3Cell;
+
+  // H3 부모 셀 (압축된 viewport 셀 매칭용)
+  @Column(name = "h3_res5_cell")
+  private Long h3Res5Cell;
+
+  @Column(name = "h3_res7_cell")
+  private Long h3Res7Cell;
+
+  // 레거시 문자열 H3 인덱스 (롤백 호환용으로만 기록, h3_cell 백필 원본)
   @Column(name = "h3_index", length = 15)
   private String h3Index;
 
@@ -117,6 +131,15 @@ public class Property extends BaseEntity {
   @Column(name = "deleted_at")
   private LocalDateTime deletedAt;
 
+  /**
+   * H3 셀 설정 (레거시 문자열 컬럼 백필용)
+   */
+  public void assignH3Cells(Long h3Cell, Long h3Res5Cell, Long h3Res7Cell) {
+    this.h3Cell = h3Cell;
+    this.h3Res5Cell = h3Res5Cell;
+    this.h3Res7Cell = h3Res7Cell;
+  }
+
   public void softDelete() {
     this.deletedAt = LocalDateTime.now();
   }
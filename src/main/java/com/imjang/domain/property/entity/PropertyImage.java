@@ -21,6 +21,7 @@ import lombok.NoArgsConstructor;
         name = "property_images",
         indexes = {
                 @Index(name = "idx_property_id", columnList = "property_id"),
+                @Index(name = "idx_property_display_order", columnList = "property_id, display_order"),
                 @Index(name = "idx_status", columnList = "status")
         }
 )
@@ -0,0 +1,49 @@
+package com.imjang.domain.property.entity;
+
+import com.imjang.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매물 이미지의 크기별 변환본 (반응형 이미지용)
+ */
+@Entity
+@Table(
+        name = "property_image_variants",
+        indexes = {
+                @Index(name = "idx_variant_image_width", columnList = "property_image_id, width", unique = true)
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class PropertyImageVariant extends BaseEntity {
+
+  @Column(name = "property_image_id", nullable = false)
+  private Long propertyImageId;
+
+  // 설정된 변환 크기 (긴 변 기준 픽셀)
+  @Column(name = "width", nullable = false)
+  private Integer width;
+
+  // 실제 변환 결과 크기
+  @Column(name = "pixel_width", nullable = false)
+  private Integer pixelWidth;
+
+  @Column(name = "pixel_height", nullable = false)
+  private Integer pixelHeight;
+
+  @Column(name = "format", nullable = false, length = 10)
+  private String format;
+
+  @Column(name = "url", nullable = false, length = 500)
+  private String url;
+}
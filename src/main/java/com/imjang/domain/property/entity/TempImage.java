@@ -4,6 +4,8 @@ import com.imjang.domain.auth.entity.User;
 import com.imjang.global.common.entity.BaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -20,7 +22,8 @@ import lombok.NoArgsConstructor;
 @Table(
         name = "temp_images",
         indexes = {
-                @Index(name = "idx_user_expires", columnList = "user_id, expires_at")
+                @Index(name = "idx_user_expires", columnList = "user_id, expires_at"),
+                @Index(name = "idx_thumbnail_status_created", columnList = "thumbnail_status, created_at")
         }
 )
 @Getter
@@ -43,4 +46,24 @@ public class TempImage extends BaseEntity {
   @Builder.Default
   private LocalDateTime expiresAt = LocalDateTime.now().plusHours(24);
 
+  // 썸네일 생성 상태. 비동기 생성 도입 전 행은 null(업로드 시 생성 완료)
+  @Enumerated(EnumType.STRING)
+  @Column(name = "thumbnail_status", length = 20)
+  @Builder.Default
+  private ThumbnailStatus thumbnailStatus = ThumbnailStatus.PENDING;
+
+  // 원본/썸네일 저장 위치. originalUrl, thumbnailUrl은 LOCAL이면 파일 경로, OBJECT_STORAGE면 객체 키
+  // 스트리밍 업로드 도입 전 행은 null(LOCAL)
+  @Enumerated(EnumType.STRING)
+  @Column(name = "storage", length = 20)
+  @Builder.Default
+  private ImageStorage storage = ImageStorage.LOCAL;
+
+  public boolean isStoredInObjectStorage() {
+    return storage == ImageStorage.OBJECT_STORAGE;
+  }
+
+  public boolean isThumbnailReady() {
+    return thumbnailStatus == null || thumbnailStatus == ThumbnailStatus.COMPLETED;
+  }
 }
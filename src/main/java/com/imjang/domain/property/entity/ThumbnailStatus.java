@@ -0,0 +1,14 @@
+package com.imjang.domain.property.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailStatus {
+  PENDING("생성 대기"),
+  COMPLETED("생성 완료"),
+  FAILED("생성 실패");
+
+  private final String description;
+}
@@ -1,10 +1,16 @@
 package com.imjang.domain.property.event;
 
 import com.imjang.domain.property.entity.ImageStatus;
+import com.imjang.domain.property.entity.ImageStorage;
 import com.imjang.domain.property.entity.PropertyImage;
 import com.imjang.domain.property.entity.TempImage;
+import com.imjang.domain.property.entity.ThumbnailStatus;
 import com.imjang.domain.property.repository.PropertyImageRepository;
 import com.imjang.domain.property.repository.TempImageRepository;
+import com.imjang.domain.property.service.ImageDecoder;
+import com.imjang.domain.property.service.ImageVariantService;
+import com.imjang.domain.property.service.ThumbnailService;
+import com.imjang.global.common.event.DomainEventPublisher;
 import com.imjang.global.exception.CustomException;
 import com.imjang.global.exception.ErrorCode;
 import com.imjang.infrastructure.s3.S3Service;
@@ -13,6 +19,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +35,9 @@ public class ImageUploadEventListener {
   private final PropertyImageRepository propertyImageRepository;
   private final TempImageRepository tempImageRepository;
   private final S3Service s3Service;
+  private final ThumbnailService thumbnailService;
+  private final ImageVariantService imageVariantService;
+  private final DomainEventPublisher domainEventPublisher;
 
   /**
    * 매물 생성 시 이미지 S3 업로드.
@@ -47,10 +57,14 @@ public class ImageUploadEventListener {
     }
 
     propertyImageRepository.saveAll(images);
+
+    // 썸네일 URL이 S3 경로로 바뀌었으므로 마커 인덱스 갱신
+    domainEventPublisher.publishAfterCommit(new PropertyUpdatedEvent(event.propertyId()));
   }
 
   /**
    * 개별 이미지 S3 업로드. 실패 시 FAILED 상태로 마킹하고 다음 이미지 처리를 계속함.
+   * 썸네일 디코딩 한도 초과로 보류되면 PENDING으로 남김.
    */
   private void uploadImageToS3(PropertyImage image) {
     try {
@@ -59,10 +73,17 @@ public class ImageUploadEventListener {
       TempImage tempImage = tempImageRepository.findById(image.getTempImageId())
               .orElseThrow(() -> new CustomException(ErrorCode.ENTITY_NOT_FOUND));
 
+      if (tempImage.isStoredInObjectStorage()) {
+        copyObjectStorageImage(image, tempImage);
+        requestVariants(image, tempImage);
+        return;
+      }
+
       File originalFile = new File(tempImage.getOriginalUrl());
       File thumbnailFile = new File(tempImage.getThumbnailUrl());
 
-      if (!originalFile.exists() || !thumbnailFile.exists()) {
+      // 업로드 직후 매물을 등록해 썸네일 생성이 끝나지 않았으면 여기서 생성
+      if (!originalFile.exists() || !thumbnailService.ensureThumbnail(tempImage)) {
         throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
       }
 
@@ -79,13 +100,56 @@ public class ImageUploadEventListener {
       );
 
       image.updateUrls(s3ImageUrl, s3ThumbnailUrl);
+      requestVariants(image, tempImage);
 
       log.info("✅이미지 S3 업로드 완료: imageId={}, propertyId={}",
               image.getId(), image.getProperty().getId());
 
+    } catch (ImageDecoder.DecodeCapacityExceededException e) {
+      // 디코딩 한도 대기 초과는 일시적이므로 실패로 남기지 않고 PENDING으로 되돌려 재시도 스케줄러가 다시 처리
+      log.warn("이미지 S3 업로드 보류 (디코딩 한도): imageId={}", image.getId());
+      image.updateStatus(ImageStatus.PENDING);
     } catch (Exception e) {
       log.error("❌이미지 S3 업로드 실패: imageId={}", image.getId(), e);
       image.updateStatus(ImageStatus.FAILED);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * 스트리밍/직접 업로드 이미지는 이미 객체 스토리지에 있으므로 매물 위치로 서버 측 복사만 수행
+   * 썸네일을 만들지 못한 이미지는 원본을 썸네일로 사용
+   */
+  private void copyObjectStorageImage(PropertyImage image, TempImage tempImage) {
+    Long propertyId = image.getProperty().getId();
+    String originalKey = tempImage.getOriginalUrl();
+    // 직접 업로드 직후 매물을 등록해 썸네일 생성이 끝나지 않았으면 여기서 생성
+    boolean thumbnailReady = tempImage.isThumbnailReady()
+            || (tempImage.getThumbnailStatus() == ThumbnailStatus.PENDING
+            && thumbnailService.generateFromObject(tempImage.getId(), originalKey, tempImage.getThumbnailUrl()));
+    String thumbnailKey = thumbnailReady ? tempImage.getThumbnailUrl() : originalKey;
+
+    String s3ImageUrl = s3Service.copyToImage(originalKey, propertyId, fileNameOf(originalKey));
+    String s3ThumbnailUrl = s3Service.copyToThumbnail(thumbnailKey, propertyId, fileNameOf(thumbnailKey));
+
+    image.updateUrls(s3ImageUrl, s3ThumbnailUrl);
+
+    log.info("✅이미지 객체 복사 완료: imageId={}, propertyId={}", image.getId(), propertyId);
+  }
+
+  /**
+   * 크기별 변환본 생성 요청 (임시 원본을 읽어 thumbnailExecutor에서 생성, 실패해도 업로드 결과에는 영향 없음)
+   */
+  private void requestVariants(PropertyImage image, TempImage tempImage) {
+    try {
+      imageVariantService.generateAsync(image.getId(), image.getProperty().getId(),
+              tempImage.isStoredInObjectStorage() ? ImageStorage.OBJECT_STORAGE : ImageStorage.LOCAL,
+              tempImage.getOriginalUrl());
+    } catch (TaskRejectedException e) {
+      log.warn("이미지 변환본 생성 대기열 가득 참, 재시도 스케줄러에서 생성: imageId={}", image.getId());
+    }
+  }
+
+  private String fileNameOf(String key) {
+    return key.substring(key.lastIndexOf('/') + 1);
+  }
+}
@@ -0,0 +1,8 @@
+package com.imjang.domain.property.event;
+
+public record PropertyDeletedEvent(
+        Long propertyId,
+        Long userId
+) {
+
+}
@@ -4,9 +4,7 @@ import com.imjang.domain.property.location.service.LocationInfoService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 매물 주변시설 수집
@@ -20,20 +18,16 @@ public class PropertyEventListener {
 
   /**
    * 위치 정보 사전 수집
+   * 구독만 하고 바로 반환 (DB 작업은 locationScheduler, Kakao 호출은 WebClient에서 실행)
    */
-  @Async("locationTaskExecutor")
   @EventListener
-  @Transactional
   public void handleLocationPrefetch(LocationPrefetchEvent event) {
     log.info("📍 위치 정보 사전 수집 시작: 좌표=({}, {})", event.latitude(), event.longitude());
 
     try {
-      // 위치 정보 수집
-      locationInfoService.fetchAndCacheLocationInfo(
-              event.latitude(),
-              event.longitude()
-      );
-      log.info("✅ 위치 정보 사전 수집 완료: 좌표=({}, {})", event.latitude(), event.longitude());
+      locationInfoService.fetchAndCacheLocationInfo(event.latitude(), event.longitude())
+              .subscribe(outcome -> log.info("✅ 위치 정보 사전 수집 완료: 좌표=({}, {}), 결과={}",
+                      event.latitude(), event.longitude(), outcome));
     } catch (Exception e) {
       log.error("❌ 위치 정보 사전 수집 실패: 좌표=({}, {})", event.latitude(), event.longitude(), e);
     }
@@ -0,0 +1,61 @@
+package com.imjang.domain.property.event;
+
+import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.map.PropertyMarkerIndex;
+import com.imjang.domain.property.map.PropertyMarkerVersions;
+import com.imjang.domain.property.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 매물 변경을 인메모리 마커 인덱스와 마커 데이터 버전에 반영
+ * 커밋 직후 같은 스레드에서 동기 처리해서, 매물 저장 직후의 지도 조회에도 변경이 보이도록 함
+ * 반영 실패가 이미 커밋된 요청을 실패시키지 않도록 예외는 로그만 남기고, 가능하면 해당 사용자 인덱스를 폐기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PropertyMarkerIndexEventListener {
+
+  private final PropertyRepository propertyRepository;
+  private final PropertyMarkerIndex propertyMarkerIndex;
+  private final PropertyMarkerVersions propertyMarkerVersions;
+
+  @EventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void handlePropertyCreated(PropertyCreatedEvent event) {
+    refresh(event.propertyId());
+  }
+
+  @EventListener
+  @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+  public void handlePropertyUpdated(PropertyUpdatedEvent event) {
+    refresh(event.propertyId());
+  }
+
+  @EventListener
+  public void handlePropertyDeleted(PropertyDeletedEvent event) {
+    propertyMarkerVersions.increment(event.userId());
+    propertyMarkerIndex.remove(event.userId(), event.propertyId());
+  }
+
+  private void refresh(Long propertyId) {
+    Property property = null;
+    try {
+      property = propertyRepository.findById(propertyId).orElse(null);
+      if (property != null) {
+        propertyMarkerVersions.increment(property.getUser().getId());
+        propertyMarkerIndex.refresh(property);
+      }
+    } catch (Exception e) {
+      log.error("마커 인덱스 반영 실패: propertyId={}", propertyId, e);
+      if (property != null) {
+        propertyMarkerIndex.invalidate(property.getUser().getId());
+      }
+    }
+  }
+}
@@ -0,0 +1,7 @@
+package com.imjang.domain.property.event;
+
+public record PropertyUpdatedEvent(
+        Long propertyId
+) {
+
+}
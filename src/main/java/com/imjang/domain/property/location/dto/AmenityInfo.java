@@ -1,13 +1,21 @@
 package com.imjang.domain.property.location.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
 
 public record AmenityInfo(
         @JsonProperty("category") String category,                      // 카테고리명 (편의점, 병원 등)
         @JsonProperty("categoryCode") String categoryCode,              // 카테고리 코드
         @JsonProperty("count") Integer count,                           // 검색 반경 내 개수
         @JsonProperty("nearestName") String nearestName,                // 가장 가까운 시설명
-        @JsonProperty("nearestDistance") Integer nearestDistance        // 가장 가까운 시설까지 거리 (미터)
+        @JsonProperty("nearestDistance") Integer nearestDistance,       // 가장 가까운 시설까지 거리 (미터)
+        @JsonProperty("nearestLatitude") Double nearestLatitude,        // 이웃 셀 재사용 시 거리 재계산용
+        @JsonProperty("nearestLongitude") Double nearestLongitude,
+        @JsonProperty("fetchedAt") LocalDateTime fetchedAt              // 카테고리별 유효기간 판단용 수집 시각
 ) {
 
+  public AmenityInfo withFetchedAt(LocalDateTime fetchedAt) {
+    return new AmenityInfo(category, categoryCode, count, nearestName, nearestDistance,
+            nearestLatitude, nearestLongitude, fetchedAt);
+  }
 }
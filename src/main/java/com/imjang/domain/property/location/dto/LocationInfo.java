@@ -3,12 +3,12 @@ package com.imjang.domain.property.location.dto;
 import java.util.List;
 
 public record LocationInfo(
-        String h3Index,
+        Long h3Cell,
         TransitInfo transitInfo,
         List<AmenityInfo> amenityInfos
 ) {
 
-  public static LocationInfo of(String h3Index, TransitInfo transitInfo, List<AmenityInfo> amenityInfos) {
-    return new LocationInfo(h3Index, transitInfo, amenityInfos);
+  public static LocationInfo of(Long h3Cell, TransitInfo transitInfo, List<AmenityInfo> amenityInfos) {
+    return new LocationInfo(h3Cell, transitInfo, amenityInfos);
   }
 }
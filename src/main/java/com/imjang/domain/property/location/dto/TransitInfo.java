@@ -1,15 +1,24 @@
 package com.imjang.domain.property.location.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.LocalDateTime;
 
 public record TransitInfo(
         @JsonProperty("nearestSubwayStation") String nearestSubwayStation,
         @JsonProperty("subwayDistance") Integer subwayDistance,        // 미터 단위
         @JsonProperty("subwayWalkTime") Integer subwayWalkTime,        // 분 단위
-        @JsonProperty("busStopCount") Integer busStopCount             // 500m 내 버스정류장 수
+        @JsonProperty("busStopCount") Integer busStopCount,            // 500m 내 버스정류장 수
+        @JsonProperty("subwayLatitude") Double subwayLatitude,          // 이웃 셀 재사용 시 거리 재계산용
+        @JsonProperty("subwayLongitude") Double subwayLongitude,
+        @JsonProperty("fetchedAt") LocalDateTime fetchedAt             // 카테고리별 유효기간 판단용 수집 시각
 ) {
 
   public static TransitInfo empty() {
-    return new TransitInfo(null, null, null, 0);
+    return new TransitInfo(null, null, null, 0, null, null, null);
+  }
+
+  public TransitInfo withFetchedAt(LocalDateTime fetchedAt) {
+    return new TransitInfo(nearestSubwayStation, subwayDistance, subwayWalkTime, busStopCount,
+            subwayLatitude, subwayLongitude, fetchedAt);
   }
 }
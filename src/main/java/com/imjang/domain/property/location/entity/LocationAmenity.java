@@ -0,0 +1,60 @@
+package com.imjang.domain.property.location.entity;
+
+import com.imjang.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 셀별 편의시설 카테고리 요약 (location_cache 한 행당 카테고리 수만큼)
+ */
+@Entity
+@Table(
+        name = "location_amenity",
+        indexes = {
+                @Index(name = "idx_location_amenity_cell_category", columnList = "h3_cell, category_code", unique = true),
+                @Index(name = "idx_location_amenity_category_distance", columnList = "category_code, nearest_distance")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class LocationAmenity extends BaseEntity {
+
+  @Column(name = "h3_cell", nullable = false)
+  private Long h3Cell;
+
+  @Column(name = "category_code", nullable = false, length = 10)
+  private String categoryCode;
+
+  @Column(name = "category_name", nullable = false, length = 50)
+  private String categoryName;
+
+  // 검색 반경 내 개수
+  @Column(name = "amenity_count", nullable = false)
+  private Integer count;
+
+  @Column(name = "nearest_name", length = 100)
+  private String nearestName;
+
+  // 가장 가까운 시설까지 거리 (미터)
+  @Column(name = "nearest_distance")
+  private Integer nearestDistance;
+
+  @Column(name = "nearest_lat")
+  private Double nearestLat;
+
+  @Column(name = "nearest_lng")
+  private Double nearestLng;
+
+  @Column(name = "fetched_at", nullable = false)
+  private LocalDateTime fetchedAt;
+}
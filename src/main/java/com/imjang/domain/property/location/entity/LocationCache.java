@@ -19,7 +19,9 @@ import org.hibernate.type.SqlTypes;
         name = "location_cache",
         indexes = {
                 @Index(name = "idx_h3_index", columnList = "h3_index", unique = true),
-                @Index(name = "idx_last_fetched", columnList = "last_fetched_at")
+                @Index(name = "idx_location_cache_h3_cell", columnList = "h3_cell", unique = true),
+                @Index(name = "idx_last_fetched", columnList = "last_fetched_at"),
+                @Index(name = "idx_location_cache_subway_distance", columnList = "subway_distance")
         }
 )
 @Getter
@@ -28,6 +30,11 @@ import org.hibernate.type.SqlTypes;
 @Builder
 public class LocationCache extends BaseEntity {
 
+  // H3 셀 (res 9, 64비트 정수). 기존 행은 시작 시 h3_index에서 백필
+  @Column(name = "h3_cell")
+  private Long h3Cell;
+
+  // 레거시 문자열 H3 인덱스 (롤백 호환용으로만 기록)
   @Column(name = "h3_index", nullable = false, unique = true, length = 15)
   private String h3Index;
 
@@ -37,15 +44,36 @@ public class LocationCache extends BaseEntity {
   @Column(name = "center_lng", nullable = false)
   private Double centerLng;
 
+  // 레거시 JSON 데이터. 시작 시 typed 컬럼과 location_amenity로 옮긴 뒤 비움 (LocationCacheColumnBackfillRunner)
   @JdbcTypeCode(SqlTypes.JSON)
   @Column(name = "transit_data", columnDefinition = "jsonb")
-  @Builder.Default
-  private String transitData = "{}";
+  private String transitData;
 
   @JdbcTypeCode(SqlTypes.JSON)
   @Column(name = "amenities_data", columnDefinition = "jsonb")
-  @Builder.Default
-  private String amenitiesData = "{}";
+  private String amenitiesData;
+
+  // 가장 가까운 지하철역. subway_fetched_at이 null이면 지하철 카테고리 미수집
+  @Column(name = "subway_station_name", length = 100)
+  private String subwayStationName;
+
+  @Column(name = "subway_distance")
+  private Integer subwayDistance;
+
+  @Column(name = "subway_walk_time")
+  private Integer subwayWalkTime;
+
+  @Column(name = "subway_lat")
+  private Double subwayLat;
+
+  @Column(name = "subway_lng")
+  private Double subwayLng;
+
+  @Column(name = "bus_stop_count")
+  private Integer busStopCount;
+
+  @Column(name = "subway_fetched_at")
+  private LocalDateTime subwayFetchedAt;
 
   @Column(name = "search_radius", nullable = false)
   @Builder.Default
@@ -59,13 +87,45 @@ public class LocationCache extends BaseEntity {
   @Builder.Default
   private Integer apiCallCount = 0;
 
+  // 수집하지 못한 카테고리 코드 (쉼표 구분). null이면 모든 카테고리 수집 완료
+  @Column(name = "missing_categories", length = 100)
+  private String missingCategories;
+
   @Column(name = "last_fetched_at", nullable = false)
   private LocalDateTime lastFetchedAt;
 
-  public void updateData(String transitData, String amenitiesData) {
-    this.transitData = transitData;
-    this.amenitiesData = amenitiesData;
-    this.lastFetchedAt = LocalDateTime.now();
-    this.apiCallCount++;
+  public boolean isComplete() {
+    return missingCategories == null;
+  }
+
+  /**
+   * H3 셀 설정 (레거시 문자열 컬럼 백필용)
+   */
+  public void assignH3Cell(Long h3Cell) {
+    this.h3Cell = h3Cell;
+  }
+
+  /**
+   * 레거시 JSON의 지하철 정보를 컬럼으로 옮기고 JSON 비움 (백필용)
+   */
+  public void migrateLegacyData(String subwayStationName, Integer subwayDistance, Integer subwayWalkTime,
+                                Integer busStopCount, Double subwayLat, Double subwayLng,
+                                LocalDateTime subwayFetchedAt) {
+    this.subwayStationName = subwayStationName;
+    this.subwayDistance = subwayDistance;
+    this.subwayWalkTime = subwayWalkTime;
+    this.busStopCount = busStopCount;
+    this.subwayLat = subwayLat;
+    this.subwayLng = subwayLng;
+    this.subwayFetchedAt = subwayFetchedAt;
+    this.transitData = null;
+    this.amenitiesData = null;
+  }
+
+  /**
+   * 누락 카테고리 기록 (백필 중 데이터를 버린 경우 재수집 대상으로 전환)
+   */
+  public void markMissing(String missingCategories) {
+    this.missingCategories = missingCategories;
   }
 }
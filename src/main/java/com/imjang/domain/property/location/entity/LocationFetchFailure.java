@@ -0,0 +1,61 @@
+package com.imjang.domain.property.location.entity;
+
+import com.imjang.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위치 정보가 없는 셀의 수집 실패 기록
+ * 실패할 때마다 다음 시도 시각을 지수적으로 늦춰(최대 MAX_BACKOFF), 계속 실패하는 셀이 매 주기 Kakao 호출을 쓰지 않게 함
+ * 수집에 성공하면 삭제
+ */
+@Entity
+@Table(
+        name = "location_fetch_failure",
+        indexes = {
+                @Index(name = "idx_fetch_failure_h3_cell", columnList = "h3_cell", unique = true)
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LocationFetchFailure extends BaseEntity {
+
+  private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(10);
+  private static final Duration MAX_BACKOFF = Duration.ofHours(24);
+
+  @Column(name = "h3_cell", nullable = false, unique = true)
+  private Long h3Cell;
+
+  @Column(name = "attempts", nullable = false)
+  private Integer attempts;
+
+  @Column(name = "last_attempt_at", nullable = false)
+  private LocalDateTime lastAttemptAt;
+
+  @Column(name = "next_attempt_at", nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  public static LocationFetchFailure of(long h3Cell) {
+    LocationFetchFailure failure = new LocationFetchFailure();
+    failure.h3Cell = h3Cell;
+    failure.attempts = 0;
+    return failure;
+  }
+
+  /**
+   * 실패 1회 기록. 다음 시도는 10분, 20분, 40분 ... 뒤 (최대 24시간)
+   */
+  public void recordFailure(LocalDateTime now) {
+    this.attempts++;
+    this.lastAttemptAt = now;
+    Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 16));
+    this.nextAttemptAt = now.plus(backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff);
+  }
+}
@@ -0,0 +1,77 @@
+package com.imjang.domain.property.location.entity;
+
+import com.imjang.global.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 위치 정보 워밍업 작업별 진행 위치
+ * 작업 재시작 시 position부터 이어서 진행. signature(작업 설정)가 바뀌면 처음부터 다시 진행
+ */
+@Entity
+@Table(
+        name = "location_warmup_checkpoint",
+        indexes = {
+                @Index(name = "idx_warmup_job_key", columnList = "job_key", unique = true)
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LocationWarmupCheckpoint extends BaseEntity {
+
+  @Column(name = "job_key", nullable = false, unique = true, length = 100)
+  private String jobKey;
+
+  @Column(name = "signature", nullable = false, length = 200)
+  private String signature;
+
+  // 작업별 의미: 영역 작업은 다음 처리할 셀 순번, 매물 주변 작업은 마지막으로 처리한 셀
+  @Column(name = "checkpoint_position", nullable = false)
+  private Long position;
+
+  @Column(name = "processed_count", nullable = false)
+  private Long processedCount;
+
+  @Column(name = "fetched_count", nullable = false)
+  private Long fetchedCount;
+
+  @Column(name = "completed_at")
+  private LocalDateTime completedAt;
+
+  public static LocationWarmupCheckpoint start(String jobKey, String signature) {
+    LocationWarmupCheckpoint checkpoint = new LocationWarmupCheckpoint();
+    checkpoint.jobKey = jobKey;
+    checkpoint.restart(signature);
+    return checkpoint;
+  }
+
+  public void restart(String signature) {
+    this.signature = signature;
+    this.position = 0L;
+    this.processedCount = 0L;
+    this.fetchedCount = 0L;
+    this.completedAt = null;
+  }
+
+  public void advance(long position, boolean fetched) {
+    this.position = position;
+    this.processedCount++;
+    if (fetched) {
+      this.fetchedCount++;
+    }
+  }
+
+  public void complete() {
+    this.completedAt = LocalDateTime.now();
+  }
+
+  public boolean isCompleted() {
+    return completedAt != null;
+  }
+}
@@ -0,0 +1,50 @@
+package com.imjang.domain.property.location.repository;
+
+import com.imjang.domain.property.location.entity.LocationAmenity;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface LocationAmenityRepository extends JpaRepository<LocationAmenity, Long> {
+
+  List<LocationAmenity> findByH3Cell(Long h3Cell);
+
+  List<LocationAmenity> findByH3CellIn(Collection<Long> h3Cells);
+
+  boolean existsByH3Cell(Long h3Cell);
+
+  /**
+   * 카테고리 한 건 upsert (PostgreSQL ON CONFLICT, idx_location_amenity_cell_category)
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(value = "INSERT INTO location_amenity (h3_cell, category_code, category_name, amenity_count, "
+          + "nearest_name, nearest_distance, nearest_lat, nearest_lng, fetched_at, created_at, updated_at) "
+          + "VALUES (:h3Cell, :categoryCode, :categoryName, :count, "
+          + ":nearestName, :nearestDistance, :nearestLat, :nearestLng, :fetchedAt, :writtenAt, :writtenAt) "
+          + "ON CONFLICT (h3_cell, category_code) DO UPDATE SET "
+          + "category_name = EXCLUDED.category_name, "
+          + "amenity_count = EXCLUDED.amenity_count, "
+          + "nearest_name = EXCLUDED.nearest_name, "
+          + "nearest_distance = EXCLUDED.nearest_distance, "
+          + "nearest_lat = EXCLUDED.nearest_lat, "
+          + "nearest_lng = EXCLUDED.nearest_lng, "
+          + "fetched_at = EXCLUDED.fetched_at, "
+          + "updated_at = EXCLUDED.updated_at",
+          nativeQuery = true)
+  int upsert(@Param("h3Cell") Long h3Cell,
+             @Param("categoryCode") String categoryCode,
+             @Param("categoryName") String categoryName,
+             @Param("count") Integer count,
+             @Param("nearestName") String nearestName,
+             @Param("nearestDistance") Integer nearestDistance,
+             @Param("nearestLat") Double nearestLat,
+             @Param("nearestLng") Double nearestLng,
+             @Param("fetchedAt") LocalDateTime fetchedAt,
+             @Param("writtenAt") LocalDateTime writtenAt);
+}
@@ -2,21 +2,121 @@ package com.imjang.domain.property.location.repository;
 
 import com.imjang.domain.property.location.entity.LocationCache;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface LocationCacheRepository extends JpaRepository<LocationCache, Long> {
 
-  Optional<LocationCache> findByH3Index(String h3Index);
+  Optional<LocationCache> findByH3Cell(Long h3Cell);
+
+  boolean existsByH3Cell(Long h3Cell);
 
   @Query("SELECT lc "
           + "FROM LocationCache lc "
-          + "WHERE lc.h3Index = :h3Index "
+          + "WHERE lc.h3Cell = :h3Cell "
           + "AND lc.lastFetchedAt > :validDate")
-  Optional<LocationCache> findValidCacheByH3Index(
-          @Param("h3Index") String h3Index,
+  Optional<LocationCache> findValidCacheByH3Cell(
+          @Param("h3Cell") Long h3Cell,
           @Param("validDate") LocalDateTime validDate
   );
+
+  /**
+   * 백그라운드 갱신 대상 조회: 삭제되지 않은 매물이 참조하는 셀 중 유효기간이 지났거나,
+   * 누락 카테고리가 있고 마지막 시도가 partialRetryBefore 이전인 셀
+   * 참조 매물이 많은 셀 우선, 같으면 오래된 순
+   */
+  @Query("SELECT lc "
+          + "FROM LocationCache lc "
+          + "JOIN Property p ON p.h3Cell = lc.h3Cell "
+          + "WHERE (lc.lastFetchedAt <= :validDate "
+          + "OR (lc.missingCategories IS NOT NULL AND lc.updatedAt <= :partialRetryBefore)) "
+          + "AND p.deletedAt IS NULL "
+          + "GROUP BY lc "
+          + "ORDER BY COUNT(p) DESC, lc.lastFetchedAt ASC")
+  List<LocationCache> findStaleCachesOrderByActivePropertyCount(
+          @Param("validDate") LocalDateTime validDate,
+          @Param("partialRetryBefore") LocalDateTime partialRetryBefore,
+          Pageable pageable
+  );
+
+  /**
+   * 이웃 셀 재사용 후보 조회 (유효기간 내, Kakao에서 직접 수집했고 누락 카테고리가 없는 행만)
+   */
+  @Query("SELECT lc "
+          + "FROM LocationCache lc "
+          + "WHERE lc.h3Cell IN :h3Cells "
+          + "AND lc.lastFetchedAt > :validDate "
+          + "AND lc.source = :source "
+          + "AND lc.missingCategories IS NULL")
+  List<LocationCache> findValidCachesByH3CellIn(
+          @Param("h3Cells") Collection<Long> h3Cells,
+          @Param("validDate") LocalDateTime validDate,
+          @Param("source") String source
+  );
+
+  /**
+   * 위치 정보 upsert (PostgreSQL ON CONFLICT)
+   * 같은 셀 동시 저장 시 idx_h3_index 중복 예외 대신 나중 결과로 갱신. 기존 행의 중심 좌표는 유지
+   * source는 KAKAO(직접 수집) 또는 NEIGHBOR(이웃 셀 데이터 재사용), missingCategories는 수집하지 못한 카테고리
+   * 지하철 정보는 컬럼으로 저장하고, 남아 있는 레거시 JSON은 비움 (편의시설은 location_amenity)
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(value = "INSERT INTO location_cache (h3_cell, h3_index, center_lat, center_lng, "
+          + "subway_station_name, subway_distance, subway_walk_time, bus_stop_count, subway_lat, subway_lng, "
+          + "subway_fetched_at, search_radius, source, api_call_count, missing_categories, "
+          + "last_fetched_at, created_at, updated_at) "
+          + "VALUES (:h3Cell, :h3Index, :centerLat, :centerLng, "
+          + ":subwayStationName, :subwayDistance, :subwayWalkTime, :busStopCount, :subwayLat, :subwayLng, "
+          + ":subwayFetchedAt, :searchRadius, :source, :apiCallCount, "
+          + ":missingCategories, :fetchedAt, :writtenAt, :writtenAt) "
+          + "ON CONFLICT (h3_index) DO UPDATE SET "
+          + "h3_cell = EXCLUDED.h3_cell, "
+          + "subway_station_name = EXCLUDED.subway_station_name, "
+          + "subway_distance = EXCLUDED.subway_distance, "
+          + "subway_walk_time = EXCLUDED.subway_walk_time, "
+          + "bus_stop_count = EXCLUDED.bus_stop_count, "
+          + "subway_lat = EXCLUDED.subway_lat, "
+          + "subway_lng = EXCLUDED.subway_lng, "
+          + "subway_fetched_at = EXCLUDED.subway_fetched_at, "
+          + "transit_data = NULL, "
+          + "amenities_data = NULL, "
+          + "source = EXCLUDED.source, "
+          + "api_call_count = location_cache.api_call_count + EXCLUDED.api_call_count, "
+          + "missing_categories = EXCLUDED.missing_categories, "
+          + "last_fetched_at = EXCLUDED.last_fetched_at, "
+          + "updated_at = EXCLUDED.updated_at",
+          nativeQuery = true)
+  int upsert(@Param("h3Cell") Long h3Cell,
+             @Param("h3Index") String h3Index,
+             @Param("centerLat") Double centerLat,
+             @Param("centerLng") Double centerLng,
+             @Param("subwayStationName") String subwayStationName,
+             @Param("subwayDistance") Integer subwayDistance,
+             @Param("subwayWalkTime") Integer subwayWalkTime,
+             @Param("busStopCount") Integer busStopCount,
+             @Param("subwayLat") Double subwayLat,
+             @Param("subwayLng") Double subwayLng,
+             @Param("subwayFetchedAt") LocalDateTime subwayFetchedAt,
+             @Param("searchRadius") Integer searchRadius,
+             @Param("source") String source,
+             @Param("apiCallCount") Integer apiCallCount,
+             @Param("missingCategories") String missingCategories,
+             @Param("fetchedAt") LocalDateTime fetchedAt,
+             @Param("writtenAt") LocalDateTime writtenAt);
+
+  // H3 셀 백필 대상 조회 (레거시 문자열 컬럼만 있는 행)
+  @Query("SELECT lc FROM LocationCache lc WHERE lc.h3Cell IS NULL")
+  List<LocationCache> findH3CellBackfillTargets(Pageable pageable);
+
+  // JSON 컬럼 백필 대상 조회 (레거시 JSON이 남아 있는 행, H3 셀 백필 이후)
+  @Query("SELECT lc FROM LocationCache lc WHERE (lc.transitData IS NOT NULL OR lc.amenitiesData IS NOT NULL) AND lc.h3Cell IS NOT NULL")
+  List<LocationCache> findLegacyDataBackfillTargets(Pageable pageable);
 }
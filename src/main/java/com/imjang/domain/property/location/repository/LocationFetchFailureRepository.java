@@ -0,0 +1,10 @@
+package com.imjang.domain.property.location.repository;
+
+import com.imjang.domain.property.location.entity.LocationFetchFailure;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LocationFetchFailureRepository extends JpaRepository<LocationFetchFailure, Long> {
+
+  Optional<LocationFetchFailure> findByH3Cell(Long h3Cell);
+}
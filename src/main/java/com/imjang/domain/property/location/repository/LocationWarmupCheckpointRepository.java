@@ -0,0 +1,10 @@
+package com.imjang.domain.property.location.repository;
+
+import com.imjang.domain.property.location.entity.LocationWarmupCheckpoint;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LocationWarmupCheckpointRepository extends JpaRepository<LocationWarmupCheckpoint, Long> {
+
+  Optional<LocationWarmupCheckpoint> findByJobKey(String jobKey);
+}
@@ -0,0 +1,52 @@
+package com.imjang.domain.property.location.service;
+
+import com.imjang.domain.property.location.dto.AmenityInfo;
+import com.imjang.domain.property.location.dto.LocationInfo;
+import com.imjang.domain.property.location.dto.TransitInfo;
+import com.imjang.domain.property.location.repository.LocationAmenityRepository;
+import com.imjang.domain.property.location.repository.LocationCacheRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 위치 정보 저장 (location_cache 행 + 카테고리별 location_amenity 행)
+ * 두 테이블을 한 트랜잭션으로 upsert해 조회 시 셀 행과 편의시설 행이 어긋나지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class LocationCacheWriter {
+
+  private final LocationCacheRepository locationCacheRepository;
+  private final LocationAmenityRepository locationAmenityRepository;
+
+  @Transactional
+  public void upsert(long h3Cell, String h3Index, Double lat, Double lng, LocationInfo locationInfo,
+                     int searchRadius, String source, int apiCallCount, String missingCategories,
+                     LocalDateTime fetchedAt) {
+    LocalDateTime writtenAt = LocalDateTime.now();
+    TransitInfo transit = locationInfo.transitInfo();
+
+    locationCacheRepository.upsert(h3Cell, h3Index, lat, lng,
+            transit == null ? null : transit.nearestSubwayStation(),
+            transit == null ? null : transit.subwayDistance(),
+            transit == null ? null : transit.subwayWalkTime(),
+            transit == null ? null : transit.busStopCount(),
+            transit == null ? null : transit.subwayLatitude(),
+            transit == null ? null : transit.subwayLongitude(),
+            transit == null ? null : fetchedAtOrDefault(transit.fetchedAt(), fetchedAt),
+            searchRadius, source, apiCallCount, missingCategories, fetchedAt, writtenAt);
+
+    // 누락된 카테고리의 기존 행은 그대로 둠 (재수집 대상 여부는 missing_categories로 판단)
+    for (AmenityInfo amenity : locationInfo.amenityInfos()) {
+      locationAmenityRepository.upsert(h3Cell, amenity.categoryCode(), amenity.category(), amenity.count(),
+              amenity.nearestName(), amenity.nearestDistance(), amenity.nearestLatitude(),
+              amenity.nearestLongitude(), fetchedAtOrDefault(amenity.fetchedAt(), fetchedAt), writtenAt);
+    }
+  }
+
+  private LocalDateTime fetchedAtOrDefault(LocalDateTime categoryFetchedAt, LocalDateTime fetchedAt) {
+    return categoryFetchedAt != null ? categoryFetchedAt : fetchedAt;
+  }
+}
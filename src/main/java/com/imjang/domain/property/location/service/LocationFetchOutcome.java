@@ -0,0 +1,13 @@
+package com.imjang.domain.property.location.service;
+
+/**
+ * 위치 정보 사전 수집 결과
+ */
+public enum LocationFetchOutcome {
+  CACHED,           // 유효한 데이터가 이미 있음
+  PENDING_REFRESH,  // 만료된 행이 있어 백그라운드 갱신에 맡김
+  NEIGHBOR_REUSED,  // 이웃 셀 데이터 재사용
+  FETCHED,          // Kakao 수집 후 저장
+  REJECTED,         // locationTaskExecutor 큐가 가득 차 거절됨 (매물이 있는 셀은 워밍업에서 다시 수집)
+  FAILED            // Kakao 호출 또는 저장 실패
+}
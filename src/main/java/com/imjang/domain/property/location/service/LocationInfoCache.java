@@ -0,0 +1,65 @@
+package com.imjang.domain.property.location.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.imjang.domain.property.location.dto.LocationInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * location_cache 테이블 앞단의 인프로세스(L1) 캐시
+ * JSON 파싱이 끝난 LocationInfo를 H3 셀 단위로 보관하고, 항목 만료는 원본 행의 유효기간(수집 시각 + CACHE_VALID_DAYS)에 맞춤
+ * 유효기간이 지난 행은 백그라운드 갱신 전까지 그대로 제공하므로 STALE_TTL 동안만 보관
+ * 적중/미스/제거 지표는 cache.* 메트릭(cache=location_info)으로 노출
+ */
+@Component
+public class LocationInfoCache {
+
+  static final String CACHE_NAME = "location_info";
+  private static final long MAXIMUM_SIZE = 20_000;
+  private static final Duration VALID_PERIOD = Duration.ofDays(LocationInfoService.CACHE_VALID_DAYS);
+  private static final Duration STALE_TTL = Duration.ofMinutes(10);
+
+  private final Cache<Long, Entry> cache;
+
+  public LocationInfoCache(MeterRegistry meterRegistry) {
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfter(Expiry.writing((Long h3Cell, Entry entry) -> entry.remaining()))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+  }
+
+  public Optional<LocationInfo> get(long h3Cell) {
+    return Optional.ofNullable(cache.getIfPresent(h3Cell)).map(Entry::locationInfo);
+  }
+
+  /**
+   * 수집 시각 기준 남은 유효기간 동안 저장 (이미 지났으면 STALE_TTL 동안)
+   */
+  public void put(long h3Cell, LocationInfo locationInfo, LocalDateTime fetchedAt) {
+    if (fetchedAt == null) {
+      return;
+    }
+
+    LocalDateTime expiresAt = fetchedAt.plus(VALID_PERIOD);
+    LocalDateTime staleUntil = LocalDateTime.now().plus(STALE_TTL);
+    cache.put(h3Cell, new Entry(locationInfo, expiresAt.isAfter(staleUntil) ? expiresAt : staleUntil));
+  }
+
+  private record Entry(
+          LocationInfo locationInfo,
+          LocalDateTime expiresAt
+  ) {
+
+    private Duration remaining() {
+      return Duration.between(LocalDateTime.now(), expiresAt);
+    }
+  }
+}
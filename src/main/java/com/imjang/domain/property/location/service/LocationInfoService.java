@@ -1,29 +1,45 @@
 package com.imjang.domain.property.location.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.imjang.domain.property.location.dto.AmenityInfo;
 import com.imjang.domain.property.location.dto.LocationInfo;
 import com.imjang.domain.property.location.dto.TransitInfo;
+import com.imjang.domain.property.location.entity.LocationAmenity;
 import com.imjang.domain.property.location.entity.LocationCache;
+import com.imjang.domain.property.location.repository.LocationAmenityRepository;
 import com.imjang.domain.property.location.repository.LocationCacheRepository;
 import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
 import com.imjang.infrastructure.kakao.KaKaoApiClient;
+import com.imjang.infrastructure.kakao.KakaoRequestPriority;
 import com.imjang.infrastructure.kakao.dto.KakaoCategoryCode;
 import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchRequest;
 import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Slf4j
 @Service
@@ -34,74 +50,369 @@ public class LocationInfoService {
   private final LocationCacheRepository locationCacheRepository;
   private final KaKaoApiClient kakaoApiClient;
   private final H3Util h3Util;
-  private final ObjectMapper objectMapper;
+  private final LocationAmenityRepository locationAmenityRepository;
+  private final LocationCacheWriter locationCacheWriter;
+  private final LocationInfoCache locationInfoCache;
+  private final Scheduler locationScheduler;
+  private final MeterRegistry meterRegistry;
 
-  private static final int CACHE_VALID_DAYS = 30;
+  public static final int CACHE_VALID_DAYS = 30;
+
+  // 셀 하나 수집 시 Kakao 호출 수 (지하철 1 + 편의시설 5)
+  public static final int KAKAO_CALLS_PER_CELL = 6;
   private static final int TRANSIT_SEARCH_RADIUS = 1000;
   private static final int AMENITY_SEARCH_RADIUS = 500;
+  private static final String SOURCE_KAKAO = "KAKAO";
+  private static final String SOURCE_NEIGHBOR = "NEIGHBOR";
+  private static final String FETCH_METRIC = "location.fetch";
+  private static final List<KakaoCategoryCode> AMENITY_CATEGORIES = List.of(
+          KakaoCategoryCode.CONVENIENCE_STORE,
+          KakaoCategoryCode.MART,
+          KakaoCategoryCode.BANK,
+          KakaoCategoryCode.HOSPITAL,
+          KakaoCategoryCode.PHARMACY
+  );
+  private static final Map<String, Integer> AMENITY_CATEGORY_ORDER = AMENITY_CATEGORIES.stream()
+          .collect(Collectors.toMap(KakaoCategoryCode::getCode, AMENITY_CATEGORIES::indexOf));
+  // 카테고리별 유효기간 (기본 CACHE_VALID_DAYS). 지하철역은 거의 바뀌지 않아 길게 유지
+  private static final Map<String, Duration> CATEGORY_VALID_PERIODS = Map.of(
+          KakaoCategoryCode.SUBWAY.getCode(), Duration.ofDays(90)
+  );
+  private static final Duration REFRESH_TIMEOUT = Duration.ofSeconds(30);
+
+  // 캐시 미스 시 재사용할 이웃 셀 범위 (0이면 재사용 안 함). res 9 셀 지름 약 350m
+  @Value("${app.location.neighbor-k-ring:1}")
+  private int neighborKRing;
+
+  // 셀별 진행 중인 수집 (같은 셀 동시 요청은 새로 호출하지 않고 여기에 합류)
+  private final ConcurrentMap<Long, Mono<LocationInfo>> inFlightFetches = new ConcurrentHashMap<>();
 
   /**
-   * 위치 정보를 비동기로 수집, 캐시 저장
-   * 매물 생성 시 호출됨
+   * 위치 정보 사전 수집 (매물 생성, 사전 수집 요청 시 호출)
+   * DB 확인과 저장은 locationScheduler(locationTaskExecutor), Kakao 호출은 WebClient 이벤트 루프에서 실행되어
+   * 응답을 기다리는 동안 스레드를 점유하지 않음. 큐가 가득 차면 REJECTED로 끝나며, 결과는 로그와 지표로 남음
+   * REJECTED/FAILED로 끝나 행이 없는 셀은 LocationCacheRefreshScheduler가 다음 주기에 다시 수집
    */
-  @Async("locationTaskExecutor")
-  public void fetchAndCacheLocationInfo(Double latitude, Double longitude) {
-    try {
-      String h3Index = h3Util.getH3Index(latitude, longitude);
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Mono<LocationFetchOutcome> fetchAndCacheLocationInfo(Double latitude, Double longitude) {
+    return Mono.fromCallable(() -> resolveWithoutFetch(latitude, longitude))
+            .subscribeOn(locationScheduler)
+            .flatMap(resolved -> resolved.outcome() != null
+                    ? Mono.just(resolved.outcome())
+                    : fetchLocationInfo(resolved.h3Cell(), latitude, longitude, KakaoRequestPriority.INTERACTIVE)
+                            .thenReturn(LocationFetchOutcome.FETCHED))
+            .onErrorResume(RejectedExecutionException.class, e -> {
+              log.warn("위치 정보 수집 거절(작업 큐 가득 참), 갱신 스케줄러에서 재수집 - 좌표: ({}, {})",
+                      latitude, longitude);
+              return Mono.just(LocationFetchOutcome.REJECTED);
+            })
+            .onErrorResume(e -> {
+              log.error("위치 정보 수집 실패 - 좌표: ({}, {})", latitude, longitude, e);
+              return Mono.just(LocationFetchOutcome.FAILED);
+            })
+            .doOnNext(outcome -> meterRegistry.counter(FETCH_METRIC, "outcome", outcome.name()).increment());
+  }
 
-      LocalDateTime validDate = LocalDateTime.now().minusDays(CACHE_VALID_DAYS);
-      Optional<LocationCache> existingCache = locationCacheRepository.findValidCacheByH3Index(h3Index, validDate);
+  /**
+   * Kakao 호출 없이 처리 가능한지 확인 (블로킹 DB 조회)
+   * @return 처리 결과, 또는 Kakao 수집이 필요하면 outcome이 null인 셀
+   */
+  private ResolvedCell resolveWithoutFetch(Double latitude, Double longitude) {
+    long h3Cell = h3Util.getH3Cell(latitude, longitude);
 
-      if (existingCache.isPresent()) {
-        log.info("위치 정보가 이미 캐시에 존재: {}", h3Index);
-        return;
-      }
-      log.info("새로운 위치 정보 조회 시작 - h3Index: {}", h3Index);
-      fetchAndSaveLocationInfo(h3Index, latitude, longitude);
-    } catch (Exception e) {
-      log.error("위치 정보 수집 실패 - 좌표: ({}, {})", latitude, longitude, e);
+    // L1에는 DB에 행이 있는 셀만 들어가므로 적중하면 DB 확인 불필요 (만료된 행은 백그라운드 갱신 대상)
+    if (locationInfoCache.get(h3Cell).isPresent()) {
+      log.info("위치 정보가 이미 캐시에 존재: {}", h3Cell);
+      return new ResolvedCell(h3Cell, LocationFetchOutcome.CACHED);
     }
+
+    LocalDateTime validDate = LocalDateTime.now().minusDays(CACHE_VALID_DAYS);
+    Optional<LocationCache> existingCache = locationCacheRepository.findValidCacheByH3Cell(h3Cell, validDate);
+
+    if (existingCache.isPresent()) {
+      log.info("위치 정보가 이미 캐시에 존재: {}", h3Cell);
+      return new ResolvedCell(h3Cell, LocationFetchOutcome.CACHED);
+    }
+
+    // 만료된 행은 갱신 전까지 그대로 제공하고, 재수집은 백그라운드 갱신에 맡김 (Kakao 호출량 평탄화)
+    if (locationCacheRepository.existsByH3Cell(h3Cell)) {
+      log.info("만료된 위치 정보, 백그라운드 갱신 대기: {}", h3Cell);
+      return new ResolvedCell(h3Cell, LocationFetchOutcome.PENDING_REFRESH);
+    }
+
+    if (reuseNeighborLocationInfo(h3Cell, latitude, longitude, validDate).isPresent()) {
+      log.info("이웃 셀 위치 정보 재사용 - h3Cell: {}", h3Cell);
+      return new ResolvedCell(h3Cell, LocationFetchOutcome.NEIGHBOR_REUSED);
+    }
+
+    log.info("새로운 위치 정보 조회 시작 - h3Cell: {}", h3Cell);
+    return new ResolvedCell(h3Cell, null);
+  }
+
+  private record ResolvedCell(long h3Cell, LocationFetchOutcome outcome) {
+
+  }
+
+  /**
+   * 위치 정보를 조회하고 캐시에 저장 (셀 단위 single-flight)
+   * 이미 같은 셀을 수집 중이면 Kakao API를 다시 호출하지 않고 진행 중인 결과를 공유 (먼저 시작한 수집의 우선순위를 따름)
+   */
+  Mono<LocationInfo> fetchLocationInfo(long h3Cell, Double latitude, Double longitude,
+                                       KakaoRequestPriority priority) {
+    return inFlightFetches.computeIfAbsent(h3Cell, cell -> {
+      log.debug("위치 정보 수집 시작 - h3Cell: {}", cell);
+
+      // 저장된 데이터 조회와 결과 저장은 블로킹이므로 이벤트 루프가 아닌 locationScheduler에서 실행
+      // 종료 시 등록 해제 (cache로 합류한 구독자에게 같은 결과 재생)
+      // 자기 자신일 때만 해제해, 늦게 끝난 이전 수집이 그 사이 새로 등록된 수집을 지우지 않도록 함
+      AtomicReference<Mono<LocationInfo>> registered = new AtomicReference<>();
+      Mono<LocationInfo> fetch = Mono.fromCallable(() -> loadStoredLocationInfo(cell))
+              .subscribeOn(locationScheduler)
+              .flatMap(stored -> fetchExpiredCategories(cell, latitude, longitude, stored, priority))
+              .publishOn(locationScheduler)
+              .map(fetched -> saveFetchedLocation(cell, latitude, longitude, fetched))
+              .doFinally(signal -> inFlightFetches.remove(cell, registered.get()))
+              .cache();
+      registered.set(fetch);
+      return fetch;
+    });
   }
 
   /**
-   * 위치 정보를 조회하고 캐시에 저장
+   * 카테고리별로 나눠 수집 (지하철 1 + 편의시설 5, 병렬)
+   * 저장된 값이 카테고리 유효기간 내면 다시 호출하지 않고, 한 카테고리가 실패해도 나머지 결과는 그대로 저장
+   * 실패한 카테고리는 저장된 값(만료됐더라도)을 유지하고, 저장된 값도 없으면 누락으로 남겨 백그라운드 갱신에서 그 카테고리만 재시도
    */
-  private void fetchAndSaveLocationInfo(String h3Index, Double latitude, Double longitude) {
-    // 병렬로 API 호출
-    Mono<TransitInfo> transitInfoMono = fetchTransitInfo(latitude, longitude);
-    Mono<List<AmenityInfo>> amenityInfoMono = fetchAmenityInfo(latitude, longitude);
+  private Mono<FetchedLocation> fetchExpiredCategories(long h3Cell, Double latitude, Double longitude,
+                                                       Optional<LocationInfo> stored,
+                                                       KakaoRequestPriority priority) {
+    LocalDateTime now = LocalDateTime.now();
+    TransitInfo storedTransit = stored.map(LocationInfo::transitInfo).orElse(null);
+    Map<String, AmenityInfo> storedAmenities = stored
+            .map(info -> info.amenityInfos().stream()
+                    .collect(Collectors.toMap(AmenityInfo::categoryCode, Function.identity(), (a, b) -> a)))
+            .orElse(Map.of());
+    int apiCallCount = 0;
+
+    Mono<Optional<TransitInfo>> transitMono;
+    if (storedTransit != null && isFresh(KakaoCategoryCode.SUBWAY.getCode(), storedTransit.fetchedAt(), now)) {
+      transitMono = Mono.just(Optional.of(storedTransit));
+    } else {
+      transitMono = withStoredFallback(fetchTransitInfo(latitude, longitude, priority), storedTransit,
+              KakaoCategoryCode.SUBWAY, h3Cell);
+      apiCallCount++;
+    }
 
-    // 결과 조합 및 저장
-    Mono.zip(transitInfoMono, amenityInfoMono)
-            .subscribe(tuple -> {
-              TransitInfo transitInfo = tuple.getT1();
-              List<AmenityInfo> amenityInfos = tuple.getT2();
+    List<Mono<Optional<AmenityInfo>>> amenityMonos = new ArrayList<>();
+    for (KakaoCategoryCode category : AMENITY_CATEGORIES) {
+      AmenityInfo storedAmenity = storedAmenities.get(category.getCode());
+      if (storedAmenity != null && isFresh(category.getCode(), storedAmenity.fetchedAt(), now)) {
+        amenityMonos.add(Mono.just(Optional.of(storedAmenity)));
+      } else {
+        amenityMonos.add(withStoredFallback(fetchAmenityInfo(category, latitude, longitude, priority),
+                storedAmenity, category, h3Cell));
+        apiCallCount++;
+      }
+    }
+
+    int calls = apiCallCount;
+    Mono<List<AmenityInfo>> amenitiesMono = Mono.zip(amenityMonos, results -> Arrays.stream(results)
+            .map(result -> (Optional<?>) result)
+            .flatMap(Optional::stream)
+            .map(AmenityInfo.class::cast)
+            .toList());
+
+    return Mono.zip(transitMono, amenitiesMono)
+            .flatMap(tuple -> {
+              LocationInfo locationInfo = LocationInfo.of(h3Cell, tuple.getT1().orElse(null), tuple.getT2());
+              if (locationInfo.transitInfo() == null && locationInfo.amenityInfos().isEmpty()) {
+                return Mono.error(new CustomException(ErrorCode.EXTERNAL_API_ERROR));
+              }
+              return Mono.just(new FetchedLocation(locationInfo, calls));
+            });
+  }
 
-              // 캐시에 저장
-              saveToCache(h3Index, latitude, longitude, transitInfo, amenityInfos);
-            }, error -> {
-              log.error("위치 정보 조회 실패 - h3Index: {}", h3Index, error);
+  private <T> Mono<Optional<T>> withStoredFallback(Mono<T> fetch, T stored, KakaoCategoryCode category,
+                                                   long h3Cell) {
+    return fetch.map(Optional::of)
+            .onErrorResume(e -> {
+              log.warn("카테고리 수집 실패 - h3Cell: {}, category: {}, error: {}",
+                      h3Cell, category.getCode(), e.getMessage());
+              return Mono.just(Optional.ofNullable(stored));
             });
   }
 
   /**
-   * H3 인덱스로 캐시된 위치 정보 조회
-   * 매물 상세 조회 시 사용
+   * 재수집 시 유효한 카테고리를 건너뛰기 위한 저장 데이터 조회 (L1 우선, 만료 여부 무관)
+   */
+  private Optional<LocationInfo> loadStoredLocationInfo(long h3Cell) {
+    Optional<LocationInfo> cached = locationInfoCache.get(h3Cell);
+    if (cached.isPresent()) {
+      return cached;
+    }
+
+    return locationCacheRepository.findByH3Cell(h3Cell)
+            .map(cache -> toLocationInfo(cache, locationAmenityRepository.findByH3Cell(h3Cell)));
+  }
+
+  private record FetchedLocation(LocationInfo locationInfo, int apiCallCount) {
+
+  }
+
+  /**
+   * 만료된 위치 정보 재수집 (백그라운드 갱신용)
+   * 완료까지 대기하므로 호출 측이 순차 호출로 Kakao 호출 속도를 제어. 대기 중 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 실행
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public void refreshLocationInfo(long h3Cell, double latitude, double longitude) {
+    fetchLocationInfo(h3Cell, latitude, longitude, KakaoRequestPriority.BACKGROUND).block(REFRESH_TIMEOUT);
+  }
+
+  /**
+   * 셀에 저장된 위치 정보가 있는지 (만료 여부 무관)
    */
   @Transactional(readOnly = true)
-  public Optional<LocationInfo> getLocationInfoByH3Index(String h3Index) {
-    if (h3Index == null) {
+  public boolean hasLocationInfo(long h3Cell) {
+    return locationInfoCache.get(h3Cell).isPresent() || locationCacheRepository.existsByH3Cell(h3Cell);
+  }
+
+  /**
+   * 이웃 셀 데이터 재사용 시도 (워밍업용)
+   * @return 재사용해서 저장했으면 true
+   */
+  public boolean reuseNeighborLocationInfo(long h3Cell, double latitude, double longitude) {
+    LocalDateTime validDate = LocalDateTime.now().minusDays(CACHE_VALID_DAYS);
+    return reuseNeighborLocationInfo(h3Cell, latitude, longitude, validDate).isPresent();
+  }
+
+  /**
+   * 유효한 이웃 셀 데이터를 요청 좌표 기준으로 재계산해 저장 (Kakao 호출 없음)
+   * 가장 가까운 시설의 좌표로 거리를 다시 계산하고, 재계산한 거리가 검색 반경을 벗어나거나
+   * 좌표가 없는(이전 형식) 데이터면 재사용하지 않음. 반경 내 개수는 이웃 값을 그대로 사용
+   */
+  Optional<LocationInfo> reuseNeighborLocationInfo(long h3Cell, double latitude, double longitude,
+                                                   LocalDateTime validDate) {
+    if (neighborKRing <= 0) {
+      return Optional.empty();
+    }
+
+    long[] neighborCells = h3Util.getNeighborCells(h3Cell, neighborKRing);
+    if (neighborCells.length == 0) {
       return Optional.empty();
     }
 
-    return locationCacheRepository.findByH3Index(h3Index)
-            .map(this::convertCacheToLocationInfo);
+    List<LocationCache> neighbors = locationCacheRepository.findValidCachesByH3CellIn(
+            Arrays.stream(neighborCells).boxed().toList(), validDate, SOURCE_KAKAO);
+
+    Map<Long, List<LocationAmenity>> amenitiesByCell = neighbors.isEmpty() ? Map.of()
+            : locationAmenityRepository.findByH3CellIn(neighbors.stream().map(LocationCache::getH3Cell).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(LocationAmenity::getH3Cell));
+
+    // 수집 지점이 가까운 이웃부터 시도
+    List<LocationCache> candidates = neighbors.stream()
+            .sorted(Comparator.comparingDouble((LocationCache neighbor) -> h3Util.distanceMeters(
+                    latitude, longitude, neighbor.getCenterLat(), neighbor.getCenterLng())))
+            .toList();
+
+    for (LocationCache neighbor : candidates) {
+      LocationInfo neighborInfo = toLocationInfo(neighbor,
+              amenitiesByCell.getOrDefault(neighbor.getH3Cell(), List.of()));
+      Optional<LocationInfo> relocated = relocate(neighborInfo, h3Cell, latitude, longitude);
+      if (relocated.isPresent()) {
+        // 원본보다 오래 유효하지 않도록 원본 수집 시각을 그대로 사용
+        saveLocationInfo(h3Cell, latitude, longitude, relocated.get(), SOURCE_NEIGHBOR, 0,
+                neighbor.getLastFetchedAt());
+        return relocated;
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  private Optional<LocationInfo> relocate(LocationInfo source, long h3Cell, double latitude, double longitude) {
+    TransitInfo transitInfo = source.transitInfo();
+    if (transitInfo != null && transitInfo.nearestSubwayStation() != null) {
+      Integer distance = relocatedDistance(transitInfo.subwayLatitude(), transitInfo.subwayLongitude(),
+              latitude, longitude, TRANSIT_SEARCH_RADIUS);
+      if (distance == null) {
+        return Optional.empty();
+      }
+      transitInfo = new TransitInfo(
+              transitInfo.nearestSubwayStation(),
+              distance,
+              calculateWalkTime(distance),
+              transitInfo.busStopCount(),
+              transitInfo.subwayLatitude(),
+              transitInfo.subwayLongitude(),
+              transitInfo.fetchedAt()
+      );
+    }
+
+    List<AmenityInfo> amenityInfos = new ArrayList<>();
+    for (AmenityInfo amenity : source.amenityInfos()) {
+      Integer distance = null;
+      if (amenity.nearestName() != null) {
+        distance = relocatedDistance(amenity.nearestLatitude(), amenity.nearestLongitude(),
+                latitude, longitude, AMENITY_SEARCH_RADIUS);
+        if (distance == null) {
+          return Optional.empty();
+        }
+      }
+      amenityInfos.add(new AmenityInfo(
+              amenity.category(),
+              amenity.categoryCode(),
+              amenity.count(),
+              amenity.nearestName(),
+              distance,
+              amenity.nearestLatitude(),
+              amenity.nearestLongitude(),
+              amenity.fetchedAt()
+      ));
+    }
+
+    return Optional.of(LocationInfo.of(h3Cell, transitInfo, amenityInfos));
+  }
+
+  /**
+   * 시설 좌표에서 요청 좌표까지 거리(미터). 좌표가 없거나 검색 반경을 벗어나면 null
+   */
+  private Integer relocatedDistance(Double placeLat, Double placeLng, double latitude, double longitude,
+                                    int radius) {
+    if (placeLat == null || placeLng == null) {
+      return null;
+    }
+    int distance = (int) Math.round(h3Util.distanceMeters(latitude, longitude, placeLat, placeLng));
+    return distance <= radius ? distance : null;
+  }
+
+  /**
+   * H3 셀로 캐시된 위치 정보 조회
+   * 매물 상세 조회 시 사용. L1(메모리) 적중 시 DB 조회 생략
+   */
+  @Transactional(readOnly = true)
+  public Optional<LocationInfo> getLocationInfoByH3Cell(Long h3Cell) {
+    if (h3Cell == null) {
+      return Optional.empty();
+    }
+
+    Optional<LocationInfo> cached = locationInfoCache.get(h3Cell);
+    if (cached.isPresent()) {
+      return cached;
+    }
+
+    return locationCacheRepository.findByH3Cell(h3Cell)
+            .map(cache -> {
+              LocationInfo locationInfo = toLocationInfo(cache, locationAmenityRepository.findByH3Cell(h3Cell));
+              locationInfoCache.put(h3Cell, locationInfo, cache.getLastFetchedAt());
+              return locationInfo;
+            });
   }
 
   /**
    * 대중교통 정보 조회
    */
-  private Mono<TransitInfo> fetchTransitInfo(Double lat, Double lng) {
+  private Mono<TransitInfo> fetchTransitInfo(Double lat, Double lng, KakaoRequestPriority priority) {
     // 지하철역 검색
     Mono<KakaoCategorySearchResponse> subwayMono = kakaoApiClient.searchByCategory(
             KakaoCategorySearchRequest.of(
@@ -109,7 +420,8 @@ public class LocationInfoService {
                     lng,
                     lat,
                     TRANSIT_SEARCH_RADIUS
-            )
+            ),
+            priority
     );
 
     return subwayMono.map(response -> {
@@ -120,112 +432,166 @@ public class LocationInfoService {
                 nearest.placeName(),
                 distance,
                 calculateWalkTime(distance),
-                0  // 버스 정보는 추후 구현
+                0,  // 버스 정보는 추후 구현
+                Double.parseDouble(nearest.y()),
+                Double.parseDouble(nearest.x()),
+                LocalDateTime.now()
         );
       }
 
-      return TransitInfo.empty();
+      return TransitInfo.empty().withFetchedAt(LocalDateTime.now());
     });
   }
 
   /**
-   * 편의시설 정보 조회
+   * 편의시설 카테고리 하나 조회
    */
-  private Mono<List<AmenityInfo>> fetchAmenityInfo(Double lat, Double lng) {
-    // 조회할 카테고리 목록
-    List<KakaoCategoryCode> amenityCategories = Arrays.asList(
-            KakaoCategoryCode.CONVENIENCE_STORE,
-            KakaoCategoryCode.MART,
-            KakaoCategoryCode.BANK,
-            KakaoCategoryCode.HOSPITAL,
-            KakaoCategoryCode.PHARMACY
+  private Mono<AmenityInfo> fetchAmenityInfo(KakaoCategoryCode category, Double lat, Double lng,
+                                             KakaoRequestPriority priority) {
+    Mono<KakaoCategorySearchResponse> searchMono = kakaoApiClient.searchByCategory(
+            KakaoCategorySearchRequest.of(
+                    category.getCode(),
+                    lng,
+                    lat,
+                    AMENITY_SEARCH_RADIUS
+            ),
+            priority
     );
 
-    // 병렬로 모든 카테고리 검색
-    List<Mono<KakaoCategorySearchResponse>> searchMonos = amenityCategories.stream()
-            .map(category -> kakaoApiClient.searchByCategory(
-                    KakaoCategorySearchRequest.of(
-                            category.getCode(),
-                            lng,
-                            lat,
-                            AMENITY_SEARCH_RADIUS
-                    )
-            ))
-            .collect(Collectors.toList());
-
-    return Mono.zip(searchMonos, responses -> {
-      List<AmenityInfo> amenityInfos = new ArrayList<>();
+    return searchMono.map(response -> {
+      String nearestName = null;
+      Integer nearestDistance = null;
+      Double nearestLatitude = null;
+      Double nearestLongitude = null;
 
-      for (int i = 0; i < responses.length; i++) {
-        KakaoCategorySearchResponse response = (KakaoCategorySearchResponse) responses[i];
-        KakaoCategoryCode category = amenityCategories.get(i);
+      if (!response.documents().isEmpty()) {
+        KakaoCategorySearchResponse.Document nearest = response.documents().get(0);
+        nearestName = nearest.placeName();
+        nearestDistance = Integer.parseInt(nearest.distance());
+        nearestLatitude = Double.parseDouble(nearest.y());
+        nearestLongitude = Double.parseDouble(nearest.x());
+      }
 
-        String nearestName = null;
-        Integer nearestDistance = null;
+      return new AmenityInfo(
+              category.getDescription(),
+              category.getCode(),
+              response.documents().size(),
+              nearestName,
+              nearestDistance,
+              nearestLatitude,
+              nearestLongitude,
+              LocalDateTime.now()
+      );
+    });
+  }
 
-        if (!response.documents().isEmpty()) {
-          KakaoCategorySearchResponse.Document nearest = response.documents().get(0);
-          nearestName = nearest.placeName();
-          nearestDistance = Integer.parseInt(nearest.distance());
-        }
+  /**
+   * 카테고리별 수집 결과를 캐시에 저장
+   * 행의 last_fetched_at에는 카테고리 중 가장 먼저 만료되는 시점을 기준으로 한 유효 수집 시각을 기록해,
+   * 기존 만료 판단(last_fetched_at + CACHE_VALID_DAYS)이 카테고리별 유효기간을 그대로 따르게 함
+   */
+  private LocationInfo saveFetchedLocation(long h3Cell, Double lat, Double lng, FetchedLocation fetched) {
+    LocationInfo locationInfo = fetched.locationInfo();
+    saveLocationInfo(h3Cell, lat, lng, locationInfo, SOURCE_KAKAO, fetched.apiCallCount(),
+            effectiveFetchedAt(locationInfo));
+    return locationInfo;
+  }
 
-        amenityInfos.add(new AmenityInfo(
-                category.getDescription(),
-                category.getCode(),
-                response.documents().size(),
-                nearestName,
-                nearestDistance
-        ));
+  private LocalDateTime effectiveFetchedAt(LocationInfo locationInfo) {
+    LocalDateTime firstExpiry = null;
+    if (locationInfo.transitInfo() != null) {
+      firstExpiry = expiryOf(KakaoCategoryCode.SUBWAY.getCode(), locationInfo.transitInfo().fetchedAt());
+    }
+    for (AmenityInfo amenity : locationInfo.amenityInfos()) {
+      LocalDateTime expiry = expiryOf(amenity.categoryCode(), amenity.fetchedAt());
+      if (firstExpiry == null || expiry.isBefore(firstExpiry)) {
+        firstExpiry = expiry;
       }
+    }
+    return firstExpiry == null ? LocalDateTime.now() : firstExpiry.minusDays(CACHE_VALID_DAYS);
+  }
 
-      return amenityInfos;
-    });
+  private boolean isFresh(String categoryCode, LocalDateTime fetchedAt, LocalDateTime now) {
+    return fetchedAt != null && expiryOf(categoryCode, fetchedAt).isAfter(now);
+  }
+
+  private LocalDateTime expiryOf(String categoryCode, LocalDateTime fetchedAt) {
+    return fetchedAt.plus(CATEGORY_VALID_PERIODS.getOrDefault(categoryCode, Duration.ofDays(CACHE_VALID_DAYS)));
+  }
+
+  /**
+   * 수집하지 못한 카테고리 코드 (모두 있으면 null)
+   */
+  private String missingCategories(LocationInfo locationInfo) {
+    List<String> missing = new ArrayList<>();
+    if (locationInfo.transitInfo() == null) {
+      missing.add(KakaoCategoryCode.SUBWAY.getCode());
+    }
+    Set<String> present = locationInfo.amenityInfos().stream()
+            .map(AmenityInfo::categoryCode)
+            .collect(Collectors.toSet());
+    AMENITY_CATEGORIES.stream()
+            .map(KakaoCategoryCode::getCode)
+            .filter(code -> !present.contains(code))
+            .forEach(missing::add);
+    return missing.isEmpty() ? null : String.join(",", missing);
   }
 
   /**
-   * 캐시에 데이터 저장
+   * 위치 정보 저장 (conflict-safe upsert) 후 L1 반영
    */
-  private void saveToCache(String h3Index, Double lat, Double lng,
-                           TransitInfo transitInfo, List<AmenityInfo> amenityInfos) {
+  private void saveLocationInfo(long h3Cell, Double lat, Double lng, LocationInfo locationInfo,
+                                String source, int apiCallCount, LocalDateTime fetchedAt) {
     try {
-      LocationCache cache = locationCacheRepository.findByH3Index(h3Index)
-              .orElse(LocationCache.builder()
-                      .h3Index(h3Index)
-                      .centerLat(lat)
-                      .centerLng(lng)
-                      .build());
+      String missingCategories = missingCategories(locationInfo);
 
-      String transitData = objectMapper.writeValueAsString(transitInfo);
-      String amenitiesData = objectMapper.writeValueAsString(amenityInfos);
+      locationCacheWriter.upsert(h3Cell, h3Util.toAddress(h3Cell), lat, lng, locationInfo,
+              TRANSIT_SEARCH_RADIUS, source, apiCallCount, missingCategories, fetchedAt);
 
-      cache.updateData(transitData, amenitiesData);
-      locationCacheRepository.save(cache);
+      // 저장한 값을 그대로 L1에 반영
+      locationInfoCache.put(h3Cell, locationInfo, fetchedAt);
 
-      log.info("위치 정보 캐시 저장 완료 - h3Index: {}", h3Index);
+      if (missingCategories != null) {
+        log.warn("일부 카테고리 누락 저장 - h3Cell: {}, missing: {}", h3Cell, missingCategories);
+      }
+      log.info("위치 정보 캐시 저장 완료 - h3Cell: {}, source: {}", h3Cell, source);
 
     } catch (Exception e) {
-      log.error("캐시 저장 실패 - h3Index: {}", h3Index, e);
+      log.error("캐시 저장 실패 - h3Cell: {}", h3Cell, e);
     }
   }
 
   /**
-   * 캐시 데이터를 LocationInfo로 변환
+   * 셀 행(지하철 컬럼)과 편의시설 행을 LocationInfo로 변환
+   * 지하철 수집 시각이 없으면 지하철 카테고리 미수집. 편의시설은 AMENITY_CATEGORIES 순서로 정렬
    */
-  private LocationInfo convertCacheToLocationInfo(LocationCache cache) {
-    try {
-      TransitInfo transitInfo = objectMapper.readValue(
-              cache.getTransitData(), TransitInfo.class);
-      List<AmenityInfo> amenityInfos = objectMapper.readValue(
-              cache.getAmenitiesData(),
-              objectMapper.getTypeFactory().constructCollectionType(List.class, AmenityInfo.class)
-      );
+  private LocationInfo toLocationInfo(LocationCache cache, List<LocationAmenity> amenities) {
+    TransitInfo transitInfo = cache.getSubwayFetchedAt() == null ? null : new TransitInfo(
+            cache.getSubwayStationName(),
+            cache.getSubwayDistance(),
+            cache.getSubwayWalkTime(),
+            cache.getBusStopCount(),
+            cache.getSubwayLat(),
+            cache.getSubwayLng(),
+            cache.getSubwayFetchedAt()
+    );
 
-      return LocationInfo.of(cache.getH3Index(), transitInfo, amenityInfos);
+    List<AmenityInfo> amenityInfos = amenities.stream()
+            .sorted(Comparator.comparingInt(amenity -> AMENITY_CATEGORY_ORDER.getOrDefault(
+                    amenity.getCategoryCode(), Integer.MAX_VALUE)))
+            .map(amenity -> new AmenityInfo(
+                    amenity.getCategoryName(),
+                    amenity.getCategoryCode(),
+                    amenity.getCount(),
+                    amenity.getNearestName(),
+                    amenity.getNearestDistance(),
+                    amenity.getNearestLat(),
+                    amenity.getNearestLng(),
+                    amenity.getFetchedAt()
+            ))
+            .toList();
 
-    } catch (Exception e) {
-      log.error("캐시 데이터 변환 실패", e);
-      throw new RuntimeException("캐시 데이터 변환 실패", e);
-    }
+    return LocationInfo.of(cache.getH3Cell(), transitInfo, amenityInfos);
   }
 
   /**
@@ -0,0 +1,51 @@
+package com.imjang.domain.property.location.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 위치 정보 워밍업 설정 (app.location.warmup)
+ */
+@ConfigurationProperties(prefix = "app.location.warmup")
+@Getter
+@Setter
+public class LocationWarmupProperties {
+
+  private boolean enabled = false;
+
+  // 한 번 실행에서 Kakao로 수집할 최대 셀 수
+  private int batchSize = 30;
+
+  // 사용자 요청 몫으로 남겨 둘 Kakao 호출 허용 수 (rate limiter 주기당)
+  private int reservedPermits = 2;
+
+  // Kakao 호출 허용 수가 부족할 때 다시 확인하기까지의 대기(ms)
+  private long permitWaitMillis = 1000;
+
+  // 매물 주변 셀 작업 완료 후 다시 훑기까지의 간격(시간)
+  private int propertyRescanHours = 24;
+
+  // 워밍업 대상 영역 (목록 순서가 우선순위)
+  private List<Region> regions = new ArrayList<>();
+
+  @Getter
+  @Setter
+  public static class Region {
+
+    private String name;
+    private double northEastLat;
+    private double northEastLng;
+    private double southWestLat;
+    private double southWestLng;
+
+    /**
+     * 영역 설정이 바뀌었는지 판단하는 값 (체크포인트 signature)
+     */
+    public String signature() {
+      return northEastLat + "," + northEastLng + "," + southWestLat + "," + southWestLng;
+    }
+  }
+}
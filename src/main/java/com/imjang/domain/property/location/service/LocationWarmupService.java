@@ -0,0 +1,272 @@
+package com.imjang.domain.property.location.service;
+
+import com.imjang.domain.property.location.entity.LocationWarmupCheckpoint;
+import com.imjang.domain.property.location.repository.LocationWarmupCheckpointRepository;
+import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.repository.PropertyRepository;
+import com.imjang.infrastructure.kakao.KaKaoApiClient;
+import com.uber.h3core.util.LatLng;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 위치 정보 일괄 워밍업
+ * 매물이 있는 셀과 그 이웃(k=1)을 먼저, 이어서 설정된 영역의 셀을 중심에서 바깥 순서로 채움
+ * 실행마다 batchSize개 셀까지만 Kakao로 수집하고, 진행 위치는 작업별 체크포인트로 저장해 다음 실행에서 이어감
+ * Kakao 호출 전 rate limiter 잔여 허용 수를 확인해 사용자 요청 몫(reservedPermits)을 남김
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LocationWarmupService {
+
+  static final String PROPERTY_JOB_KEY = "properties";
+  static final String REGION_JOB_KEY_PREFIX = "region:";
+
+  private static final String PROPERTY_JOB_SIGNATURE = "k1";
+  private static final int PROPERTY_CELL_PAGE_SIZE = 100;
+  private static final int MAX_PERMIT_WAITS = 5;
+
+  private final LocationInfoService locationInfoService;
+  private final LocationWarmupCheckpointRepository checkpointRepository;
+  private final PropertyRepository propertyRepository;
+  private final KaKaoApiClient kakaoApiClient;
+  private final H3Util h3Util;
+  private final LocationWarmupProperties properties;
+
+  private final AtomicBoolean running = new AtomicBoolean(false);
+
+  private enum CellOutcome {
+    SKIPPED,   // 이미 저장된 셀
+    REUSED,    // 이웃 셀 데이터 재사용
+    FETCHED,   // Kakao 수집
+    DEFERRED   // 호출 허용 수 부족, 다음 실행으로 미룸
+  }
+
+  /**
+   * 관리자 요청 시 비동기 실행
+   */
+  @Async("locationTaskExecutor")
+  public void runBatchAsync() {
+    runBatch();
+  }
+
+  /**
+   * 워밍업 1회 실행. 이미 실행 중이면 무시
+   */
+  public void runBatch() {
+    if (!running.compareAndSet(false, true)) {
+      log.info("위치 정보 워밍업이 이미 실행 중");
+      return;
+    }
+
+    try {
+      Budget budget = new Budget(properties.getBatchSize());
+      if (warmUpPropertyCells(budget)) {
+        for (LocationWarmupProperties.Region region : properties.getRegions()) {
+          if (!warmUpRegion(region, budget)) {
+            break;
+          }
+        }
+      }
+      log.info("위치 정보 워밍업 실행 완료: 수집 {}개 셀", budget.fetched);
+    } finally {
+      running.set(false);
+    }
+  }
+
+  public boolean isRunning() {
+    return running.get();
+  }
+
+  public List<LocationWarmupCheckpoint> getCheckpoints() {
+    return checkpointRepository.findAll();
+  }
+
+  /**
+   * 매물이 있는 셀과 이웃 셀 워밍업 (셀 값 오름차순 keyset 진행)
+   * @return 예산이 남아 다음 작업을 이어가도 되면 true
+   */
+  private boolean warmUpPropertyCells(Budget budget) {
+    LocationWarmupCheckpoint checkpoint = checkpointFor(PROPERTY_JOB_KEY, PROPERTY_JOB_SIGNATURE);
+    if (checkpoint.isCompleted()) {
+      // 새로 등록된 매물을 반영하도록 일정 시간이 지나면 다시 훑음
+      if (checkpoint.getCompletedAt().isAfter(LocalDateTime.now().minusHours(properties.getPropertyRescanHours()))) {
+        return true;
+      }
+      checkpoint.restart(PROPERTY_JOB_SIGNATURE);
+    }
+
+    try {
+      while (true) {
+        List<Long> cells = propertyRepository.findActiveH3CellsAfter(
+                checkpoint.getPosition(), PageRequest.of(0, PROPERTY_CELL_PAGE_SIZE));
+        if (cells.isEmpty()) {
+          checkpoint.complete();
+          return true;
+        }
+
+        for (long cell : cells) {
+          boolean fetched = false;
+          for (long target : withNeighbors(cell)) {
+            CellOutcome outcome = warmUpCell(target);
+            if (outcome == CellOutcome.DEFERRED) {
+              return false;
+            }
+            fetched |= budget.record(outcome);
+          }
+          checkpoint.advance(cell, fetched);
+          if (budget.isExhausted()) {
+            return false;
+          }
+        }
+      }
+    } finally {
+      checkpointRepository.save(checkpoint);
+    }
+  }
+
+  /**
+   * 설정 영역 워밍업 (영역 중심에서 가까운 셀부터)
+   * @return 예산이 남아 다음 작업을 이어가도 되면 true
+   */
+  private boolean warmUpRegion(LocationWarmupProperties.Region region, Budget budget) {
+    LocationWarmupCheckpoint checkpoint = checkpointFor(REGION_JOB_KEY_PREFIX + region.getName(), region.signature());
+    if (checkpoint.isCompleted()) {
+      return true;
+    }
+
+    long[] cells = regionCells(region);
+    try {
+      for (int index = Math.toIntExact(checkpoint.getPosition()); index < cells.length; index++) {
+        CellOutcome outcome = warmUpCell(cells[index]);
+        if (outcome == CellOutcome.DEFERRED) {
+          return false;
+        }
+        checkpoint.advance(index + 1, budget.record(outcome));
+        if (budget.isExhausted()) {
+          return false;
+        }
+      }
+      checkpoint.complete();
+      log.info("영역 워밍업 완료: region={}, cells={}", region.getName(), cells.length);
+      return true;
+    } finally {
+      checkpointRepository.save(checkpoint);
+    }
+  }
+
+  private CellOutcome warmUpCell(long h3Cell) {
+    if (locationInfoService.hasLocationInfo(h3Cell)) {
+      return CellOutcome.SKIPPED;
+    }
+
+    LatLng center = h3Util.getH3Center(h3Cell);
+    if (locationInfoService.reuseNeighborLocationInfo(h3Cell, center.lat, center.lng)) {
+      return CellOutcome.REUSED;
+    }
+
+    if (!awaitFetchPermits()) {
+      log.info("Kakao 호출 허용 수 부족, 워밍업 중단 후 다음 실행에서 재개");
+      return CellOutcome.DEFERRED;
+    }
+
+    locationInfoService.refreshLocationInfo(h3Cell, center.lat, center.lng);
+    return CellOutcome.FETCHED;
+  }
+
+  /**
+   * 셀 수집에 필요한 호출 수 + 사용자 요청 몫이 남을 때까지 대기 (최대 MAX_PERMIT_WAITS 주기)
+   */
+  private boolean awaitFetchPermits() {
+    int required = LocationInfoService.KAKAO_CALLS_PER_CELL + properties.getReservedPermits();
+    for (int attempt = 0; attempt < MAX_PERMIT_WAITS; attempt++) {
+      if (kakaoApiClient.availablePermissions() >= required) {
+        return true;
+      }
+      try {
+        Thread.sleep(properties.getPermitWaitMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private long[] withNeighbors(long h3Cell) {
+    long[] neighbors = h3Util.getNeighborCells(h3Cell, 1);
+    long[] cells = new long[neighbors.length + 1];
+    cells[0] = h3Cell;
+    System.arraycopy(neighbors, 0, cells, 1, neighbors.length);
+    return cells;
+  }
+
+  /**
+   * 영역 셀을 중심에서 가까운 순으로 정렬 (설정이 같으면 항상 같은 순서라 순번 체크포인트로 재개 가능)
+   */
+  private long[] regionCells(LocationWarmupProperties.Region region) {
+    double centerLat = (region.getNorthEastLat() + region.getSouthWestLat()) / 2;
+    double centerLng = (region.getNorthEastLng() + region.getSouthWestLng()) / 2;
+    double lngScale = Math.cos(Math.toRadians(centerLat));
+
+    long[] cells = h3Util.getH3CellsForBounds(
+            region.getNorthEastLat(), region.getNorthEastLng(),
+            region.getSouthWestLat(), region.getSouthWestLng(),
+            H3Util.PROPERTY_RESOLUTION);
+
+    return Arrays.stream(cells)
+            .boxed()
+            .sorted(Comparator.<Long>comparingDouble(cell -> {
+              LatLng center = h3Util.getH3Center(cell);
+              double dLat = center.lat - centerLat;
+              double dLng = (center.lng - centerLng) * lngScale;
+              return dLat * dLat + dLng * dLng;
+            }).thenComparing(Comparator.naturalOrder()))
+            .mapToLong(Long::longValue)
+            .toArray();
+  }
+
+  private LocationWarmupCheckpoint checkpointFor(String jobKey, String signature) {
+    LocationWarmupCheckpoint checkpoint = checkpointRepository.findByJobKey(jobKey)
+            .orElseGet(() -> LocationWarmupCheckpoint.start(jobKey, signature));
+    if (!checkpoint.getSignature().equals(signature)) {
+      log.info("워밍업 설정 변경, 처음부터 재시작: job={}", jobKey);
+      checkpoint.restart(signature);
+    }
+    return checkpoint;
+  }
+
+  /**
+   * 실행당 Kakao 수집 셀 수 제한
+   */
+  private static final class Budget {
+
+    private final int limit;
+    private int fetched;
+
+    private Budget(int limit) {
+      this.limit = limit;
+    }
+
+    private boolean record(CellOutcome outcome) {
+      if (outcome == CellOutcome.FETCHED) {
+        fetched++;
+        return true;
+      }
+      return false;
+    }
+
+    private boolean isExhausted() {
+      return fetched >= limit;
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.imjang.domain.property.location.util;
+
+import java.util.Set;
+
+/**
+ * 압축(compact)된 H3 셀 집합을 매물 테이블의 저장 해상도 컬럼별로 나눈 결과
+ * 각 집합은 h3_res5_cell, h3_res7_cell, h3_cell 컬럼의 동등 조건으로 사용
+ */
+public record H3CellCover(
+        Set<Long> res5Cells,
+        Set<Long> res7Cells,
+        Set<Long> res9Cells
+) {
+
+  public boolean isEmpty() {
+    return res5Cells.isEmpty() && res7Cells.isEmpty() && res9Cells.isEmpty();
+  }
+
+  public int size() {
+    return res5Cells.size() + res7Cells.size() + res9Cells.size();
+  }
+}
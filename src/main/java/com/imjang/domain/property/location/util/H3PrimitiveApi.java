@@ -0,0 +1,148 @@
+package com.imjang.domain.property.location.util;
+
+import com.uber.h3core.H3Core;
+import com.uber.h3core.util.LatLng;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * H3 polyfill/compact의 primitive(long[]) 경로
+ * H3Core 공개 API는 List<Long>(셀마다 boxing)만 반환하므로 내부 NativeMethods를 직접 호출해 long[]로 받음
+ * 라이브러리 내부 구조가 달라 핸들을 얻지 못하면 공개 API 결과를 unboxing해서 동일한 결과를 반환
+ * 내부 구조에 의존하므로 h3 버전은 build.gradle에서 고정하고, 고정 버전에서 native 경로가 잡히는지 테스트로 확인
+ */
+@Slf4j
+final class H3PrimitiveApi {
+
+  private static final int NO_FLAGS = 0;
+  private static final int[] NO_HOLES = new int[0];
+  private static final double[] NO_HOLE_VERTS = new double[0];
+
+  private final H3Core h3Core;
+
+  // NativeMethods 인스턴스에 바인딩된 핸들 (null이면 공개 API 사용)
+  private final MethodHandle maxPolygonToCellsSize;
+  private final MethodHandle polygonToCells;
+  private final MethodHandle compactCells;
+
+  H3PrimitiveApi(H3Core h3Core) {
+    this.h3Core = h3Core;
+
+    MethodHandle maxSize = null;
+    MethodHandle polyfill = null;
+    MethodHandle compact = null;
+    try {
+      Field apiField = H3Core.class.getDeclaredField("h3Api");
+      apiField.setAccessible(true);
+      Object api = apiField.get(h3Core);
+      Class<?> apiType = apiField.getType();
+
+      maxSize = bind(api, apiType.getDeclaredMethod("maxPolygonToCellsSize",
+              double[].class, int[].class, double[].class, int.class, int.class));
+      polyfill = bind(api, apiType.getDeclaredMethod("polygonToCells",
+              double[].class, int[].class, double[].class, int.class, int.class, long[].class));
+      compact = bind(api, apiType.getDeclaredMethod("compactCells", long[].class, long[].class));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      log.warn("H3 native 핸들 조회 실패, 공개 API(boxing) 경로 사용: {}", e.toString());
+      maxSize = null;
+      polyfill = null;
+      compact = null;
+    }
+
+    this.maxPolygonToCellsSize = maxSize;
+    this.polygonToCells = polyfill;
+    this.compactCells = compact;
+
+    if (isNative()) {
+      log.info("H3 polyfill/compact 경로: native(long[])");
+    }
+  }
+
+  boolean isNative() {
+    return polygonToCells != null;
+  }
+
+  /**
+   * 위경도 사각형 영역에 중심이 포함되는 셀 목록 (중복 없음, 순서 보장 안 함)
+   */
+  long[] rectangleToCells(double minLat, double minLng, double maxLat, double maxLng, int resolution) {
+    if (!isNative()) {
+      List<Long> cells = h3Core.polygonToCells(List.of(
+              new LatLng(minLat, minLng),
+              new LatLng(maxLat, minLng),
+              new LatLng(maxLat, maxLng),
+              new LatLng(minLat, maxLng)
+      ), null, resolution);
+      return toArray(cells);
+    }
+
+    // 네이티브 API는 [lat, lng] 라디안 순서의 평탄화 배열을 받음
+    double[] verts = {
+            Math.toRadians(minLat), Math.toRadians(minLng),
+            Math.toRadians(maxLat), Math.toRadians(minLng),
+            Math.toRadians(maxLat), Math.toRadians(maxLng),
+            Math.toRadians(minLat), Math.toRadians(maxLng)
+    };
+
+    try {
+      long maxSize = (long) maxPolygonToCellsSize.invokeExact(verts, NO_HOLES, NO_HOLE_VERTS, resolution, NO_FLAGS);
+      long[] out = new long[Math.toIntExact(maxSize)];
+      polygonToCells.invokeExact(verts, NO_HOLES, NO_HOLE_VERTS, resolution, NO_FLAGS, out);
+      return squeeze(out);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("H3 polyfill 호출 실패", t);
+    }
+  }
+
+  /**
+   * 셀 목록 압축 (모든 자식이 포함된 부모 셀로 치환)
+   */
+  long[] compactCells(long[] cells) {
+    if (compactCells == null) {
+      return toArray(h3Core.compactCells(Arrays.stream(cells).boxed().toList()));
+    }
+
+    try {
+      long[] out = new long[cells.length];
+      compactCells.invokeExact(cells, out);
+      return squeeze(out);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("H3 compact 호출 실패", t);
+    }
+  }
+
+  private static MethodHandle bind(Object api, Method method) throws IllegalAccessException {
+    method.setAccessible(true);
+    return MethodHandles.lookup().unreflect(method).bindTo(api);
+  }
+
+  /**
+   * 네이티브 결과 배열은 빈 슬롯이 0으로 채워져 있으므로 앞쪽으로 모은 뒤 잘라냄
+   */
+  private static long[] squeeze(long[] cells) {
+    int size = 0;
+    for (long cell : cells) {
+      if (cell != 0) {
+        cells[size++] = cell;
+      }
+    }
+    return size == cells.length ? cells : Arrays.copyOf(cells, size);
+  }
+
+  private static long[] toArray(List<Long> cells) {
+    long[] result = new long[cells.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = cells.get(i);
+    }
+    return result;
+  }
+}
@@ -1,68 +1,233 @@
 package com.imjang.domain.property.location.util;
 
+import com.uber.h3core.AreaUnit;
 import com.uber.h3core.H3Core;
+import com.uber.h3core.LengthUnit;
 import com.uber.h3core.util.LatLng;
 import java.io.IOException;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+/**
+ * H3 셀 연산 유틸
+ * 셀은 64비트 정수(long)로 다루며, 문자열 주소는 API 응답/레거시 컬럼 변환에만 사용
+ */
 @Slf4j
 @Component
 public class H3Util {
 
-  private static final int H3_RESOLUTION = 9;
+  /**
+   * 매물 저장 해상도
+   */
+  public static final int PROPERTY_RESOLUTION = 9;
+
+  /**
+   * 매물에 함께 저장하는 부모 셀 해상도 (viewport 조회 시 압축 셀 매칭용)
+   */
+  public static final int COARSE_PARENT_RESOLUTION = 5;
+  public static final int MID_PARENT_RESOLUTION = 7;
+
+  /**
+   * 위도 1도당 거리(km)
+   */
+  private static final double KM_PER_DEGREE = 111.32;
+
+  /**
+   * 줌 레벨(1~21)별 H3 해상도. 인덱스가 줌 레벨
+   * 15 이상은 매물 저장 해상도(개별 마커), 그 미만은 클러스터용 상위 해상도
+   */
+  private static final int[] ZOOM_TO_RESOLUTION = {
+          3, 3, 3, 3, 3, 3, 3, 3,   // 0 ~ 7
+          4, 4,                     // 8 ~ 9
+          5, 5,                     // 10 ~ 11
+          6,                        // 12
+          7,                        // 13
+          8,                        // 14
+          9, 9, 9, 9, 9, 9, 9       // 15 ~ 21
+  };
+
   private final H3Core h3Core;
+  private final H3PrimitiveApi primitiveApi;
 
   public H3Util() throws IOException {
     this.h3Core = H3Core.newInstance();
+    this.primitiveApi = new H3PrimitiveApi(h3Core);
   }
 
   /**
-   * 위도, 경도를 H3 인덱스로 변환
+   * 지도 줌 레벨에 대응하는 H3 해상도 반환
    */
-  public String getH3Index(Double latitude, Double longitude) {
-    return h3Core.latLngToCellAddress(latitude, longitude, H3_RESOLUTION);
+  public static int resolutionForZoom(int zoomLevel) {
+    int zoom = Math.max(0, Math.min(zoomLevel, ZOOM_TO_RESOLUTION.length - 1));
+    return ZOOM_TO_RESOLUTION[zoom];
   }
 
   /**
-   * H3 인덱스의 중심점 좌표 조회
+   * 해당 해상도가 클러스터 집계 대상인지 여부 (매물 저장 해상도보다 상위)
    */
-  public LatLng getH3Center(String h3Index) {
-    return h3Core.cellToLatLng(h3Index);
+  public static boolean isClusterResolution(int resolution) {
+    return resolution < PROPERTY_RESOLUTION;
   }
 
   /**
-   * 지도 영역(viewport)에 포함되는 H3 인덱스 집합 반환
+   * 위도, 경도를 H3 셀로 변환
    */
-  public Set<String> getH3IndicesForBounds(Double northEastLat, Double northEastLng,
-                                           Double southWestLat, Double southWestLng,
-                                           int resolution) {
-    try {
-      // viewport를 polygon으로 변환 (시계방향)
-      List<LatLng> boundary = List.of(
-              new LatLng(southWestLat, southWestLng),
-              new LatLng(northEastLat, southWestLng),
-              new LatLng(northEastLat, northEastLng),
-              new LatLng(southWestLat, northEastLng),
-              new LatLng(southWestLat, southWestLng)
-      );
+  public long getH3Cell(double latitude, double longitude) {
+    return getH3Cell(latitude, longitude, PROPERTY_RESOLUTION);
+  }
+
+  /**
+   * 위도, 경도를 지정 해상도의 H3 셀로 변환
+   */
+  public long getH3Cell(double latitude, double longitude, int resolution) {
+    return h3Core.latLngToCell(latitude, longitude, resolution);
+  }
+
+  /**
+   * H3 셀의 상위(부모) 셀 조회
+   */
+  public long getParentCell(long h3Cell, int resolution) {
+    return h3Core.cellToParent(h3Cell, resolution);
+  }
+
+  /**
+   * H3 셀의 중심점 좌표 조회
+   */
+  public LatLng getH3Center(long h3Cell) {
+    return h3Core.cellToLatLng(h3Cell);
+  }
+
+  /**
+   * k-ring 이웃 셀 목록 (자기 자신 제외, 가까운 링 순서)
+   */
+  public long[] getNeighborCells(long h3Cell, int k) {
+    return h3Core.gridDisk(h3Cell, k).stream()
+            .mapToLong(Long::longValue)
+            .filter(cell -> cell != h3Cell)
+            .toArray();
+  }
+
+  /**
+   * 두 좌표 사이의 대원 거리(미터)
+   */
+  public double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+    return h3Core.greatCircleDistance(
+            new LatLng(latitude1, longitude1), new LatLng(latitude2, longitude2), LengthUnit.m);
+  }
 
-      List<Long> h3IndicesLong = h3Core.polygonToCells(boundary, null, resolution);
+  /**
+   * H3 셀을 문자열 주소(15자리 16진수)로 변환 (API 응답, 레거시 컬럼용)
+   */
+  public String toAddress(long h3Cell) {
+    return h3Core.h3ToString(h3Cell);
+  }
 
-      Set<String> h3Indices = h3IndicesLong.stream()
-              .map(h3Core::h3ToString)
-              .collect(java.util.stream.Collectors.toSet());
+  /**
+   * 문자열 주소를 H3 셀로 변환 (레거시 문자열 컬럼 마이그레이션용)
+   */
+  public long toCell(String h3Address) {
+    return h3Core.stringToH3(h3Address);
+  }
 
-      log.debug("Viewport H3 변환: resolution={}, count={}", resolution, h3Indices.size());
+  /**
+   * 지도 영역(viewport)에 포함되는 H3 셀 목록 반환
+   * 넓은 영역은 셀이 수천 개라 boxing 없이 long[]로 반환
+   */
+  public long[] getH3CellsForBounds(Double northEastLat, Double northEastLng,
+                                    Double southWestLat, Double southWestLng,
+                                    int resolution) {
+    try {
+      long[] h3Cells = primitiveApi.rectangleToCells(
+              southWestLat, southWestLng, northEastLat, northEastLng, resolution);
 
-      return h3Indices;
+      log.debug("Viewport H3 변환: resolution={}, count={}", resolution, h3Cells.length);
+
+      return h3Cells;
 
     } catch (Exception e) {
-      log.error("H3 인덱스 집합 생성 실패: bounds=({},{}) to ({},{})",
+      log.error("H3 셀 집합 생성 실패: bounds=({},{}) to ({},{})",
               southWestLat, southWestLng, northEastLat, northEastLng, e);
       throw new RuntimeException("지도 영역 처리 중 오류가 발생했습니다.", e);
     }
   }
+
+  /**
+   * 지도 영역(viewport)과 겹치는 모든 셀 반환 (경계에 걸친 셀 포함)
+   * polyfill은 셀 중심점 포함 여부로 고르므로, 영역을 셀 외접 반지름보다 넓게 확장해서 polyfill
+   */
+  public long[] getCoveringCells(Double northEastLat, Double northEastLng,
+                                 Double southWestLat, Double southWestLng,
+                                 int resolution) {
+    double centerLat = (northEastLat + southWestLat) / 2;
+    long centerCell = h3Core.latLngToCell(centerLat, (northEastLng + southWestLng) / 2, resolution);
+
+    // 정육각형 넓이 = (3√3 / 2) * a^2, 외접 반지름 = 변 길이 a. 위치별 셀 크기 편차를 감안해 1.5배 여유
+    double edgeKm = Math.sqrt(2 * h3Core.cellArea(centerCell, AreaUnit.km2) / (3 * Math.sqrt(3)));
+    double marginKm = edgeKm * 1.5;
+    double marginLat = marginKm / KM_PER_DEGREE;
+    double marginLng = marginKm / (KM_PER_DEGREE * Math.cos(Math.toRadians(centerLat)));
+
+    return primitiveApi.rectangleToCells(
+            southWestLat - marginLat, southWestLng - marginLng,
+            northEastLat + marginLat, northEastLng + marginLng,
+            resolution);
+  }
+
+  /**
+   * 지도 영역(viewport)을 polyfill 했을 때의 셀 개수 추정 (영역 면적 / 영역 중심 셀 면적)
+   * 셀 면적은 위치에 따라 전역 평균과 최대 2배까지 차이나므로 중심 셀 실제 면적을 사용
+   * 실제 polyfill 전에 쿼리 방식을 고르는 용도라 정확도보다 비용(상수 시간)을 우선
+   */
+  public long estimateCellCount(Double northEastLat, Double northEastLng,
+                                Double southWestLat, Double southWestLng,
+                                int resolution) {
+    double heightKm = (northEastLat - southWestLat) * KM_PER_DEGREE;
+    double widthKm = (northEastLng - southWestLng) * KM_PER_DEGREE
+            * Math.cos(Math.toRadians((northEastLat + southWestLat) / 2));
+    double areaKm2 = Math.abs(heightKm * widthKm);
+
+    long centerCell = h3Core.latLngToCell(
+            (northEastLat + southWestLat) / 2, (northEastLng + southWestLng) / 2, resolution);
+
+    return (long) Math.ceil(areaKm2 / h3Core.cellArea(centerCell, AreaUnit.km2));
+  }
+
+  /**
+   * 매물 저장 해상도 셀 목록을 compact 후 저장 컬럼 해상도(5/7/9)로 정규화
+   * compact 결과 셀의 해상도가 컬럼 해상도와 다르면 가장 가까운 하위 컬럼 해상도의 자식 셀로 펼침
+   * (예: res 6 셀 -> res 7 자식 7개, res 8 셀 -> res 9 자식 7개)
+   */
+  public H3CellCover getCellCover(long[] h3Cells) {
+    long[] compacted = primitiveApi.compactCells(h3Cells);
+
+    Set<Long> res5 = new HashSet<>();
+    Set<Long> res7 = new HashSet<>();
+    Set<Long> res9 = new HashSet<>();
+
+    for (long cell : compacted) {
+      int resolution = h3Core.getResolution(cell);
+      if (resolution <= COARSE_PARENT_RESOLUTION) {
+        addAtResolution(res5, cell, resolution, COARSE_PARENT_RESOLUTION);
+      } else if (resolution <= MID_PARENT_RESOLUTION) {
+        addAtResolution(res7, cell, resolution, MID_PARENT_RESOLUTION);
+      } else {
+        addAtResolution(res9, cell, resolution, PROPERTY_RESOLUTION);
+      }
+    }
+
+    log.debug("H3 셀 압축: input={}, compacted={}, res5={}, res7={}, res9={}",
+            h3Cells.length, compacted.length, res5.size(), res7.size(), res9.size());
+
+    return new H3CellCover(res5, res7, res9);
+  }
+
+  private void addAtResolution(Set<Long> target, long cell, int resolution, int targetResolution) {
+    if (resolution == targetResolution) {
+      target.add(cell);
+    } else {
+      target.addAll(h3Core.cellToChildren(cell, targetResolution));
+    }
+  }
 }
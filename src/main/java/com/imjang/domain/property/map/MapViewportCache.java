@@ -0,0 +1,106 @@
+package com.imjang.domain.property.map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.imjang.domain.property.dto.response.MapMarkersResponse;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+/**
+ * viewport 단위 마커 응답 캐시
+ * 좌표를 줌 레벨별 격자(GRID_PIXELS 픽셀)에 맞춰 바깥쪽으로 스냅한 영역을 키로 사용하므로
+ * 같은 지역을 오가는 요청은 같은 항목을 재사용함
+ * 키에 매물 데이터 버전이 포함되어 매물 변경 후에는 새 항목으로 조회되고, 이전 항목은 TTL로 정리됨
+ */
+@Component
+public class MapViewportCache {
+
+  /**
+   * 스냅 격자 크기(화면 픽셀). 응답에는 viewport 바깥 최대 한 칸만큼의 마커가 더 포함될 수 있음
+   */
+  static final int GRID_PIXELS = 64;
+
+  private static final Duration TTL = Duration.ofSeconds(60);
+
+  private final Cache<Key, MapMarkersResponse> responses = Caffeine.newBuilder()
+          .maximumSize(10_000)
+          .expireAfterWrite(TTL)
+          .build();
+
+  /**
+   * 요청 영역을 격자에 스냅한 캐시 키
+   */
+  public Key keyOf(Long userId, String version, double northEastLat, double northEastLng,
+                   double southWestLat, double southWestLng, int zoomLevel) {
+    double step = gridStep(zoomLevel);
+    return new Key(
+            userId,
+            version,
+            zoomLevel,
+            (long) Math.floor(southWestLat / step),
+            (long) Math.floor(southWestLng / step),
+            (long) Math.ceil(northEastLat / step),
+            (long) Math.ceil(northEastLng / step)
+    );
+  }
+
+  public MapMarkersResponse get(Key key) {
+    return responses.getIfPresent(key);
+  }
+
+  /**
+   * 조회 결과 저장. 조회는 캐시 잠금 밖에서 수행하므로 같은 키 동시 요청은 각각 조회 후 마지막 결과가 남음
+   */
+  public void put(Key key, MapMarkersResponse response) {
+    responses.put(key, response);
+  }
+
+  /**
+   * 웹 메르카토르: 줌 z에서 픽셀당 경도 = 360 / (256 * 2^z)
+   */
+  private static double gridStep(int zoomLevel) {
+    return GRID_PIXELS * 360.0 / (256L << zoomLevel);
+  }
+
+  public record Key(
+          Long userId,
+          String version,
+          int zoomLevel,
+          long south,
+          long west,
+          long north,
+          long east
+  ) {
+
+    public double southWestLat() {
+      return Math.max(-90, south * gridStep(zoomLevel));
+    }
+
+    public double southWestLng() {
+      return Math.max(-180, west * gridStep(zoomLevel));
+    }
+
+    public double northEastLat() {
+      return Math.min(90, north * gridStep(zoomLevel));
+    }
+
+    public double northEastLng() {
+      return Math.min(180, east * gridStep(zoomLevel));
+    }
+
+    /**
+     * 스냅 영역 포함 여부 (전체 응답은 이 영역의 마커를 담으므로 증분 계산도 이 영역 기준)
+     */
+    public boolean contains(double latitude, double longitude) {
+      return latitude >= southWestLat() && latitude <= northEastLat()
+              && longitude >= southWestLng() && longitude <= northEastLng();
+    }
+
+    /**
+     * 같은 버전, 같은 스냅 영역이면 응답 본문이 같으므로 그대로 강한 ETag로 사용
+     */
+    public String eTag() {
+      return "\"" + version + ":" + zoomLevel + ":" + south + ":" + west + ":" + north + ":" + east + "\"";
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.imjang.domain.property.map;
+
+/**
+ * 인코딩된 마커 벡터 타일과 생성 기준 데이터 버전
+ */
+public record MarkerTile(
+        byte[] data,
+        String version
+) {
+}
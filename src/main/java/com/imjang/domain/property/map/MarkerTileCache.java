@@ -0,0 +1,46 @@
+package com.imjang.domain.property.map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인코딩된 마커 벡터 타일 캐시
+ * 키에 매물 데이터 버전이 포함되므로 같은 키의 타일 내용은 바뀌지 않고, 변경 후 이전 버전 타일은 TTL로 정리됨
+ */
+@Component
+public class MarkerTileCache {
+
+  private static final long MAX_BYTES = 64L * 1024 * 1024;
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  private final Cache<Key, MarkerTile> tiles = Caffeine.newBuilder()
+          .maximumWeight(MAX_BYTES)
+          .weigher((Key key, MarkerTile tile) -> tile.data().length + 64)
+          .expireAfterWrite(TTL)
+          .build();
+
+  public Key keyOf(Long userId, String version, TileCoordinate tile) {
+    return new Key(userId, version, tile);
+  }
+
+  public MarkerTile get(Key key) {
+    return tiles.getIfPresent(key);
+  }
+
+  public void put(Key key, MarkerTile tile) {
+    tiles.put(key, tile);
+  }
+
+  public record Key(
+          Long userId,
+          String version,
+          TileCoordinate tile
+  ) {
+
+    public String eTag() {
+      return "\"" + version + ":" + tile.z() + "/" + tile.x() + "/" + tile.y() + "\"";
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.imjang.domain.property.map;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매물 마커를 Mapbox Vector Tile(v2.1) 바이너리로 인코딩
+ * 점 지오메트리만 사용하므로 protobuf 라이브러리 없이 필요한 필드만 직접 기록
+ */
+public final class MarkerTileEncoder {
+
+  public static final String LAYER_NAME = "properties";
+  public static final int EXTENT = 4096;
+
+  private static final int MVT_VERSION = 2;
+  private static final int GEOM_TYPE_POINT = 1;
+  private static final int COMMAND_MOVE_TO_ONE = (1 & 0x7) | (1 << 3);
+
+  // 속성 키 (인덱스가 feature tags의 키 번호)
+  private static final List<String> KEYS = List.of(
+          "priceType", "deposit", "monthlyRent", "price", "rating", "thumbnailUrl"
+  );
+
+  // protobuf wire type
+  private static final int VARINT = 0;
+  private static final int LENGTH_DELIMITED = 2;
+
+  private MarkerTileEncoder() {
+  }
+
+  /**
+   * 타일 인코딩. 마커가 없으면 빈 타일(0바이트)
+   */
+  public static byte[] encode(List<PropertyMarker> markers, TileCoordinate tile) {
+    if (markers.isEmpty()) {
+      return new byte[0];
+    }
+
+    // 같은 값은 values 테이블에 한 번만 기록
+    Map<Object, Integer> values = new LinkedHashMap<>();
+    List<byte[]> features = new ArrayList<>(markers.size());
+    for (PropertyMarker marker : markers) {
+      features.add(encodeFeature(marker, tile, values));
+    }
+
+    Buffer layer = new Buffer();
+    layer.writeVarintField(15, MVT_VERSION);
+    layer.writeStringField(1, LAYER_NAME);
+    for (byte[] feature : features) {
+      layer.writeBytesField(2, feature);
+    }
+    for (String key : KEYS) {
+      layer.writeStringField(3, key);
+    }
+    for (Object value : values.keySet()) {
+      layer.writeBytesField(4, encodeValue(value));
+    }
+    layer.writeVarintField(5, EXTENT);
+
+    Buffer result = new Buffer();
+    result.writeBytesField(3, layer.toByteArray());
+    return result.toByteArray();
+  }
+
+  private static byte[] encodeFeature(PropertyMarker marker, TileCoordinate tile, Map<Object, Integer> values) {
+    Buffer tags = new Buffer();
+    Object[] properties = {
+            marker.priceType() != null ? marker.priceType().name() : null,
+            marker.deposit(),
+            marker.monthlyRent(),
+            marker.price(),
+            marker.rating() != null ? marker.rating().longValue() : null,
+            marker.thumbnailUrl()
+    };
+    for (int key = 0; key < properties.length; key++) {
+      if (properties[key] == null) {
+        continue;
+      }
+      Integer valueIndex = values.computeIfAbsent(properties[key], v -> values.size());
+      tags.writeVarint(key);
+      tags.writeVarint(valueIndex);
+    }
+
+    // 점 하나: MoveTo(1) + 커서(0,0) 기준 zigzag 상대 좌표
+    long[] pixel = tile.toTilePixel(marker.latitude(), marker.longitude(), EXTENT);
+    Buffer geometry = new Buffer();
+    geometry.writeVarint(COMMAND_MOVE_TO_ONE);
+    geometry.writeVarint(zigzag(pixel[0]));
+    geometry.writeVarint(zigzag(pixel[1]));
+
+    Buffer feature = new Buffer();
+    feature.writeVarintField(1, marker.id());
+    feature.writeBytesField(2, tags.toByteArray());
+    feature.writeVarintField(3, GEOM_TYPE_POINT);
+    feature.writeBytesField(4, geometry.toByteArray());
+    return feature.toByteArray();
+  }
+
+  /**
+   * Value 메시지: 문자열은 string_value(1), 숫자는 int64_value(4)
+   */
+  private static byte[] encodeValue(Object value) {
+    Buffer buffer = new Buffer();
+    if (value instanceof Long number) {
+      buffer.writeVarintField(4, number);
+    } else {
+      buffer.writeStringField(1, value.toString());
+    }
+    return buffer.toByteArray();
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private static final class Buffer extends ByteArrayOutputStream {
+
+    void writeVarint(long value) {
+      while ((value & ~0x7FL) != 0) {
+        write((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      write((int) value);
+    }
+
+    void writeVarintField(int field, long value) {
+      writeVarint(((long) field << 3) | VARINT);
+      writeVarint(value);
+    }
+
+    void writeBytesField(int field, byte[] bytes) {
+      writeVarint(((long) field << 3) | LENGTH_DELIMITED);
+      writeVarint(bytes.length);
+      writeBytes(bytes);
+    }
+
+    void writeStringField(int field, String value) {
+      writeBytesField(field, value.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
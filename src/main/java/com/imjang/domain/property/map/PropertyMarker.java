@@ -0,0 +1,43 @@
+package com.imjang.domain.property.map;
+
+import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.entity.PropertyType;
+
+/**
+ * 지도 마커 표시에 필요한 매물 필드만 담은 스냅샷 (인메모리 마커 인덱스 저장 단위)
+ */
+public record PropertyMarker(
+        Long id,
+        Double latitude,
+        Double longitude,
+        Long h3Cell,
+        String address,
+        PropertyType priceType,
+        Long deposit,
+        Long monthlyRent,
+        Long price,
+        Integer rating,
+        String thumbnailUrl
+) {
+
+  public static PropertyMarker of(Property property, String thumbnailUrl) {
+    return new PropertyMarker(
+            property.getId(),
+            property.getLatitude(),
+            property.getLongitude(),
+            property.getH3Cell(),
+            property.getAddress(),
+            property.getPriceType(),
+            property.getDeposit(),
+            property.getMonthlyRent(),
+            property.getPrice(),
+            property.getRating(),
+            thumbnailUrl
+    );
+  }
+
+  public boolean isWithin(double southWestLat, double southWestLng, double northEastLat, double northEastLng) {
+    return latitude >= southWestLat && latitude <= northEastLat
+            && longitude >= southWestLng && longitude <= northEastLng;
+  }
+}
@@ -0,0 +1,151 @@
+package com.imjang.domain.property.map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.entity.PropertyImage;
+import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.repository.PropertyImageRepository;
+import com.imjang.domain.property.repository.PropertyRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 인메모리 매물 마커 인덱스
+ * 첫 지도 조회 시 사용자 매물 전체를 적재하고(res 7 부모 셀 기준 버킷), 이후 이동(pan)은 DB 없이 메모리에서 처리
+ * 매물 생성/수정/삭제 이벤트로 갱신되며, 전체 마커 수 기준 용량과 미사용 시간으로 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PropertyMarkerIndex {
+
+  /**
+   * 인덱스 버킷 해상도 (res 7, 약 5km2)
+   */
+  static final int INDEX_RESOLUTION = H3Util.MID_PARENT_RESOLUTION;
+
+  /**
+   * 사용자당 인덱스 상한. 초과하면 인덱스 대상에서 제외하고 DB로 조회
+   */
+  static final int MAX_INDEXED_PROPERTIES = 5_000;
+
+  private static final long MAX_TOTAL_MARKERS = 500_000;
+  private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+  private final PropertyRepository propertyRepository;
+  private final PropertyImageRepository propertyImageRepository;
+  private final H3Util h3Util;
+
+  private final Cache<Long, UserMarkerIndex> indexes = Caffeine.newBuilder()
+          .maximumWeight(MAX_TOTAL_MARKERS)
+          .weigher((Long userId, UserMarkerIndex index) -> Math.max(1, index.size()))
+          .expireAfterAccess(IDLE_TIMEOUT)
+          .build();
+
+  /**
+   * 영역 내 마커 조회
+   * 인덱스 대상이 아닌 사용자(매물 수 상한 초과)는 empty를 반환하므로 DB로 조회해야 함
+   */
+  public Optional<List<PropertyMarker>> findInBounds(Long userId,
+                                                     double northEastLat, double northEastLng,
+                                                     double southWestLat, double southWestLng) {
+    UserMarkerIndex index = indexes.get(userId, this::load);
+    if (index.isOversized()) {
+      return Optional.empty();
+    }
+
+    // 조회할 셀이 인덱스 버킷 수보다 많으면 전체 스캔이 더 저렴
+    long estimatedCells = h3Util.estimateCellCount(
+            northEastLat, northEastLng, southWestLat, southWestLng, INDEX_RESOLUTION);
+    if (estimatedCells > index.cellCount()) {
+      return Optional.of(index.findAll(southWestLat, southWestLng, northEastLat, northEastLng));
+    }
+
+    long[] cells = h3Util.getCoveringCells(
+            northEastLat, northEastLng, southWestLat, southWestLng, INDEX_RESOLUTION);
+    return Optional.of(index.findInCells(cells, southWestLat, southWestLng, northEastLat, northEastLng));
+  }
+
+  /**
+   * 매물 변경 반영 (해당 사용자 인덱스가 적재된 경우에만)
+   * 삭제된 매물이면 제거, 아니면 추가 또는 교체
+   */
+  public void refresh(Property property) {
+    Long userId = property.getUser().getId();
+    if (property.getDeletedAt() != null) {
+      remove(userId, property.getId());
+      return;
+    }
+
+    if (indexes.getIfPresent(userId) == null) {
+      return;
+    }
+
+    // 썸네일 조회는 캐시 잠금 밖에서 수행
+    String thumbnailUrl = propertyImageRepository
+            .findByPropertyIdAndDisplayOrder(property.getId(), 0)
+            .map(PropertyImage::getThumbnailUrl)
+            .orElse(null);
+    PropertyMarker marker = PropertyMarker.of(property, thumbnailUrl);
+    long cell = indexCell(marker);
+
+    indexes.asMap().computeIfPresent(userId, (id, index) -> {
+      if (index.isOversized()) {
+        return index;
+      }
+      UserMarkerIndex updated = index.with(marker, cell);
+      return updated.size() > MAX_INDEXED_PROPERTIES ? UserMarkerIndex.oversized() : updated;
+    });
+  }
+
+  /**
+   * 매물 제거 (해당 사용자 인덱스가 적재된 경우에만)
+   */
+  public void remove(Long userId, Long propertyId) {
+    indexes.asMap().computeIfPresent(userId, (id, index) -> index.without(propertyId));
+  }
+
+  /**
+   * 사용자 인덱스 폐기 (다음 조회 시 다시 적재)
+   */
+  public void invalidate(Long userId) {
+    indexes.invalidate(userId);
+  }
+
+  private UserMarkerIndex load(Long userId) {
+    long count = propertyRepository.countByUserIdAndDeletedAtIsNull(userId);
+    if (count > MAX_INDEXED_PROPERTIES) {
+      log.info("마커 인덱스 상한 초과, DB 조회 사용: userId={}, count={}", userId, count);
+      return UserMarkerIndex.oversized();
+    }
+    if (count == 0) {
+      return UserMarkerIndex.empty();
+    }
+
+    List<PropertyMarker> markers = propertyRepository.findMarkersByUserId(userId);
+
+    Map<Long, List<PropertyMarker>> markersByCell = new HashMap<>();
+    for (PropertyMarker marker : markers) {
+      markersByCell.computeIfAbsent(indexCell(marker), k -> new ArrayList<>()).add(marker);
+    }
+
+    log.debug("마커 인덱스 적재: userId={}, properties={}, cells={}",
+            userId, markers.size(), markersByCell.size());
+
+    return UserMarkerIndex.of(markersByCell);
+  }
+
+  private long indexCell(PropertyMarker marker) {
+    return marker.h3Cell() != null
+            ? h3Util.getParentCell(marker.h3Cell(), INDEX_RESOLUTION)
+            : h3Util.getH3Cell(marker.latitude(), marker.longitude(), INDEX_RESOLUTION);
+  }
+}
@@ -0,0 +1,51 @@
+package com.imjang.domain.property.map;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 매물 데이터 버전 (증분 마커 응답의 기준)
+ * 버전 토큰은 "epoch-counter" 형식. epoch는 항목 생성 시 무작위로 정해지므로
+ * 만료/재시작/다른 인스턴스에서 발급된 토큰은 항상 불일치로 판정되어 전체 응답으로 처리됨
+ */
+@Component
+public class PropertyMarkerVersions {
+
+  private static final Duration IDLE_TIMEOUT = Duration.ofHours(1);
+
+  private final Cache<Long, Version> versions = Caffeine.newBuilder()
+          .maximumSize(100_000)
+          .expireAfterAccess(IDLE_TIMEOUT)
+          .build();
+
+  /**
+   * 현재 버전 토큰
+   */
+  public String current(Long userId) {
+    return versions.get(userId, id -> new Version()).token();
+  }
+
+  /**
+   * 매물 변경 시 버전 증가 (발급된 적 없는 사용자는 무시)
+   */
+  public void increment(Long userId) {
+    Version version = versions.getIfPresent(userId);
+    if (version != null) {
+      version.counter.incrementAndGet();
+    }
+  }
+
+  private static final class Version {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE), 36);
+    private final AtomicLong counter = new AtomicLong();
+
+    private String token() {
+      return epoch + "-" + counter.get();
+    }
+  }
+}
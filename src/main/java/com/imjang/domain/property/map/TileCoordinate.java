@@ -0,0 +1,70 @@
+package com.imjang.domain.property.map;
+
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
+
+/**
+ * 웹 메르카토르(XYZ) 타일 좌표
+ */
+public record TileCoordinate(int z, int x, int y) {
+
+  public static final int MAX_ZOOM = 21;
+
+  /**
+   * 인접 타일 경계의 마커 아이콘이 잘리지 않도록 타일 바깥으로 더 조회하는 비율 (extent 4096 기준 64)
+   */
+  private static final double BUFFER_RATIO = 64.0 / MarkerTileEncoder.EXTENT;
+
+  public static TileCoordinate of(int z, int x, int y) {
+    if (z < 0 || z > MAX_ZOOM) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    int tileCount = 1 << z;
+    if (x < 0 || x >= tileCount || y < 0 || y >= tileCount) {
+      throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+    }
+    return new TileCoordinate(z, x, y);
+  }
+
+  public double northLat() {
+    return tileLat(y - BUFFER_RATIO);
+  }
+
+  public double southLat() {
+    return tileLat(y + 1 + BUFFER_RATIO);
+  }
+
+  public double westLng() {
+    return Math.max(-180, tileLng(x - BUFFER_RATIO));
+  }
+
+  public double eastLng() {
+    return Math.min(180, tileLng(x + 1 + BUFFER_RATIO));
+  }
+
+  /**
+   * 위경도를 타일 내부 좌표(0~extent)로 변환. 버퍼 영역의 점은 범위를 벗어난 값이 됨
+   */
+  long[] toTilePixel(double latitude, double longitude, int extent) {
+    double tileCount = 1 << z;
+    double worldX = (longitude + 180) / 360 * tileCount;
+    double worldY = (1 - asinh(Math.tan(Math.toRadians(latitude))) / Math.PI) / 2 * tileCount;
+    return new long[] {
+            Math.round((worldX - x) * extent),
+            Math.round((worldY - y) * extent)
+    };
+  }
+
+  private double tileLng(double tileX) {
+    return tileX / (1 << z) * 360 - 180;
+  }
+
+  private double tileLat(double tileY) {
+    double n = Math.PI * (1 - 2 * tileY / (1 << z));
+    return Math.toDegrees(Math.atan(Math.sinh(n)));
+  }
+
+  private static double asinh(double value) {
+    return Math.log(value + Math.sqrt(value * value + 1));
+  }
+}
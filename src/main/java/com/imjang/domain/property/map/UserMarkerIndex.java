@@ -0,0 +1,143 @@
+package com.imjang.domain.property.map;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자 한 명의 매물 마커 인덱스 (H3 셀 -> 마커 목록)
+ * 조회 스레드와 이벤트 반영 스레드가 동시에 접근하므로 불변 객체로 두고 변경 시 새 인덱스를 생성
+ */
+public final class UserMarkerIndex {
+
+  private static final UserMarkerIndex OVERSIZED = new UserMarkerIndex(Map.of(), Map.of(), true);
+
+  private final Map<Long, List<PropertyMarker>> markersByCell;
+  private final Map<Long, Long> cellByPropertyId;
+  private final boolean oversized;
+
+  private UserMarkerIndex(Map<Long, List<PropertyMarker>> markersByCell,
+                          Map<Long, Long> cellByPropertyId,
+                          boolean oversized) {
+    this.markersByCell = markersByCell;
+    this.cellByPropertyId = cellByPropertyId;
+    this.oversized = oversized;
+  }
+
+  /**
+   * 매물 수가 인덱스 상한을 넘는 사용자 표시용 (DB 조회로 처리)
+   */
+  public static UserMarkerIndex oversized() {
+    return OVERSIZED;
+  }
+
+  public static UserMarkerIndex empty() {
+    return new UserMarkerIndex(Map.of(), Map.of(), false);
+  }
+
+  public boolean isOversized() {
+    return oversized;
+  }
+
+  public int size() {
+    return cellByPropertyId.size();
+  }
+
+  public int cellCount() {
+    return markersByCell.size();
+  }
+
+  /**
+   * 지정한 셀에 속한 마커 중 영역 안에 있는 것만 반환
+   */
+  public List<PropertyMarker> findInCells(long[] cells,
+                                          double southWestLat, double southWestLng,
+                                          double northEastLat, double northEastLng) {
+    List<PropertyMarker> result = new ArrayList<>();
+    for (long cell : cells) {
+      List<PropertyMarker> markers = markersByCell.get(cell);
+      if (markers != null) {
+        addWithin(result, markers, southWestLat, southWestLng, northEastLat, northEastLng);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 전체 마커 중 영역 안에 있는 것만 반환 (조회 셀이 인덱스 셀보다 많은 넓은 영역용)
+   */
+  public List<PropertyMarker> findAll(double southWestLat, double southWestLng,
+                                      double northEastLat, double northEastLng) {
+    List<PropertyMarker> result = new ArrayList<>();
+    for (List<PropertyMarker> markers : markersByCell.values()) {
+      addWithin(result, markers, southWestLat, southWestLng, northEastLat, northEastLng);
+    }
+    return result;
+  }
+
+  /**
+   * 마커 추가 또는 교체
+   */
+  public UserMarkerIndex with(PropertyMarker marker, long cell) {
+    UserMarkerIndex removed = without(marker.id());
+
+    Map<Long, List<PropertyMarker>> markers = new HashMap<>(removed.markersByCell);
+    List<PropertyMarker> cellMarkers = new ArrayList<>(markers.getOrDefault(cell, List.of()));
+    cellMarkers.add(marker);
+    markers.put(cell, List.copyOf(cellMarkers));
+
+    Map<Long, Long> cells = new HashMap<>(removed.cellByPropertyId);
+    cells.put(marker.id(), cell);
+
+    return new UserMarkerIndex(markers, cells, false);
+  }
+
+  /**
+   * 마커 제거 (없으면 그대로 반환)
+   */
+  public UserMarkerIndex without(Long propertyId) {
+    Long cell = cellByPropertyId.get(propertyId);
+    if (cell == null) {
+      return this;
+    }
+
+    Map<Long, List<PropertyMarker>> markers = new HashMap<>(markersByCell);
+    List<PropertyMarker> remaining = markers.get(cell).stream()
+            .filter(marker -> !marker.id().equals(propertyId))
+            .toList();
+    if (remaining.isEmpty()) {
+      markers.remove(cell);
+    } else {
+      markers.put(cell, remaining);
+    }
+
+    Map<Long, Long> cells = new HashMap<>(cellByPropertyId);
+    cells.remove(propertyId);
+
+    return new UserMarkerIndex(markers, cells, false);
+  }
+
+  /**
+   * 셀이 계산된 마커 목록으로 인덱스 생성
+   */
+  public static UserMarkerIndex of(Map<Long, List<PropertyMarker>> markersByCell) {
+    Map<Long, List<PropertyMarker>> markers = new HashMap<>();
+    Map<Long, Long> cells = new HashMap<>();
+    markersByCell.forEach((cell, cellMarkers) -> {
+      markers.put(cell, List.copyOf(cellMarkers));
+      cellMarkers.forEach(marker -> cells.put(marker.id(), cell));
+    });
+    return new UserMarkerIndex(markers, cells, false);
+  }
+
+  private static void addWithin(List<PropertyMarker> result, List<PropertyMarker> markers,
+                                double southWestLat, double southWestLng,
+                                double northEastLat, double northEastLng) {
+    for (PropertyMarker marker : markers) {
+      if (marker.isWithin(southWestLat, southWestLng, northEastLat, northEastLng)) {
+        result.add(marker);
+      }
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.imjang.domain.property.migration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imjang.domain.property.location.dto.AmenityInfo;
+import com.imjang.domain.property.location.dto.TransitInfo;
+import com.imjang.domain.property.location.entity.LocationAmenity;
+import com.imjang.domain.property.location.entity.LocationCache;
+import com.imjang.domain.property.location.repository.LocationAmenityRepository;
+import com.imjang.domain.property.location.repository.LocationCacheRepository;
+import com.imjang.infrastructure.kakao.dto.KakaoCategoryCode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 위치 캐시의 레거시 JSON(transit_data, amenities_data)을 지하철 컬럼과 location_amenity 행으로 백필
+ * 대상 조회가 h3_cell을 요구하므로 StartupBackfillRunner에서 H3 셀 백필 이후 실행하며, 옮긴 행은 JSON을 비워 대상에서 제외되므로 재실행해도 안전
+ * 파싱할 수 없는 JSON은 버리고 모든 카테고리를 누락으로 기록해 다음 갱신 때 다시 수집되게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationCacheColumnBackfillRunner {
+
+  private static final int BATCH_SIZE = 500;
+  private static final String ALL_CATEGORY_CODES = Arrays.stream(KakaoCategoryCode.values())
+          .map(KakaoCategoryCode::getCode)
+          .collect(Collectors.joining(","));
+
+  private final LocationCacheRepository locationCacheRepository;
+  private final LocationAmenityRepository locationAmenityRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate transactionTemplate;
+
+  public void backfill() {
+    int total = 0;
+    try {
+      int updated;
+      do {
+        updated = transactionTemplate.execute(status -> backfillBatch());
+        total += updated;
+      } while (updated == BATCH_SIZE);
+    } catch (Exception e) {
+      log.error("위치 캐시 컬럼 백필 실패: 처리된 수={}", total, e);
+      return;
+    }
+
+    if (total > 0) {
+      log.info("위치 캐시 컬럼 백필 완료: {}개", total);
+    }
+  }
+
+  private int backfillBatch() {
+    List<LocationCache> targets = locationCacheRepository.findLegacyDataBackfillTargets(
+            PageRequest.of(0, BATCH_SIZE));
+    for (LocationCache cache : targets) {
+      migrate(cache);
+    }
+    return targets.size();
+  }
+
+  private void migrate(LocationCache cache) {
+    LocalDateTime fetchedAt = cache.getLastFetchedAt();
+    TransitInfo transit = null;
+    List<AmenityInfo> amenities = List.of();
+    try {
+      if (cache.getTransitData() != null) {
+        transit = objectMapper.readValue(cache.getTransitData(), TransitInfo.class);
+      }
+      if (cache.getAmenitiesData() != null) {
+        List<AmenityInfo> parsed = objectMapper.readValue(cache.getAmenitiesData(),
+                objectMapper.getTypeFactory().constructCollectionType(List.class, AmenityInfo.class));
+        amenities = parsed == null ? List.of() : parsed;
+      }
+    } catch (JsonProcessingException e) {
+      log.warn("위치 캐시 JSON 파싱 실패, 재수집 대상으로 전환 - h3Cell: {}", cache.getH3Cell());
+      cache.migrateLegacyData(null, null, null, null, null, null, null);
+      cache.markMissing(ALL_CATEGORY_CODES);
+      return;
+    }
+
+    if (transit == null) {
+      cache.migrateLegacyData(null, null, null, null, null, null, null);
+    } else {
+      cache.migrateLegacyData(transit.nearestSubwayStation(), transit.subwayDistance(), transit.subwayWalkTime(),
+              transit.busStopCount(), transit.subwayLatitude(), transit.subwayLongitude(),
+              transit.fetchedAt() != null ? transit.fetchedAt() : fetchedAt);
+    }
+
+    // 이미 새 형식으로 저장된 카테고리가 있으면 그 셀은 건너뜀
+    if (amenities.isEmpty() || locationAmenityRepository.existsByH3Cell(cache.getH3Cell())) {
+      return;
+    }
+    locationAmenityRepository.saveAll(amenities.stream()
+            .map(amenity -> LocationAmenity.builder()
+                    .h3Cell(cache.getH3Cell())
+                    .categoryCode(amenity.categoryCode())
+                    .categoryName(amenity.category())
+                    .count(amenity.count())
+                    .nearestName(amenity.nearestName())
+                    .nearestDistance(amenity.nearestDistance())
+                    .nearestLat(amenity.nearestLatitude())
+                    .nearestLng(amenity.nearestLongitude())
+                    .fetchedAt(amenity.fetchedAt() != null ? amenity.fetchedAt() : fetchedAt)
+                    .build())
+            .toList());
+  }
+}
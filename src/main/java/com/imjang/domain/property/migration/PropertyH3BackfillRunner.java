@@ -0,0 +1,77 @@
+package com.imjang.domain.property.migration;
+
+import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.location.entity.LocationCache;
+import com.imjang.domain.property.location.repository.LocationCacheRepository;
+import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.repository.PropertyRepository;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 레거시 문자열 H3 인덱스(h3_index)를 정수 셀 컬럼(h3_cell 및 부모 셀)으로 백필
+ * 컬럼 추가 이전에 저장된 매물/위치 캐시는 정수 셀이 비어 있어 조회에 걸리지 않으므로
+ * 애플리케이션 시작 시 배치 단위로 채움 (이미 채워진 행은 대상에서 제외되어 재실행해도 안전)
+ * StartupBackfillRunner에서 가장 먼저 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PropertyH3BackfillRunner {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final PropertyRepository propertyRepository;
+  private final LocationCacheRepository locationCacheRepository;
+  private final H3Util h3Util;
+  private final TransactionTemplate transactionTemplate;
+
+  public void backfill() {
+    runInBatches("매물", this::backfillPropertyBatch);
+    runInBatches("위치 캐시", this::backfillLocationCacheBatch);
+  }
+
+  private void runInBatches(String target, Supplier<Integer> batch) {
+    int total = 0;
+    try {
+      int updated;
+      do {
+        updated = transactionTemplate.execute(status -> batch.get());
+        total += updated;
+      } while (updated == BATCH_SIZE);
+    } catch (Exception e) {
+      log.error("H3 셀 백필 실패: 대상={}, 처리된 수={}", target, total, e);
+      return;
+    }
+
+    if (total > 0) {
+      log.info("H3 셀 백필 완료: 대상={}, {}개", target, total);
+    }
+  }
+
+  private int backfillPropertyBatch() {
+    List<Property> targets = propertyRepository.findH3CellBackfillTargets(PageRequest.of(0, BATCH_SIZE));
+    for (Property property : targets) {
+      long h3Cell = h3Util.toCell(property.getH3Index());
+      property.assignH3Cells(
+              h3Cell,
+              h3Util.getParentCell(h3Cell, H3Util.COARSE_PARENT_RESOLUTION),
+              h3Util.getParentCell(h3Cell, H3Util.MID_PARENT_RESOLUTION)
+      );
+    }
+    return targets.size();
+  }
+
+  private int backfillLocationCacheBatch() {
+    List<LocationCache> targets = locationCacheRepository.findH3CellBackfillTargets(PageRequest.of(0, BATCH_SIZE));
+    for (LocationCache cache : targets) {
+      cache.assignH3Cell(h3Util.toCell(cache.getH3Index()));
+    }
+    return targets.size();
+  }
+}
@@ -0,0 +1,25 @@
+package com.imjang.domain.property.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 레거시 데이터 백필을 정해진 순서로 실행
+ * 컬럼 백필은 h3_cell이 채워진 행만 대상으로 하므로 H3 셀 백필이 반드시 먼저 끝나야 함
+ * (리스너를 따로 두면 등록 순서에 따라 실행 순서가 바뀔 수 있어 한 리스너에서 순차 실행)
+ */
+@Component
+@RequiredArgsConstructor
+public class StartupBackfillRunner {
+
+  private final PropertyH3BackfillRunner propertyH3BackfillRunner;
+  private final LocationCacheColumnBackfillRunner locationCacheColumnBackfillRunner;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    propertyH3BackfillRunner.backfill();
+    locationCacheColumnBackfillRunner.backfill();
+  }
+}
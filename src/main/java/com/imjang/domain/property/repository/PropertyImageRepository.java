@@ -40,5 +40,15 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, Lo
                                                     @Param("after") LocalDateTime after,
                                                     Pageable pageable);
 
+  // 변환본 재생성용: 업로드 완료 후 변환본이 하나도 없는 이미지 (대기열 거절, 재시작 유실)
+  @Query("SELECT pi FROM PropertyImage pi WHERE pi.status = :status "
+          + "AND pi.updatedAt > :after AND pi.updatedAt < :before "
+          + "AND NOT EXISTS (SELECT 1 FROM PropertyImageVariant v WHERE v.propertyImageId = pi.id) "
+          + "ORDER BY pi.updatedAt")
+  List<PropertyImage> findWithoutVariants(@Param("status") ImageStatus status,
+                                          @Param("after") LocalDateTime after,
+                                          @Param("before") LocalDateTime before,
+                                          Pageable pageable);
+
   Optional<PropertyImage> findByIdAndPropertyIdAndStatusNot(Long id, Long propertyId, ImageStatus status);
 }
@@ -0,0 +1,18 @@
+package com.imjang.domain.property.repository;
+
+import com.imjang.domain.property.entity.PropertyImageVariant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PropertyImageVariantRepository extends JpaRepository<PropertyImageVariant, Long> {
+
+  List<PropertyImageVariant> findByPropertyImageIdInOrderByWidth(Collection<Long> propertyImageIds);
+
+  @Modifying
+  @Query("DELETE FROM PropertyImageVariant v WHERE v.propertyImageId = :propertyImageId")
+  void deleteByPropertyImageId(@Param("propertyImageId") Long propertyImageId);
+}
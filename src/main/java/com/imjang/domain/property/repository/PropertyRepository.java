@@ -1,6 +1,7 @@
 package com.imjang.domain.property.repository;
 
 import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.map.PropertyMarker;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,15 @@ import org.springframework.data.repository.query.Param;
 
 public interface PropertyRepository extends JpaRepository<Property, Long> {
 
+  /**
+   * 마커 projection: 마커 컬럼과 displayOrder=0 썸네일만 한 번에 조회 (엔티티/연관관계 로딩 없음)
+   */
+  String MARKER_SELECT = "SELECT new com.imjang.domain.property.map.PropertyMarker("
+          + "p.id, p.latitude, p.longitude, p.h3Cell, p.address, p.priceType, "
+          + "p.deposit, p.monthlyRent, p.price, p.rating, pi.thumbnailUrl) "
+          + "FROM Property p "
+          + "LEFT JOIN PropertyImage pi ON pi.property = p AND pi.displayOrder = 0 ";
+
   @Query("SELECT p FROM Property p LEFT JOIN FETCH p.environments WHERE p.id = :id")
   Optional<Property> findByIdWithEnvironments(@Param("id") Long id);
 
@@ -33,8 +43,57 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
                                                           LocalDateTime startOfMonth,
                                                           LocalDateTime endOfMonth);
 
-  // H3 인덱스 기반 매물 조회 (삭제되지 않은 것만)
-  List<Property> findByUserIdAndH3IndexInAndDeletedAtIsNull(Long userId, Set<String> h3Indices);
+  // 압축된 H3 셀 기반 마커 조회 (삭제되지 않은 것만), 해상도별 셀 컬럼 동등 조건
+  @Query(MARKER_SELECT
+          + "WHERE p.user.id = :userId "
+          + "AND p.deletedAt IS NULL "
+          + "AND (p.h3Res5Cell IN :res5Cells "
+          + "OR p.h3Res7Cell IN :res7Cells "
+          + "OR p.h3Cell IN :res9Cells)")
+  List<PropertyMarker> findMarkersByUserIdAndH3CellCover(@Param("userId") Long userId,
+                                                         @Param("res5Cells") Set<Long> res5Cells,
+                                                         @Param("res7Cells") Set<Long> res7Cells,
+                                                         @Param("res9Cells") Set<Long> res9Cells);
+
+  // 위경도 범위 기반 마커 조회 (idx_property_user_location 사용, 클러스터 집계 및 넓은 viewport용)
+  @Query(MARKER_SELECT
+          + "WHERE p.user.id = :userId "
+          + "AND p.deletedAt IS NULL "
+          + "AND p.latitude BETWEEN :minLatitude AND :maxLatitude "
+          + "AND p.longitude BETWEEN :minLongitude AND :maxLongitude")
+  List<PropertyMarker> findMarkersByUserIdInBounds(@Param("userId") Long userId,
+                                                   @Param("minLatitude") Double minLatitude,
+                                                   @Param("maxLatitude") Double maxLatitude,
+                                                   @Param("minLongitude") Double minLongitude,
+                                                   @Param("maxLongitude") Double maxLongitude);
+
+  // 사용자의 삭제되지 않은 매물 마커 전체 조회 (마커 인덱스 적재용)
+  @Query(MARKER_SELECT
+          + "WHERE p.user.id = :userId "
+          + "AND p.deletedAt IS NULL")
+  List<PropertyMarker> findMarkersByUserId(@Param("userId") Long userId);
+
+  // 삭제되지 않은 매물이 있는 H3 셀 목록 (셀 값 오름차순 keyset 페이지, 위치 정보 워밍업용)
+  @Query("SELECT DISTINCT p.h3Cell FROM Property p "
+          + "WHERE p.deletedAt IS NULL AND p.h3Cell > :after "
+          + "ORDER BY p.h3Cell")
+  List<Long> findActiveH3CellsAfter(@Param("after") Long after, Pageable pageable);
+
+  // 위치 정보가 아직 없는 매물 셀 (사전 수집이 거절/실패한 셀). createdBefore 이후 등록 매물은 사전 수집 중일 수 있어 제외
+  // 수집에 실패해 재시도 대기(backoff) 중인 셀도 제외
+  @Query("SELECT p.h3Cell FROM Property p "
+          + "WHERE p.deletedAt IS NULL AND p.h3Cell IS NOT NULL AND p.createdAt <= :createdBefore "
+          + "AND NOT EXISTS (SELECT 1 FROM LocationCache lc WHERE lc.h3Cell = p.h3Cell) "
+          + "AND NOT EXISTS (SELECT 1 FROM LocationFetchFailure f WHERE f.h3Cell = p.h3Cell AND f.nextAttemptAt > :now) "
+          + "GROUP BY p.h3Cell "
+          + "ORDER BY MIN(p.createdAt)")
+  List<Long> findH3CellsWithoutLocationCache(@Param("createdBefore") LocalDateTime createdBefore,
+                                              @Param("now") LocalDateTime now,
+                                              Pageable pageable);
+
+  // H3 셀 백필 대상 조회 (레거시 문자열 컬럼만 있는 매물)
+  @Query("SELECT p FROM Property p WHERE p.h3Index IS NOT NULL AND p.h3Cell IS NULL")
+  List<Property> findH3CellBackfillTargets(Pageable pageable);
 
   // 삭제된 매물 정리용 쿼리 (DB 레벨 필터링)
   @Query("SELECT p FROM Property p WHERE p.deletedAt IS NOT NULL AND p.deletedAt < :cutoffDate")
@@ -1,22 +1,43 @@
 package com.imjang.domain.property.repository;
 
 import com.imjang.domain.property.entity.TempImage;
+import com.imjang.domain.property.entity.ThumbnailStatus;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TempImageRepository extends JpaRepository<TempImage, Long> {
 
   List<TempImage> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
 
+  Optional<TempImage> findByIdAndUserId(Long id, Long userId);
+
+  boolean existsByOriginalUrl(String originalUrl);
+
+  // 생성이 끝나지 않은 썸네일 조회 (작업 거절, 재시작으로 유실된 생성 재시도용)
+  List<TempImage> findByThumbnailStatusAndCreatedAtBefore(ThumbnailStatus thumbnailStatus, LocalDateTime before,
+                                                           Pageable pageable);
+
+  /**
+   * 썸네일 상태만 갱신 (이미지 디코딩 동안 트랜잭션을 잡지 않도록 생성 후 단건 UPDATE)
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE TempImage t SET t.thumbnailStatus = :status, t.updatedAt = :updatedAt WHERE t.id = :id")
+  int updateThumbnailStatus(@Param("id") Long id,
+                            @Param("status") ThumbnailStatus status,
+                            @Param("updatedAt") LocalDateTime updatedAt);
+
   void deleteByExpiresAtBefore(LocalDateTime dateTime);
 
   // 만료됐고 PropertyImage에 연결되지 않은 고아 TempImage 조회
   @Query("SELECT t FROM TempImage t WHERE t.expiresAt < :now AND NOT EXISTS (SELECT pi FROM PropertyImage pi WHERE pi.tempImageId = t.id)")
   List<TempImage> findExpiredAndUnlinked(@Param("now") LocalDateTime now, Pageable pageable);
-
 }
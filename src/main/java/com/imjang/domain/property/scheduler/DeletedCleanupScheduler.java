@@ -3,7 +3,9 @@ package com.imjang.domain.property.scheduler;
 import com.imjang.domain.property.entity.ImageStatus;
 import com.imjang.domain.property.entity.Property;
 import com.imjang.domain.property.entity.PropertyImage;
+import com.imjang.domain.property.entity.PropertyImageVariant;
 import com.imjang.domain.property.repository.PropertyImageRepository;
+import com.imjang.domain.property.repository.PropertyImageVariantRepository;
 import com.imjang.domain.property.repository.PropertyRepository;
 import com.imjang.infrastructure.s3.S3Service;
 import java.time.LocalDateTime;
@@ -25,6 +27,7 @@ public class DeletedCleanupScheduler {
   private final PropertyRepository propertyRepository;
   private final PropertyImageRepository propertyImageRepository;
   private final S3Service s3Service;
+  private final PropertyImageVariantRepository propertyImageVariantRepository;
 
   @Value("${app.cleanup.retention-days:30}")
   private int retentionDays;
@@ -80,6 +83,7 @@ public class DeletedCleanupScheduler {
         if (image.getStatus() == ImageStatus.COMPLETED) {
           deleteFromS3(image);
         }
+        deleteVariants(image.getId());
 
         // DB에서 이미지 레코드 삭제
         propertyImageRepository.delete(image);
@@ -116,6 +120,21 @@ public class DeletedCleanupScheduler {
     }
   }
 
+  /**
+   * 크기별 변환본 S3 파일과 레코드 삭제
+   */
+  private void deleteVariants(Long propertyImageId) {
+    List<PropertyImageVariant> variants =
+            propertyImageVariantRepository.findByPropertyImageIdInOrderByWidth(List.of(propertyImageId));
+    for (PropertyImageVariant variant : variants) {
+      String key = extractS3Key(variant.getUrl());
+      if (key != null) {
+        s3Service.deleteFile(key);
+      }
+    }
+    propertyImageVariantRepository.deleteByPropertyImageId(propertyImageId);
+  }
+
   /**
    * S3 URL에서 키 추출
    * 예: https://bucket.s3.region.amazonaws.com/images/123/filename.jpg -> images/123/filename.jpg
@@ -168,6 +187,7 @@ public class DeletedCleanupScheduler {
         if (image.getStatus() == ImageStatus.COMPLETED) {
           deleteFromS3(image);
         }
+        deleteVariants(image.getId());
 
         // DB에서 삭제
         propertyImageRepository.delete(image);
@@ -7,6 +7,7 @@ import com.imjang.domain.property.event.PropertyCreatedEvent;
 import com.imjang.domain.property.repository.PropertyImageRepository;
 import com.imjang.domain.property.repository.TempImageRepository;
 import com.imjang.global.common.event.DomainEventPublisher;
+import com.imjang.infrastructure.s3.S3Service;
 import java.io.File;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +29,7 @@ public class ImageCleanupScheduler {
   private final TempImageRepository tempImageRepository;
   private final PropertyImageRepository propertyImageRepository;
   private final DomainEventPublisher domainEventPublisher;
+  private final S3Service s3Service;
 
   /**
    * 매시간 실행: S3 업로드 완료된 로컬 임시 파일 삭제
@@ -48,8 +50,7 @@ public class ImageCleanupScheduler {
     if (!tempImageIds.isEmpty()) {
       tempImageRepository.findAllById(tempImageIds).forEach(tempImage -> {
         try {
-          deleteLocalFile(tempImage.getOriginalUrl());
-          deleteLocalFile(tempImage.getThumbnailUrl());
+          deleteTempFiles(tempImage);
         } catch (Exception e) {
           log.error("로컬 파일 삭제 실패: tempImageId={}", tempImage.getId(), e);
         }
@@ -71,8 +72,7 @@ public class ImageCleanupScheduler {
 
     for (TempImage tempImage : expiredImages) {
       try {
-        deleteLocalFile(tempImage.getOriginalUrl());
-        deleteLocalFile(tempImage.getThumbnailUrl());
+        deleteTempFiles(tempImage);
         tempImageRepository.delete(tempImage);
       } catch (Exception e) {
         log.error("만료된 임시 이미지 삭제 실패: tempImageId={}", tempImage.getId(), e);
@@ -110,6 +110,42 @@ public class ImageCleanupScheduler {
     log.info("실패한 이미지 {} 개 재시도 완료", failedImages.size());
   }
 
+  /**
+   * 10분마다 실행: 썸네일 디코딩 한도 초과로 보류됐거나 재시작으로 유실돼 PENDING으로 남은 이미지 재업로드
+   */
+  @Scheduled(cron = "0 5/10 * * * *")
+  @Transactional
+  public void retryPendingUploads() {
+    List<PropertyImage> pendingImages = propertyImageRepository.findByStatusAndUpdatedAtBefore(
+            ImageStatus.PENDING, LocalDateTime.now().minusMinutes(10), PageRequest.of(0, 20));
+
+    for (PropertyImage image : pendingImages) {
+      domainEventPublisher.publishAfterCommit(new PropertyCreatedEvent(
+              image.getProperty().getId(),
+              List.of(image.getId())
+      ));
+    }
+
+    if (!pendingImages.isEmpty()) {
+      log.info("보류된 이미지 업로드 {} 개 재시도", pendingImages.size());
+    }
+  }
+
+  /**
+   * 임시 이미지 파일 삭제 (저장 위치에 따라 로컬 파일 또는 임시 객체)
+   */
+  private void deleteTempFiles(TempImage tempImage) {
+    if (tempImage.isStoredInObjectStorage()) {
+      s3Service.deleteFile(tempImage.getOriginalUrl());
+      if (tempImage.isThumbnailReady()) {
+        s3Service.deleteFile(tempImage.getThumbnailUrl());
+      }
+      return;
+    }
+    deleteLocalFile(tempImage.getOriginalUrl());
+    deleteLocalFile(tempImage.getThumbnailUrl());
+  }
+
   /**
    * 로컬 파일 삭제
    */
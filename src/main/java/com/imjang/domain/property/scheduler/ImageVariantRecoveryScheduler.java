@@ -0,0 +1,71 @@
+package com.imjang.domain.property.scheduler;
+
+import com.imjang.domain.property.entity.ImageStatus;
+import com.imjang.domain.property.entity.ImageStorage;
+import com.imjang.domain.property.entity.PropertyImage;
+import com.imjang.domain.property.repository.PropertyImageRepository;
+import com.imjang.domain.property.service.ImageVariantProperties;
+import com.imjang.domain.property.service.ImageVariantService;
+import com.imjang.infrastructure.s3.S3Service;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지 변환본 생성 재시도 스케줄러
+ * 대기열이 가득 차 거절됐거나 재시작으로 유실돼 변환본이 없는 업로드 완료 이미지를 매물 위치의 원본에서 다시 생성
+ * 임시 원본은 정리됐을 수 있어 객체 스토리지의 최종 원본을 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantRecoveryScheduler {
+
+  // 정상 처리 중인 작업과 겹치지 않도록 업로드 완료 후 충분히 지난 것만 대상
+  private static final int COMPLETED_GRACE_MINUTES = 5;
+  // 디코딩할 수 없는 원본을 계속 재시도하지 않도록 업로드 완료 후 이 기간까지만 대상
+  private static final int RETRY_WINDOW_HOURS = 24;
+  private static final int BATCH_SIZE = 50;
+
+  private final PropertyImageRepository propertyImageRepository;
+  private final ImageVariantService imageVariantService;
+  private final ImageVariantProperties imageVariantProperties;
+  private final S3Service s3Service;
+
+  @Scheduled(fixedDelay = 300000, initialDelay = 120000)
+  public void retryMissingVariants() {
+    if (!imageVariantProperties.isEnabled()) {
+      return;
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    List<PropertyImage> images = propertyImageRepository.findWithoutVariants(
+            ImageStatus.COMPLETED,
+            now.minusHours(RETRY_WINDOW_HOURS),
+            now.minusMinutes(COMPLETED_GRACE_MINUTES),
+            PageRequest.of(0, BATCH_SIZE));
+
+    // 스케줄러 스레드에서 순차 생성 (대기열을 다시 채우지 않음)
+    int completed = 0;
+    for (PropertyImage image : images) {
+      String key = s3Service.keyOf(image.getImageUrl());
+      if (key == null) {
+        continue;
+      }
+      try {
+        imageVariantService.generate(image.getId(), image.getProperty().getId(), ImageStorage.OBJECT_STORAGE, key);
+        completed++;
+      } catch (Exception e) {
+        log.warn("이미지 변환본 재생성 실패: propertyImageId={}, error={}", image.getId(), e.getMessage());
+      }
+    }
+
+    if (!images.isEmpty()) {
+      log.info("이미지 변환본 재생성 완료: 대상={}, 성공={}", images.size(), completed);
+    }
+  }
+}
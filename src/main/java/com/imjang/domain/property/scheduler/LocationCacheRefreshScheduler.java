@@ -0,0 +1,136 @@
+package com.imjang.domain.property.scheduler;
+
+import com.imjang.domain.property.location.entity.LocationCache;
+import com.imjang.domain.property.location.entity.LocationFetchFailure;
+import com.imjang.domain.property.location.repository.LocationCacheRepository;
+import com.imjang.domain.property.location.repository.LocationFetchFailureRepository;
+import com.imjang.domain.property.location.service.LocationInfoService;
+import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.repository.PropertyRepository;
+import com.uber.h3core.util.LatLng;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 위치 정보(location_cache) 백그라운드 갱신 (stale-while-revalidate)
+ * 만료된 행은 갱신 전까지 그대로 제공되고, 여기서 참조 매물이 많은 셀부터 주기마다 batch-size개씩 순차 재수집
+ * 일부 카테고리가 누락된 행도 대상이며, 재수집은 만료되거나 누락된 카테고리만 호출
+ * 사전 수집이 거절/실패해 위치 정보가 아예 없는 매물 셀도 먼저 채움 (이웃 셀 재사용 가능하면 Kakao 호출 없음)
+ * 누락 셀은 배치의 절반까지만 쓰고, 수집에 실패한 셀은 location_fetch_failure의 다음 시도 시각까지 제외
+ * 셀당 Kakao 호출 6회이므로 분당 호출량은 약 batch-size * 6 / (interval / 1분)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationCacheRefreshScheduler {
+
+  // 누락 카테고리 재시도 간격 (계속 실패하는 카테고리가 매 주기 호출량을 차지하지 않도록)
+  private static final Duration PARTIAL_RETRY_INTERVAL = Duration.ofMinutes(10);
+  // 등록 직후 매물은 사전 수집이 진행 중일 수 있어 이 시간이 지난 뒤부터 누락 셀로 봄
+  private static final Duration MISSING_GRACE_PERIOD = Duration.ofMinutes(5);
+  // 누락 셀이 한 주기 batch-size 중 쓸 수 있는 최대 비율 (나머지는 만료 셀 갱신 몫)
+  private static final int MISSING_BATCH_SHARE_PERCENT = 50;
+
+  private final LocationCacheRepository locationCacheRepository;
+  private final LocationInfoService locationInfoService;
+  private final PropertyRepository propertyRepository;
+  private final LocationFetchFailureRepository locationFetchFailureRepository;
+  private final H3Util h3Util;
+
+  @Value("${app.location.refresh.enabled:true}")
+  private boolean enabled;
+
+  @Value("${app.location.refresh.batch-size:20}")
+  private int batchSize;
+
+  @Scheduled(fixedDelayString = "${app.location.refresh.interval-ms:60000}",
+          initialDelayString = "${app.location.refresh.initial-delay-ms:60000}")
+  public void refreshStaleLocationCaches() {
+    if (!enabled) {
+      return;
+    }
+
+    int remaining = batchSize - fillMissingLocationCaches();
+    if (remaining <= 0) {
+      return;
+    }
+
+    LocalDateTime validDate = LocalDateTime.now().minusDays(LocationInfoService.CACHE_VALID_DAYS);
+    LocalDateTime partialRetryBefore = LocalDateTime.now().minus(PARTIAL_RETRY_INTERVAL);
+    List<LocationCache> staleCaches = locationCacheRepository.findStaleCachesOrderByActivePropertyCount(
+            validDate, partialRetryBefore, PageRequest.of(0, remaining));
+
+    if (staleCaches.isEmpty()) {
+      return;
+    }
+
+    int successCount = 0;
+    int failCount = 0;
+
+    for (LocationCache staleCache : staleCaches) {
+      try {
+        locationInfoService.refreshLocationInfo(
+                staleCache.getH3Cell(), staleCache.getCenterLat(), staleCache.getCenterLng());
+        successCount++;
+      } catch (Exception e) {
+        failCount++;
+        log.warn("위치 정보 갱신 실패: h3Cell={}, error={}", staleCache.getH3Cell(), e.getMessage());
+      }
+    }
+
+    log.info("만료 위치 정보 갱신 완료: 성공 {}개, 실패 {}개", successCount, failCount);
+  }
+
+  /**
+   * 위치 정보가 없는 매물 셀 수집
+   * @return 처리한 셀 수 (이번 주기 batch-size에서 차감)
+   */
+  private int fillMissingLocationCaches() {
+    LocalDateTime now = LocalDateTime.now();
+    int limit = Math.max(1, batchSize * MISSING_BATCH_SHARE_PERCENT / 100);
+    List<Long> missingCells = propertyRepository.findH3CellsWithoutLocationCache(
+            now.minus(MISSING_GRACE_PERIOD), now, PageRequest.of(0, limit));
+
+    if (missingCells.isEmpty()) {
+      return 0;
+    }
+
+    int reusedCount = 0;
+    int fetchedCount = 0;
+    int failCount = 0;
+
+    for (long h3Cell : missingCells) {
+      LatLng center = h3Util.getH3Center(h3Cell);
+      try {
+        if (locationInfoService.reuseNeighborLocationInfo(h3Cell, center.lat, center.lng)) {
+          reusedCount++;
+        } else {
+          locationInfoService.refreshLocationInfo(h3Cell, center.lat, center.lng);
+          fetchedCount++;
+        }
+        locationFetchFailureRepository.findByH3Cell(h3Cell).ifPresent(locationFetchFailureRepository::delete);
+      } catch (Exception e) {
+        failCount++;
+        recordFailure(h3Cell, now);
+        log.warn("누락 위치 정보 수집 실패: h3Cell={}, error={}", h3Cell, e.getMessage());
+      }
+    }
+
+    log.info("누락 위치 정보 수집 완료: 이웃 재사용 {}개, 수집 {}개, 실패 {}개", reusedCount, fetchedCount, failCount);
+    return missingCells.size();
+  }
+
+  private void recordFailure(long h3Cell, LocalDateTime now) {
+    LocationFetchFailure failure = locationFetchFailureRepository.findByH3Cell(h3Cell)
+            .orElseGet(() -> LocationFetchFailure.of(h3Cell));
+    failure.recordFailure(now);
+    locationFetchFailureRepository.save(failure);
+  }
+}
@@ -0,0 +1,35 @@
+package com.imjang.domain.property.scheduler;
+
+import com.imjang.domain.property.location.service.LocationWarmupProperties;
+import com.imjang.domain.property.location.service.LocationWarmupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치 정보 워밍업 주기 실행
+ * 실행마다 batch-size개 셀까지 수집하고 체크포인트에서 다음 실행이 이어받음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationWarmupScheduler {
+
+  private final LocationWarmupService locationWarmupService;
+  private final LocationWarmupProperties properties;
+
+  @Scheduled(fixedDelayString = "${app.location.warmup.interval-ms:300000}",
+          initialDelayString = "${app.location.warmup.initial-delay-ms:120000}")
+  public void warmUpLocationInfo() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    try {
+      locationWarmupService.runBatch();
+    } catch (Exception e) {
+      log.error("위치 정보 워밍업 실패", e);
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.imjang.domain.property.scheduler;
+
+import com.imjang.domain.property.entity.TempImage;
+import com.imjang.domain.property.entity.ThumbnailStatus;
+import com.imjang.domain.property.repository.TempImageRepository;
+import com.imjang.domain.property.service.ThumbnailService;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 썸네일 생성 재시도 스케줄러
+ * 대기열이 가득 차 거절됐거나 재시작으로 유실된 PENDING 썸네일을 다시 제출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailRecoveryScheduler {
+
+  // 정상 처리 중인 작업과 겹치지 않도록 업로드 후 충분히 지난 것만 대상
+  private static final int PENDING_GRACE_MINUTES = 5;
+  private static final int BATCH_SIZE = 50;
+
+  private final TempImageRepository tempImageRepository;
+  private final ThumbnailService thumbnailService;
+
+  @Scheduled(fixedDelay = 300000, initialDelay = 60000)
+  public void retryPendingThumbnails() {
+    List<TempImage> pending = tempImageRepository.findByThumbnailStatusAndCreatedAtBefore(
+            ThumbnailStatus.PENDING,
+            LocalDateTime.now().minusMinutes(PENDING_GRACE_MINUTES),
+            PageRequest.of(0, BATCH_SIZE));
+
+    // 스케줄러 스레드에서 순차 생성 (대기열을 다시 채우지 않음)
+    int completed = 0;
+    for (TempImage tempImage : pending) {
+      if (thumbnailService.generate(tempImage)) {
+        completed++;
+      }
+    }
+
+    if (!pending.isEmpty()) {
+      log.info("썸네일 생성 재시도 완료: 대상={}, 성공={}", pending.size(), completed);
+    }
+  }
+}
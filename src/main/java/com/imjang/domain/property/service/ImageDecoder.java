@@ -0,0 +1,161 @@
+package com.imjang.domain.property.service;
+
+import jakarta.annotation.PostConstruct;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 한도 내 이미지 디코딩
+ * 헤더로 크기를 먼저 읽고, 필요한 해상도(긴 변 기준) 이상이 되는 최대 정수 배율로 서브샘플링해 디코딩
+ * 디코딩된 픽셀 수만큼 전역 세마포어 허용량을 잡고 처리가 끝나면 반납하므로,
+ * 동시에 메모리에 올라가는 픽셀 수가 max-pixels를 넘지 않음 (넘는 요청은 반납될 때까지 대기)
+ */
+@Slf4j
+@Component
+public class ImageDecoder {
+
+  @Value("${app.image.decode.max-pixels:40000000}")
+  private int maxPixels;
+
+  @Value("${app.image.decode.acquire-timeout-seconds:30}")
+  private long acquireTimeoutSeconds;
+
+  private Semaphore pixelBudget;
+
+  @PostConstruct
+  public void init() {
+    pixelBudget = new Semaphore(maxPixels, true);
+  }
+
+  /**
+   * 디코딩된 이미지 처리. 허용량은 처리가 끝난 뒤 반납되므로 이미지를 밖으로 넘기지 않아야 함
+   */
+  @FunctionalInterface
+  public interface DecodedImageHandler<T> {
+
+    T handle(BufferedImage image) throws IOException;
+  }
+
+  /**
+   * 대기 시간 안에 디코딩 허용량을 얻지 못함 (잠시 후 재시도 대상)
+   */
+  public static class DecodeCapacityExceededException extends IOException {
+
+    public DecodeCapacityExceededException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * 스트림 디코딩. 원본 스트림은 닫지 않음
+   *
+   * @param targetLongSide
+   *         필요한 긴 변 픽셀 수 (디코딩 결과는 원본과 이 값 중 작은 값 이상)
+   */
+  public <T> T decode(InputStream input, int targetLongSide, DecodedImageHandler<T> handler) throws IOException {
+    try (ImageInputStream stream = new MemoryCacheImageInputStream(input)) {
+      return decode(stream, targetLongSide, handler);
+    }
+  }
+
+  public <T> T decode(File file, int targetLongSide, DecodedImageHandler<T> handler) throws IOException {
+    try (ImageInputStream stream = new FileImageInputStream(file)) {
+      return decode(stream, targetLongSide, handler);
+    }
+  }
+
+  private <T> T decode(ImageInputStream stream, int targetLongSide, DecodedImageHandler<T> handler)
+          throws IOException {
+    Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+    if (!readers.hasNext()) {
+      throw new IIOException("지원하지 않는 이미지 형식");
+    }
+
+    ImageReader reader = readers.next();
+    try {
+      reader.setInput(stream, true, false);
+      int width = reader.getWidth(0);
+      int height = reader.getHeight(0);
+      int subsampling = subsamplingFor(Math.max(width, height), targetLongSide);
+      long pixels = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling);
+      // 한도보다 큰 이미지는 허용량 전체를 잡아 단독으로 디코딩
+      int permits = (int) Math.min(pixels, maxPixels);
+      Orientation orientation = orientationOf(reader);
+
+      acquire(permits);
+      try {
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage image = reader.read(0, param);
+        if (orientation != null && orientation != Orientation.TOP_LEFT) {
+          image = ExifFilterUtils.getFilterForOrientation(orientation).apply(image);
+        }
+        log.debug("이미지 디코딩: {}x{} -> 1/{} ({} pixels)", width, height, subsampling, pixels);
+        return handler.handle(image);
+      } finally {
+        pixelBudget.release(permits);
+      }
+    } finally {
+      reader.dispose();
+    }
+  }
+
+  int availablePixels() {
+    return pixelBudget.availablePermits();
+  }
+
+  /**
+   * 디코딩 결과의 긴 변이 target 이상으로 남는 최대 정수 배율
+   */
+  static int subsamplingFor(int sourceLongSide, int targetLongSide) {
+    if (targetLongSide <= 0) {
+      return 1;
+    }
+    return Math.max(1, sourceLongSide / targetLongSide);
+  }
+
+  private void acquire(int permits) throws IOException {
+    try {
+      if (!pixelBudget.tryAcquire(permits, acquireTimeoutSeconds, TimeUnit.SECONDS)) {
+        throw new DecodeCapacityExceededException("디코딩 메모리 한도 대기 시간 초과: " + permits + " pixels");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DecodeCapacityExceededException("디코딩 대기 중 인터럽트");
+    }
+  }
+
+  /**
+   * EXIF 회전 정보 (Thumbnailator 파일 입력과 같은 방향으로 맞춤). 읽을 수 없으면 null
+   */
+  private Orientation orientationOf(ImageReader reader) {
+    try {
+      return ExifUtils.getExifOrientation(reader, 0);
+    } catch (IOException | RuntimeException e) {
+      log.debug("EXIF 방향 정보 읽기 실패: {}", e.toString());
+      return null;
+    }
+  }
+
+  private static int ceilDiv(int value, int divisor) {
+    return (value + divisor - 1) / divisor;
+  }
+}
@@ -2,29 +2,45 @@ package com.imjang.domain.property.service;
 
 import com.imjang.domain.auth.entity.User;
 import com.imjang.domain.auth.repository.UserRepository;
+import com.imjang.domain.property.dto.request.PresignedUploadRequest;
 import com.imjang.domain.property.dto.response.ImageUploadResponse;
+import com.imjang.domain.property.dto.response.PresignedUploadResponse;
+import com.imjang.domain.property.entity.ImageStorage;
 import com.imjang.domain.property.entity.TempImage;
+import com.imjang.domain.property.entity.ThumbnailStatus;
 import com.imjang.domain.property.repository.TempImageRepository;
 import com.imjang.global.exception.CustomException;
 import com.imjang.global.exception.ErrorCode;
+import com.imjang.infrastructure.s3.S3Service;
+import com.imjang.infrastructure.s3.S3UploadStream;
 import jakarta.annotation.PostConstruct;
-import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import javax.imageio.IIOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 @Slf4j
 @Service
@@ -34,6 +50,9 @@ public class ImageService {
 
   private final TempImageRepository tempImageRepository;
   private final UserRepository userRepository;
+  private final ThumbnailService thumbnailService;
+  private final S3Service s3Service;
+  private final ImageDecoder imageDecoder;
 
   @Value("${app.upload.path:uploads}")
   private String uploadPath;
@@ -41,16 +60,18 @@ public class ImageService {
   @Value("${app.upload.max-size:10485760}") // 10MB
   private long maxFileSize;
 
-  @Value("${app.thumbnail.width:300}")
-  private int thumbnailWidth;
-
-  @Value("${app.thumbnail.height:300}")
-  private int thumbnailHeight;
+  @Value("${app.upload.presigned-url-ttl-seconds:600}")
+  private long presignedUrlTtlSeconds;
 
   @Value("${app.thumbnail.format:png}")
   private String thumbnailFormat;
 
   private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "webp");
+  private static final Map<String, String> STREAM_CONTENT_TYPES = Map.of(
+          "image/jpeg", "jpg",
+          "image/png", "png",
+          "image/webp", "webp"
+  );
 
   /**
    * 서비스 초기화 시 업로드 디렉토리 생성
@@ -71,12 +92,13 @@ public class ImageService {
   }
 
   /**
-   * 이미지 업로드 및 썸네일 생성
+   * 이미지 업로드
+   * 원본 저장과 TempImage(썸네일 PENDING) 저장까지만 요청 스레드에서 처리하고,
+   * 썸네일은 thumbnailExecutor에서 생성. 파일 쓰기와 디코딩 동안 트랜잭션을 잡지 않음
    *
-   * TODO: Phase 2 - 썸네일 생성을 비동기 처리로 전환
    * TODO: Phase 3 - CDN 기반 이미지 리사이징 적용
    */
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public ImageUploadResponse uploadImage(MultipartFile file, Long userId) {
     validateFile(file);
 
@@ -94,11 +116,7 @@ public class ImageService {
       file.transferTo(originalPath.toFile());
       log.debug("📂파일 저장 경로: {}", originalPath);
 
-      // 썸네일 생성
-      createThumbnail(originalPath.toFile(), thumbnailPath.toFile());
-      log.debug("🖼️썸네일 저장 경로: {}", thumbnailPath);
-
-      // DB에 임시 이미지 정보 저장
+      // DB에 임시 이미지 정보 저장 (썸네일은 경로만 먼저 기록)
       TempImage tempImage = TempImage.builder()
               .user(user)
               .originalUrl(originalPath.toString())
@@ -109,12 +127,10 @@ public class ImageService {
       tempImage = tempImageRepository.save(tempImage);
       log.info("임시이미지 저장 완료: {}", tempImage.getId());
 
-      // 웹 접근 가능한 URL 생성
-      LocalDate now = LocalDate.now();
-      String webAccessibleUrl = String.format("/temp-images/user%d/%d/%02d/%s",
-              userId, now.getYear(), now.getMonthValue(), thumbnailFileName);
+      submitThumbnail(tempImage);
 
-      return ImageUploadResponse.of(tempImage.getId(), webAccessibleUrl);
+      return ImageUploadResponse.of(tempImage.getId(), toWebUrl(userId, LocalDate.now(), thumbnailFileName),
+              tempImage.getThumbnailStatus());
 
     } catch (IOException e) {
       log.error("Failed to upload image", e);
@@ -122,6 +138,249 @@ public class ImageService {
     }
   }
 
+  /**
+   * 스트리밍 업로드 (요청 본문을 디스크를 거치지 않고 객체 스토리지로 전송)
+   * 본문을 한 번만 읽으면서 객체 스토리지(파트 단위 멀티파트 업로드)와 디코더에 동시에 흘려보내고,
+   * 디코딩한 이미지로 썸네일까지 만들어 함께 저장. 디코딩할 수 없는 형식이면 원본만 저장하고 썸네일은 FAILED
+   * 디코딩은 썸네일 크기로 서브샘플링하며, 디코딩 한도 대기 초과 시 원본만 저장하고 썸네일은 thumbnailExecutor에서 생성
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ImageUploadResponse uploadImageStream(InputStream body, String contentType, long contentLength,
+                                               Long userId) {
+    String extension = validateStream(contentType, contentLength);
+
+    User user = userRepository.findById(userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+    String fileName = UUID.randomUUID() + "." + extension;
+    String originalKey = s3Service.generateTempKey(userId, fileName);
+    String thumbnailKey = s3Service.generateTempKey(userId, createThumbnailFileName(fileName));
+
+    byte[] thumbnail = null;
+    boolean thumbnailDeferred = false;
+    S3UploadStream upload = s3Service.openUploadStream(originalKey, contentType);
+    try (UploadTeeInputStream tee = new UploadTeeInputStream(body, upload, maxFileSize)) {
+      try {
+        thumbnail = encodeThumbnailQuietly(tee);
+      } catch (ImageDecoder.DecodeCapacityExceededException e) {
+        log.warn("디코딩 한도 대기 초과, 썸네일은 저장 후 생성: {}", thumbnailKey);
+        thumbnailDeferred = true;
+      }
+      // 디코더가 읽지 않은 나머지(메타데이터 등)도 원본에 포함
+      tee.transferTo(OutputStream.nullOutputStream());
+      if (tee.getCount() == 0) {
+        throw new CustomException(ErrorCode.EMPTY_FILE);
+      }
+      upload.close();
+    } catch (CustomException e) {
+      upload.abort();
+      throw e;
+    } catch (IOException e) {
+      upload.abort();
+      log.error("Failed to stream image", e);
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+    log.debug("📂객체 스토리지 저장 키: {} ({} bytes)", originalKey, upload.getSize());
+
+    ThumbnailStatus thumbnailStatus = thumbnailDeferred
+            ? ThumbnailStatus.PENDING : uploadStreamThumbnail(thumbnail, thumbnailKey);
+
+    TempImage tempImage = tempImageRepository.save(TempImage.builder()
+            .user(user)
+            .originalUrl(originalKey)
+            .thumbnailUrl(thumbnailKey)
+            .storage(ImageStorage.OBJECT_STORAGE)
+            .thumbnailStatus(thumbnailStatus)
+            .expiresAt(LocalDateTime.now().plusHours(24))
+            .build());
+    log.info("임시이미지 저장 완료: {}", tempImage.getId());
+
+    if (thumbnailDeferred) {
+      submitObjectThumbnail(tempImage);
+    }
+
+    return ImageUploadResponse.of(tempImage.getId(), s3Service.getPublicUrl(thumbnailKey), thumbnailStatus);
+  }
+
+  /**
+   * 직접 업로드용 서명된 PUT URL 발급
+   * 이미지 바이트는 클라이언트에서 버킷으로 바로 전송되고, 업로드 후 completePresignedUpload로 등록
+   */
+  public PresignedUploadResponse issuePresignedUpload(PresignedUploadRequest request, Long userId) {
+    String extension = validateStream(request.contentType(), request.contentLength());
+
+    if (!userRepository.existsById(userId)) {
+      throw new CustomException(ErrorCode.USER_NOT_FOUND);
+    }
+
+    String key = s3Service.generateTempKey(userId, UUID.randomUUID() + "." + extension);
+    PresignedPutObjectRequest presigned = s3Service.presignUpload(key, request.contentType(),
+            request.contentLength(), Duration.ofSeconds(presignedUrlTtlSeconds));
+
+    Map<String, String> headers = new LinkedHashMap<>();
+    presigned.signedHeaders().forEach((name, values) -> {
+      // host는 클라이언트가 URL에서 자동으로 설정
+      if (!"host".equalsIgnoreCase(name)) {
+        headers.put(name, String.join(",", values));
+      }
+    });
+
+    return new PresignedUploadResponse(key, presigned.url().toString(), headers,
+            LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()));
+  }
+
+  /**
+   * 직접 업로드 완료 등록
+   * 객체가 실제로 저장됐는지, 크기와 형식이 허용 범위인지 확인한 뒤 TempImage로 등록하고
+   * 썸네일은 저장된 객체를 읽어 thumbnailExecutor에서 생성
+   */
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public ImageUploadResponse completePresignedUpload(String key, Long userId) {
+    if (!s3Service.isTempKeyOf(key, userId)) {
+      throw new CustomException(ErrorCode.ACCESS_DENIED);
+    }
+    if (tempImageRepository.existsByOriginalUrl(key)) {
+      throw new CustomException(ErrorCode.UPLOAD_ALREADY_COMPLETED);
+    }
+
+    User user = userRepository.findById(userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+    HeadObjectResponse object = s3Service.headObject(key)
+            .orElseThrow(() -> new CustomException(ErrorCode.UPLOADED_FILE_NOT_FOUND));
+    validateStream(object.contentType(), object.contentLength());
+
+    String fileName = key.substring(key.lastIndexOf('/') + 1);
+    String thumbnailKey = s3Service.generateTempKey(userId, createThumbnailFileName(fileName));
+
+    TempImage tempImage = tempImageRepository.save(TempImage.builder()
+            .user(user)
+            .originalUrl(key)
+            .thumbnailUrl(thumbnailKey)
+            .storage(ImageStorage.OBJECT_STORAGE)
+            .expiresAt(LocalDateTime.now().plusHours(24))
+            .build());
+    log.info("임시이미지 저장 완료(직접 업로드): {}", tempImage.getId());
+
+    submitObjectThumbnail(tempImage);
+
+    return ImageUploadResponse.of(tempImage.getId(), s3Service.getPublicUrl(thumbnailKey),
+            tempImage.getThumbnailStatus());
+  }
+
+  /**
+   * 업로드한 이미지의 썸네일 생성 상태 조회
+   */
+  public ImageUploadResponse getUploadStatus(Long imageId, Long userId) {
+    TempImage tempImage = tempImageRepository.findByIdAndUserId(imageId, userId)
+            .orElseThrow(() -> new CustomException(ErrorCode.ENTITY_NOT_FOUND));
+
+    String webAccessibleUrl;
+    if (tempImage.isStoredInObjectStorage()) {
+      webAccessibleUrl = s3Service.getPublicUrl(tempImage.getThumbnailUrl());
+    } else {
+      String thumbnailFileName = Paths.get(tempImage.getThumbnailUrl()).getFileName().toString();
+      webAccessibleUrl = toWebUrl(userId, tempImage.getCreatedAt().toLocalDate(), thumbnailFileName);
+    }
+
+    return ImageUploadResponse.of(tempImage.getId(), webAccessibleUrl,
+            tempImage.isThumbnailReady() ? ThumbnailStatus.COMPLETED : tempImage.getThumbnailStatus());
+  }
+
+  /**
+   * 웹 접근 가능한 URL 생성 (createFilePath의 사용자별 + 월별 디렉토리 구조와 동일)
+   */
+  private String toWebUrl(Long userId, LocalDate uploadedAt, String fileName) {
+    return String.format("/temp-images/user%d/%d/%02d/%s",
+            userId, uploadedAt.getYear(), uploadedAt.getMonthValue(), fileName);
+  }
+
+  /**
+   * 썸네일 생성 작업 제출. 큐가 가득 차면 PENDING으로 두고 ThumbnailRecoveryScheduler가 재시도
+   */
+  private void submitThumbnail(TempImage tempImage) {
+    try {
+      thumbnailService.generateAsync(tempImage.getId(), tempImage.getOriginalUrl(), tempImage.getThumbnailUrl());
+    } catch (TaskRejectedException e) {
+      log.warn("썸네일 생성 대기열 가득 참, 재시도 예약: tempImageId={}", tempImage.getId());
+    }
+  }
+
+  /**
+   * 객체 스토리지 원본으로 썸네일 생성 작업 제출. 큐가 가득 차면 PENDING으로 두고 ThumbnailRecoveryScheduler가 재시도
+   */
+  private void submitObjectThumbnail(TempImage tempImage) {
+    try {
+      thumbnailService.generateFromObjectAsync(tempImage.getId(), tempImage.getOriginalUrl(),
+              tempImage.getThumbnailUrl());
+    } catch (TaskRejectedException e) {
+      log.warn("썸네일 생성 대기열 가득 참, 재시도 예약: tempImageId={}", tempImage.getId());
+    }
+  }
+
+  /**
+   * 인코딩된 썸네일을 객체 스토리지에 저장
+   */
+  private ThumbnailStatus uploadStreamThumbnail(byte[] thumbnail, String thumbnailKey) {
+    if (thumbnail == null) {
+      log.warn("디코딩할 수 없는 이미지, 썸네일 생략: {}", thumbnailKey);
+      return ThumbnailStatus.FAILED;
+    }
+    try {
+      s3Service.uploadBytes(thumbnail, thumbnailKey, "image/" + thumbnailService.getThumbnailFormat());
+      return ThumbnailStatus.COMPLETED;
+    } catch (CustomException e) {
+      log.error("썸네일 저장 실패: {}", thumbnailKey, e);
+      return ThumbnailStatus.FAILED;
+    }
+  }
+
+  /**
+   * 썸네일 크기로 서브샘플링 디코딩 후 인코딩
+   * 지원하는 디코더가 없거나 손상된 이미지, 인코딩 실패면 null (업로드 자체는 계속)
+   */
+  private byte[] encodeThumbnailQuietly(InputStream input) throws IOException {
+    try {
+      return imageDecoder.decode(input, thumbnailService.getThumbnailLongSide(), image -> {
+        try {
+          return thumbnailService.encodeThumbnail(image);
+        } catch (IOException e) {
+          log.error("썸네일 인코딩 실패", e);
+          return null;
+        }
+      });
+    } catch (IIOException e) {
+      log.warn("이미지 디코딩 실패: {}", e.getMessage());
+      return null;
+    } catch (CustomException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      // 일부 디코더는 손상된 데이터에 런타임 예외를 던짐
+      log.warn("이미지 디코딩 실패: {}", e.toString());
+      return null;
+    }
+  }
+
+  /**
+   * 스트리밍 업로드 검증
+   * @return 저장할 확장자
+   */
+  private String validateStream(String contentType, long contentLength) {
+    if (contentLength == 0) {
+      throw new CustomException(ErrorCode.EMPTY_FILE);
+    }
+    if (contentLength > maxFileSize) {
+      throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED);
+    }
+
+    String mediaType = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase();
+    String extension = STREAM_CONTENT_TYPES.get(mediaType);
+    if (extension == null) {
+      throw new CustomException(ErrorCode.INVALID_FILE_TYPE);
+    }
+    return extension;
+  }
+
   /**
    * 파일 검증
    */
@@ -194,19 +453,62 @@ public class ImageService {
   }
 
   /**
-   * 썸네일 생성 (Thumbnailator 라이브러리 사용)
-   * 외부 설정에 따라 썸네일 크기와 포맷을 동적으로 설정
-   *
-   * @param originalFile
-   *         원본 파일
-   * @param thumbnailFile
-   *         썸네일 저장 경로
-   */
-  private void createThumbnail(File originalFile, File thumbnailFile) throws IOException {
-    Thumbnails.of(originalFile)
-            .size(thumbnailWidth, thumbnailHeight)
-            .keepAspectRatio(true)
-            .outputFormat(thumbnailFormat)
-            .toFile(thumbnailFile);
+   * 읽은 바이트를 업로드 스트림에도 쓰는 입력 스트림 (maxSize 초과 시 FILE_SIZE_EXCEEDED)
+   */
+  private static final class UploadTeeInputStream extends FilterInputStream {
+
+    private final OutputStream copy;
+    private final long maxSize;
+    private long count;
+
+    private UploadTeeInputStream(InputStream in, OutputStream copy, long maxSize) {
+      super(in);
+      this.copy = copy;
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1) {
+        record(1);
+        copy.write(b);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      int read = super.read(bytes, offset, length);
+      if (read > 0) {
+        record(read);
+        copy.write(bytes, offset, read);
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      // 건너뛴 바이트도 원본에 포함되어야 하므로 읽어서 버림
+      byte[] discard = new byte[(int) Math.min(n, 8192)];
+      int read = read(discard, 0, discard.length);
+      return Math.max(read, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void record(int read) {
+      count += read;
+      if (count > maxSize) {
+        throw new CustomException(ErrorCode.FILE_SIZE_EXCEEDED);
+      }
+    }
+
+    private long getCount() {
+      return count;
+    }
   }
 }
@@ -0,0 +1,27 @@
+package com.imjang.domain.property.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 매물 이미지 크기별 변환 설정 (app.image.variants)
+ */
+@ConfigurationProperties(prefix = "app.image.variants")
+@Getter
+@Setter
+public class ImageVariantProperties {
+
+  private boolean enabled = true;
+
+  // 변환 크기 (긴 변 기준 픽셀). 원본보다 큰 크기는 만들지 않음
+  private List<Integer> widths = new ArrayList<>(List.of(150, 300, 800, 1600));
+
+  // 출력 형식. 해당 형식의 ImageIO writer가 없으면(예: WebP 네이티브 라이브러리 로드 불가) jpg로 대체
+  private String format = "webp";
+
+  // 손실 압축 품질 (0.0 ~ 1.0)
+  private float quality = 0.8f;
+}
@@ -0,0 +1,188 @@
+package com.imjang.domain.property.service;
+
+import com.imjang.domain.property.entity.ImageStorage;
+import com.imjang.domain.property.entity.PropertyImageVariant;
+import com.imjang.domain.property.repository.PropertyImageVariantRepository;
+import com.imjang.infrastructure.s3.S3Service;
+import jakarta.annotation.PostConstruct;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매물 이미지 크기별 변환본 생성
+ * 원본을 가장 큰 설정 크기에 맞춰 서브샘플링해 한 번 디코딩하고, 설정된 크기(긴 변 기준)마다 축소,
+ * 품질 설정으로 인코딩해 객체 스토리지에 저장
+ * 변환본 목록은 property_image_variants에 기록하고, 상세 조회 응답에서 클라이언트가 적당한 크기를 고름
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+  private static final String FALLBACK_FORMAT = "jpg";
+
+  private final ImageVariantProperties properties;
+  private final PropertyImageVariantRepository variantRepository;
+  private final S3Service s3Service;
+  private final ImageDecoder imageDecoder;
+  private final TransactionTemplate transactionTemplate;
+
+  private String format;
+
+  /**
+   * 설정 형식의 writer가 없으면 jpg로 대체
+   */
+  @PostConstruct
+  public void init() {
+    String configured = properties.getFormat().toLowerCase(Locale.ROOT);
+    if (ImageIO.getImageWritersByFormatName(configured).hasNext()) {
+      format = configured;
+    } else {
+      log.warn("이미지 변환 형식 {}의 writer가 없어 {}로 대체", configured, FALLBACK_FORMAT);
+      format = FALLBACK_FORMAT;
+    }
+  }
+
+  /**
+   * 변환본 생성 작업 제출 (매물 이미지 S3 업로드 후)
+   *
+   * @param location
+   *         원본 위치 (LOCAL이면 파일 경로, OBJECT_STORAGE면 객체 키)
+   */
+  @Async("thumbnailExecutor")
+  public void generateAsync(Long propertyImageId, Long propertyId, ImageStorage storage, String location) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      generate(propertyImageId, propertyId, storage, location);
+    } catch (IOException | RuntimeException e) {
+      log.error("이미지 변환본 생성 실패: propertyImageId={}", propertyImageId, e);
+    }
+  }
+
+  /**
+   * 원본을 읽어 크기별 변환본을 저장하고 목록을 교체 (재실행 시 같은 키에 덮어씀)
+   */
+  public List<PropertyImageVariant> generate(Long propertyImageId, Long propertyId, ImageStorage storage,
+                                             String location) throws IOException {
+    String baseName = baseNameOf(location);
+    List<PropertyImageVariant> variants;
+    try (InputStream input = storage == ImageStorage.OBJECT_STORAGE
+            ? s3Service.openObject(location) : new FileInputStream(location)) {
+      variants = imageDecoder.decode(input, maxWidth(),
+              source -> createVariants(source, propertyImageId, propertyId, baseName));
+    }
+
+    transactionTemplate.executeWithoutResult(status -> {
+      variantRepository.deleteByPropertyImageId(propertyImageId);
+      variantRepository.saveAll(variants);
+    });
+    log.info("이미지 변환본 생성 완료: propertyImageId={}, sizes={}", propertyImageId, variants.size());
+    return variants;
+  }
+
+  /**
+   * 디코딩된 원본으로 크기별 변환본을 만들어 업로드
+   */
+  private List<PropertyImageVariant> createVariants(BufferedImage source, Long propertyImageId, Long propertyId,
+                                                    String baseName) throws IOException {
+    List<PropertyImageVariant> variants = new ArrayList<>();
+    for (int width : targetWidths(Math.max(source.getWidth(), source.getHeight()))) {
+      BufferedImage resized = Thumbnails.of(source)
+              .size(width, width)
+              .keepAspectRatio(true)
+              .asBufferedImage();
+      String url = s3Service.uploadVariant(encode(resized), propertyId, baseName, width, format);
+
+      variants.add(PropertyImageVariant.builder()
+              .propertyImageId(propertyImageId)
+              .width(width)
+              .pixelWidth(resized.getWidth())
+              .pixelHeight(resized.getHeight())
+              .format(format)
+              .url(url)
+              .build());
+    }
+    return variants;
+  }
+
+  private int maxWidth() {
+    return properties.getWidths().stream().mapToInt(Integer::intValue).max().orElse(0);
+  }
+
+  /**
+   * 원본보다 작은 설정 크기만 사용. 원본이 가장 작은 설정보다 작으면 원본 크기 하나만 만듦
+   */
+  List<Integer> targetWidths(int sourceLongSide) {
+    TreeSet<Integer> widths = new TreeSet<>();
+    for (int width : properties.getWidths()) {
+      if (width > 0 && width <= sourceLongSide) {
+        widths.add(width);
+      }
+    }
+    if (widths.isEmpty()) {
+      widths.add(sourceLongSide);
+    }
+    return List.copyOf(widths);
+  }
+
+  /**
+   * 설정 품질로 인코딩. 알파 채널을 지원하지 않는 jpg는 흰 배경에 합성
+   */
+  private byte[] encode(BufferedImage image) throws IOException {
+    BufferedImage output = image;
+    if (FALLBACK_FORMAT.equals(format) && image.getColorModel().hasAlpha()) {
+      output = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+      Graphics2D graphics = output.createGraphics();
+      graphics.drawImage(image, 0, 0, Color.WHITE, null);
+      graphics.dispose();
+    }
+
+    Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+    ImageWriter writer = writers.next();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(bytes)) {
+      writer.setOutput(stream);
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      if (param.canWriteCompressed()) {
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        if (param.getCompressionType() == null && param.getCompressionTypes() != null) {
+          param.setCompressionType(param.getCompressionTypes()[0]);
+        }
+        param.setCompressionQuality(properties.getQuality());
+      }
+      writer.write(null, new IIOImage(output, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return bytes.toByteArray();
+  }
+
+  private String baseNameOf(String location) {
+    String fileName = location.substring(Math.max(location.lastIndexOf('/'), location.lastIndexOf('\\')) + 1);
+    int dot = fileName.lastIndexOf('.');
+    return dot == -1 ? fileName : fileName.substring(0, dot);
+  }
+}
@@ -10,13 +10,17 @@ import com.imjang.domain.property.dto.response.UpdatePropertyDetailResponse;
 import com.imjang.domain.property.entity.ImageStatus;
 import com.imjang.domain.property.entity.Property;
 import com.imjang.domain.property.entity.PropertyImage;
+import com.imjang.domain.property.entity.PropertyImageVariant;
 import com.imjang.domain.property.location.dto.TransitInfo;
 import com.imjang.domain.property.location.service.LocationInfoService;
 import com.imjang.domain.property.repository.PropertyImageRepository;
+import com.imjang.domain.property.repository.PropertyImageVariantRepository;
 import com.imjang.domain.property.repository.PropertyRepository;
 import com.imjang.global.exception.CustomException;
 import com.imjang.global.exception.ErrorCode;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +33,7 @@ public class PropertyDetailService {
 
   private final PropertyRepository propertyRepository;
   private final PropertyImageRepository propertyImageRepository;
+  private final PropertyImageVariantRepository propertyImageVariantRepository;
   private final LocationInfoService locationInfoService;
 
   /**
@@ -95,8 +100,22 @@ public class PropertyDetailService {
             ? all.stream().filter(img -> img.getStatus() == ImageStatus.PENDING).toList()
             : completed;
 
+    Map<Long, List<PropertyImageDto.Variant>> variantsByImage = display.isEmpty() ? Map.of()
+            : propertyImageVariantRepository.findByPropertyImageIdInOrderByWidth(
+                            display.stream().map(PropertyImage::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(PropertyImageVariant::getPropertyImageId,
+                            Collectors.mapping(variant -> new PropertyImageDto.Variant(
+                                    variant.getWidth(),
+                                    variant.getPixelWidth(),
+                                    variant.getPixelHeight(),
+                                    variant.getFormat(),
+                                    variant.getUrl()
+                            ), Collectors.toList())));
+
     return display.stream()
-            .map(img -> new PropertyImageDto(img.getId(), img.getThumbnailUrl(), img.getImageUrl()))
+            .map(img -> new PropertyImageDto(img.getId(), img.getThumbnailUrl(), img.getImageUrl(),
+                    variantsByImage.getOrDefault(img.getId(), List.of())))
             .toList();
   }
 
@@ -104,12 +123,12 @@ public class PropertyDetailService {
    * 위치 상세 정보 조회
    */
   private LocationDetailInfo getLocationDetailInfo(Property property) {
-    if (property.getH3Index() == null) {
+    if (property.getH3Cell() == null) {
       return null;
     }
 
     // 캐시된 위치 정보 조회
-    return locationInfoService.getLocationInfoByH3Index(property.getH3Index())
+    return locationInfoService.getLocationInfoByH3Cell(property.getH3Cell())
             .map(locationInfo -> {
               TransitInfo transitInfo = locationInfo.transitInfo();
 
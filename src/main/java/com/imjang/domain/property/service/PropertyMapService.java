@@ -2,18 +2,31 @@ package com.imjang.domain.property.service;
 
 import com.imjang.domain.property.dto.request.MapBoundsRequest;
 import com.imjang.domain.property.dto.response.MapMarkersResponse;
+import com.imjang.domain.property.dto.response.MarkerClusterResponse;
 import com.imjang.domain.property.dto.response.PropertyMarkerResponse;
 import com.imjang.domain.property.dto.response.PropertySummaryCardResponse;
 import com.imjang.domain.property.entity.Property;
 import com.imjang.domain.property.entity.PropertyImage;
+import com.imjang.domain.property.location.util.H3CellCover;
 import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.map.MapViewportCache;
+import com.imjang.domain.property.map.MarkerTile;
+import com.imjang.domain.property.map.MarkerTileCache;
+import com.imjang.domain.property.map.MarkerTileEncoder;
+import com.imjang.domain.property.map.PropertyMarker;
+import com.imjang.domain.property.map.PropertyMarkerIndex;
+import com.imjang.domain.property.map.PropertyMarkerVersions;
+import com.imjang.domain.property.map.TileCoordinate;
 import com.imjang.domain.property.repository.PropertyImageRepository;
 import com.imjang.domain.property.repository.PropertyRepository;
 import com.imjang.global.exception.CustomException;
 import com.imjang.global.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,53 +41,324 @@ public class PropertyMapService {
   private final PropertyRepository propertyRepository;
   private final PropertyImageRepository propertyImageRepository;
   private final H3Util h3Util;
+  private final PropertyMarkerIndex propertyMarkerIndex;
+  private final PropertyMarkerVersions propertyMarkerVersions;
+  private final MapViewportCache mapViewportCache;
+  private final MarkerTileCache markerTileCache;
+
+  /**
+   * 클러스터 대표 매물 선정 기준: 평점 높은 순, 동점이면 최신(ID 큰) 순
+   */
+  private static final Comparator<PropertyMarker> REPRESENTATIVE_ORDER =
+          Comparator.comparing(PropertyMarker::rating).thenComparing(PropertyMarker::id);
+
+  /**
+   * 마커 조회 시 polyfill 허용 셀 수 (res 9 기준, 약 300km2)
+   * 초과하면 셀 목록 대신 위경도 범위로 조회
+   */
+  static final long MAX_POLYFILL_CELLS = 3_000;
 
   /**
    * 지도 영역 내 매물 마커 조회
+   * 줌 레벨이 낮으면(넓은 영역) 상위 해상도 H3 셀 단위 클러스터로 집계해서 반환
+   * 이전 viewport와 version이 전달되고 그 사이 데이터 변경이 없으면 추가/제거된 마커만 반환
+   * 전체 응답은 격자에 스냅한 영역 단위로 캐시
    */
   @Transactional(readOnly = true)
   public MapMarkersResponse getMapMarkers(MapBoundsRequest request, Long userId) {
-    Set<String> h3Indices;
+    int resolution = H3Util.resolutionForZoom(request.zoomLevel());
+
+    // 데이터 조회 전에 버전을 읽어야 조회 도중 변경이 생겨도 다음 요청이 전체 응답으로 처리됨
+    String version = propertyMarkerVersions.current(userId);
+
+    if (isDeltaRequest(request, resolution, version)) {
+      return getMarkerDelta(request, userId, version);
+    }
+
+    MapViewportCache.Key key = viewportKey(request, userId, version);
+    MapMarkersResponse cached = mapViewportCache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    MapBoundsRequest snapped = new MapBoundsRequest(
+        key.northEastLat(),
+        key.northEastLng(),
+        key.southWestLat(),
+        key.southWestLng(),
+        request.zoomLevel()
+    );
+
+    MapMarkersResponse response;
+    if (H3Util.isClusterResolution(resolution)) {
+      response = MapMarkersResponse.ofClusters(getClusters(snapped, userId, resolution), version);
+    } else {
+      // 응답이 스냅 영역의 마커와 정확히 일치해야 증분 응답(스냅 영역 기준)과 어긋나지 않음
+      List<PropertyMarkerResponse> markers = findMarkers(snapped, userId).stream()
+          .filter(marker -> key.contains(marker.latitude(), marker.longitude()))
+          .map(PropertyMarkerResponse::from)
+          .toList();
+      response = MapMarkersResponse.ofMarkers(markers, version);
+    }
+
+    mapViewportCache.put(key, response);
+    return response;
+  }
+
+  /**
+   * 마커 전체 응답의 ETag (사용자 매물 데이터 버전 + 스냅 영역)
+   * 메모리의 버전만 읽으므로 DB 조회 없이 304 판단 가능. 증분 응답 대상 요청이면 null
+   */
+  public String getMarkersETag(MapBoundsRequest request, Long userId) {
+    int resolution = H3Util.resolutionForZoom(request.zoomLevel());
+    String version = propertyMarkerVersions.current(userId);
+
+    if (isDeltaRequest(request, resolution, version)) {
+      return null;
+    }
+
+    return viewportKey(request, userId, version).eTag();
+  }
+
+  /**
+   * 현재와 이전 응답이 모두 마커 해상도일 때만 증분 응답
+   * 클러스터 응답도 같은 version을 반환하므로, 이전 줌이 클러스터였으면 클라이언트에 비교할 마커가 없음
+   */
+  private boolean isDeltaRequest(MapBoundsRequest request, int resolution, String version) {
+    return !H3Util.isClusterResolution(resolution)
+        && request.overlapsPrevious()
+        && !H3Util.isClusterResolution(H3Util.resolutionForZoom(request.prevZoomLevel()))
+        && request.version().equals(version);
+  }
+
+  private MapViewportCache.Key viewportKey(MapBoundsRequest request, Long userId, String version) {
+    return mapViewportCache.keyOf(
+        userId,
+        version,
+        request.northEastLat(),
+        request.northEastLng(),
+        request.southWestLat(),
+        request.southWestLng(),
+        request.zoomLevel()
+    );
+  }
+
+  /**
+   * 마커 벡터 타일(MVT) 조회
+   * 타일 영역(버퍼 포함)은 마커 조회와 같은 경로(인메모리 인덱스, H3 셀/위경도 범위 조회)로 가져오고
+   * 사용자 데이터 버전 단위로 인코딩 결과를 캐시
+   */
+  @Transactional(readOnly = true)
+  public MarkerTile getMarkerTile(TileCoordinate tile, Long userId) {
+    String version = propertyMarkerVersions.current(userId);
+    MarkerTileCache.Key key = markerTileCache.keyOf(userId, version, tile);
+    MarkerTile cached = markerTileCache.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    MapBoundsRequest bounds = new MapBoundsRequest(
+        tile.northLat(),
+        tile.eastLng(),
+        tile.southLat(),
+        tile.westLng(),
+        Math.max(tile.z(), 1)
+    );
+    List<PropertyMarker> markers = findMarkers(bounds, userId);
+
+    MarkerTile markerTile = new MarkerTile(MarkerTileEncoder.encode(markers, tile), version);
+    markerTileCache.put(key, markerTile);
+
+    log.debug("마커 타일 인코딩: tile={}/{}/{}, markers={}, bytes={}",
+        tile.z(), tile.x(), tile.y(), markers.size(), markerTile.data().length);
+
+    return markerTile;
+  }
+
+  /**
+   * 마커 타일의 ETag (사용자 매물 데이터 버전 + 타일 좌표)
+   */
+  public String getMarkerTileETag(TileCoordinate tile, Long userId) {
+    return markerTileCache.keyOf(userId, propertyMarkerVersions.current(userId), tile).eTag();
+  }
+
+  /**
+   * 증분 마커 조회
+   * 클라이언트가 가진 마커는 이전 viewport를 (이전 줌의) 격자에 스냅한 영역의 마커이므로 비교도 스냅 영역 기준으로 함
+   * 이전/현재 스냅 영역을 합친 범위를 한 번 조회한 뒤, 현재에만 있는 마커는 추가, 이전에만 있는 마커는 제거로 분류
+   * 응답 후 클라이언트가 가진 마커는 현재 스냅 영역과 같아져 다음 증분 조회도 같은 기준으로 이어짐
+   */
+  private MapMarkersResponse getMarkerDelta(MapBoundsRequest request, Long userId, String version) {
+    MapViewportCache.Key current = viewportKey(request, userId, version);
+    MapViewportCache.Key previous = mapViewportCache.keyOf(
+        userId,
+        version,
+        request.prevNorthEastLat(),
+        request.prevNorthEastLng(),
+        request.prevSouthWestLat(),
+        request.prevSouthWestLng(),
+        request.prevZoomLevel()
+    );
+    MapBoundsRequest union = new MapBoundsRequest(
+        Math.max(current.northEastLat(), previous.northEastLat()),
+        Math.max(current.northEastLng(), previous.northEastLng()),
+        Math.min(current.southWestLat(), previous.southWestLat()),
+        Math.min(current.southWestLng(), previous.southWestLng()),
+        request.zoomLevel()
+    );
+    List<PropertyMarker> markers = findMarkers(union, userId);
+
+    List<PropertyMarkerResponse> added = new ArrayList<>();
+    List<Long> removedIds = new ArrayList<>();
+    for (PropertyMarker marker : markers) {
+      boolean inCurrent = current.contains(marker.latitude(), marker.longitude());
+      boolean inPrevious = previous.contains(marker.latitude(), marker.longitude());
+      if (inCurrent && !inPrevious) {
+        added.add(PropertyMarkerResponse.from(marker));
+      } else if (!inCurrent && inPrevious) {
+        removedIds.add(marker.id());
+      }
+    }
+
+    log.debug("증분 마커 응답: added={}, removed={}", added.size(), removedIds.size());
+
+    return MapMarkersResponse.ofDelta(added, removedIds, version);
+  }
+
+  /**
+   * 영역 내 마커 조회
+   * 인메모리 인덱스 우선, 인덱스 대상이 아닌 사용자(매물 수 상한 초과)만 DB 조회
+   */
+  private List<PropertyMarker> findMarkers(MapBoundsRequest bounds, Long userId) {
+    Optional<List<PropertyMarker>> indexed = findIndexedMarkers(bounds, userId);
+    if (indexed.isPresent()) {
+      return indexed.get();
+    }
+
+    return findMarkersFromDatabase(bounds, userId);
+  }
+
+  /**
+   * 영역 내 클러스터 조회
+   * DB 조회 시 셀 목록 IN절 대신 위경도 범위(idx_property_user_location)로 조회
+   */
+  private List<MarkerClusterResponse> getClusters(MapBoundsRequest bounds, Long userId, int resolution) {
+    List<PropertyMarker> markers = findIndexedMarkers(bounds, userId)
+        .orElseGet(() -> findMarkersInBounds(bounds, userId));
+    return buildClusters(markers, resolution);
+  }
+
+  private Optional<List<PropertyMarker>> findIndexedMarkers(MapBoundsRequest bounds, Long userId) {
+    return propertyMarkerIndex.findInBounds(
+        userId,
+        bounds.northEastLat(),
+        bounds.northEastLng(),
+        bounds.southWestLat(),
+        bounds.southWestLng()
+    );
+  }
+
+  /**
+   * 마커 조회 쿼리 계획
+   * polyfill 셀 수가 임계치를 넘는 넓은 viewport는 셀 변환 없이 위경도 범위 조회로 전환하고,
+   * H3 변환이 실패해도 빈 결과 대신 위경도 범위 조회 결과를 반환
+   */
+  private List<PropertyMarker> findMarkersFromDatabase(MapBoundsRequest request, Long userId) {
+    long estimatedCells = h3Util.estimateCellCount(
+        request.northEastLat(),
+        request.northEastLng(),
+        request.southWestLat(),
+        request.southWestLng(),
+        H3Util.PROPERTY_RESOLUTION
+    );
+
+    if (estimatedCells > MAX_POLYFILL_CELLS) {
+      log.debug("넓은 viewport, 위경도 범위 조회로 전환: estimatedCells={}", estimatedCells);
+      return findMarkersInBounds(request, userId);
+    }
+
+    long[] h3Cells;
     try {
-      h3Indices = h3Util.getH3IndicesForBounds(
+      h3Cells = h3Util.getH3CellsForBounds(
               request.northEastLat(),
               request.northEastLng(),
               request.southWestLat(),
               request.southWestLng(),
-              9  // 매물 저장 해상도와 동일하게 고정
+              H3Util.PROPERTY_RESOLUTION
       );
     } catch (Exception e) {
-      log.warn("H3 변환 실패, 빈 마커 반환", e);
-      return new MapMarkersResponse(List.of());
+      log.warn("H3 변환 실패, 위경도 범위 조회로 대체", e);
+      return findMarkersInBounds(request, userId);
     }
 
-    if (h3Indices.isEmpty()) {
-      return new MapMarkersResponse(List.of());
+    if (h3Cells.length == 0) {
+      return List.of();
     }
 
-    List<Property> properties =
-        propertyRepository.findByUserIdAndH3IndexInAndDeletedAtIsNull(userId, h3Indices);
+    // 수천 개의 res 9 셀을 부모 셀(res 5/7) 동등 조건으로 압축해 바인드 파라미터 수를 줄임
+    H3CellCover cover = h3Util.getCellCover(h3Cells);
 
-    if (properties.isEmpty()) {
-      return new MapMarkersResponse(List.of());
+    return propertyRepository.findMarkersByUserIdAndH3CellCover(
+        userId,
+        cover.res5Cells(),
+        cover.res7Cells(),
+        cover.res9Cells()
+    );
+  }
+
+  private List<PropertyMarker> findMarkersInBounds(MapBoundsRequest request, Long userId) {
+    return propertyRepository.findMarkersByUserIdInBounds(
+        userId,
+        request.southWestLat(),
+        request.northEastLat(),
+        request.southWestLng(),
+        request.northEastLng()
+    );
+  }
+
+  /**
+   * 지도 영역 내 매물을 상위 H3 셀 단위로 집계
+   */
+  private List<MarkerClusterResponse> buildClusters(List<PropertyMarker> markers, int resolution) {
+    if (markers.isEmpty()) {
+      return List.of();
     }
 
-    List<Long> propertyIds = properties.stream().map(Property::getId).toList();
+    Map<Long, List<PropertyMarker>> grouped = new LinkedHashMap<>();
+    for (PropertyMarker marker : markers) {
+      long clusterCell = marker.h3Cell() != null
+          ? h3Util.getParentCell(marker.h3Cell(), resolution)
+          : h3Util.getH3Cell(marker.latitude(), marker.longitude(), resolution);
+      grouped.computeIfAbsent(clusterCell, k -> new ArrayList<>()).add(marker);
+    }
 
-    // N+1 방지: displayOrder=0 썸네일 IN절 일괄 조회
-    Map<Long, String> thumbnailMap = propertyImageRepository
-        .findByPropertyIdInAndDisplayOrder(propertyIds, 0)
-        .stream()
+    Map<Long, PropertyMarker> representatives = grouped.entrySet().stream()
         .collect(Collectors.toMap(
-            img -> img.getProperty().getId(),
-            PropertyImage::getThumbnailUrl
+            Map.Entry::getKey,
+            entry -> entry.getValue().stream().max(REPRESENTATIVE_ORDER).orElseThrow()
         ));
 
-    List<PropertyMarkerResponse> markers = properties.stream()
-        .map(p -> PropertyMarkerResponse.from(p, thumbnailMap.get(p.getId())))
+    List<MarkerClusterResponse> clusters = grouped.entrySet().stream()
+        .map(entry -> {
+          List<PropertyMarker> members = entry.getValue();
+          PropertyMarker representative = representatives.get(entry.getKey());
+          // JS number는 64비트 정수를 온전히 표현하지 못하므로 응답은 문자열 주소로 변환
+          return new MarkerClusterResponse(
+              h3Util.toAddress(entry.getKey()),
+              members.size(),
+              members.stream().mapToDouble(PropertyMarker::latitude).average().orElseThrow(),
+              members.stream().mapToDouble(PropertyMarker::longitude).average().orElseThrow(),
+              members.stream().mapToInt(PropertyMarker::rating).average().orElseThrow(),
+              representative.id(),
+              representative.thumbnailUrl()
+          );
+        })
         .toList();
 
-    return new MapMarkersResponse(markers);
+    log.debug("지도 클러스터 집계: resolution={}, properties={}, clusters={}",
+        resolution, markers.size(), clusters.size());
+
+    return clusters;
   }
 
   /**
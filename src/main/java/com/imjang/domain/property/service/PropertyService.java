@@ -15,6 +15,8 @@ import com.imjang.domain.property.entity.Property;
 import com.imjang.domain.property.entity.PropertyImage;
 import com.imjang.domain.property.entity.TempImage;
 import com.imjang.domain.property.event.PropertyCreatedEvent;
+import com.imjang.domain.property.event.PropertyDeletedEvent;
+import com.imjang.domain.property.event.PropertyUpdatedEvent;
 import com.imjang.domain.property.location.entity.LocationCache;
 import com.imjang.domain.property.location.repository.LocationCacheRepository;
 import com.imjang.domain.property.location.util.H3Util;
@@ -23,6 +25,7 @@ import com.imjang.domain.property.repository.PropertyRepository;
 import com.imjang.domain.property.repository.TempImageRepository;
 import com.imjang.global.exception.CustomException;
 import com.imjang.global.exception.ErrorCode;
+import com.imjang.infrastructure.s3.S3Service;
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -56,6 +59,7 @@ public class PropertyService {
   private final DomainEventPublisher domainEventPublisher;
   private final LocationCacheRepository locationCacheRepository;
   private final H3Util h3Util;
+  private final S3Service s3Service;
 
   @Value("${app.upload.path}")
   private String uploadPath;
@@ -72,37 +76,37 @@ public class PropertyService {
     // 이미지 검증
     List<TempImage> tempImages = validateAndGetTempImages(request.imageIds(), userId);
 
-    // H3 인덱스 계산 및 위치 정보 조회
-    String h3Index = null;
+    // H3 셀 계산 및 위치 정보 조회
+    Long h3Cell = null;
     LocationCache locationCache = null;
 
     try {
-      h3Index = h3Util.getH3Index(request.latitude(), request.longitude());
-      log.debug("H3 인덱스 계산 완료: lat={}, lng={}, h3Index={}",
-              request.latitude(), request.longitude(), h3Index);
+      h3Cell = h3Util.getH3Cell(request.latitude(), request.longitude());
+      log.debug("H3 셀 계산 완료: lat={}, lng={}, h3Cell={}",
+              request.latitude(), request.longitude(), h3Cell);
     } catch (IllegalArgumentException | ArithmeticException e) {
       // 좌표값 오류, H3 계산 오류
-      log.warn("H3 인덱스 계산 실패 (잘못된 좌표값): lat={}, lng={}, error={}",
+      log.warn("H3 셀 계산 실패 (잘못된 좌표값): lat={}, lng={}, error={}",
               request.latitude(), request.longitude(), e.getMessage());
     } catch (Exception e) {
       // 예상치 못한 시스템 오류 - 에러 로그 남기고 재시도 가능하도록 예외 전파
-      log.error("H3 인덱스 계산 중 시스템 오류 발생: lat={}, lng={}",
+      log.error("H3 셀 계산 중 시스템 오류 발생: lat={}, lng={}",
               request.latitude(), request.longitude(), e);
       throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 
-    // location_cache 조회 (H3 인덱스가 있는 경우에만)
-    if (h3Index != null) {
+    // location_cache 조회 (H3 셀이 있는 경우에만)
+    if (h3Cell != null) {
       try {
-        locationCache = locationCacheRepository.findByH3Index(h3Index).orElse(null);
-        log.info("매물 생성: h3Index={}, locationCached={}", h3Index, locationCache != null);
+        locationCache = locationCacheRepository.findByH3Cell(h3Cell).orElse(null);
+        log.info("매물 생성: h3Cell={}, locationCached={}", h3Cell, locationCache != null);
       } catch (Exception e) {
         // DB 조회 실패는 시스템 오류이므로 예외 전파
-        log.error("위치 캐시 조회 실패: h3Index={}", h3Index, e);
+        log.error("위치 캐시 조회 실패: h3Cell={}", h3Cell, e);
         throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
       }
     } else {
-      log.info("매물 생성: h3Index=null (H3 계산 실패로 인한 기본값), locationCached=false");
+      log.info("매물 생성: h3Cell=null (H3 계산 실패로 인한 기본값), locationCached=false");
     }
 
     // 매물 엔티티 생성
@@ -111,7 +115,10 @@ public class PropertyService {
             .address(request.address())
             .latitude(request.latitude())
             .longitude(request.longitude())
-            .h3Index(h3Index)
+            .h3Cell(h3Cell)
+            .h3Res5Cell(h3Cell != null ? h3Util.getParentCell(h3Cell, H3Util.COARSE_PARENT_RESOLUTION) : null)
+            .h3Res7Cell(h3Cell != null ? h3Util.getParentCell(h3Cell, H3Util.MID_PARENT_RESOLUTION) : null)
+            .h3Index(h3Cell != null ? h3Util.toAddress(h3Cell) : null)
             .priceType(request.priceType())
             .deposit(request.deposit())
             .monthlyRent(request.monthlyRent())
@@ -315,6 +322,7 @@ public class PropertyService {
     property.softDelete();
 
     int updatedImageCount = propertyImageRepository.updateStatusByPropertyId(propertyId, ImageStatus.DELETED);
+    domainEventPublisher.publishAfterCommit(new PropertyDeletedEvent(propertyId, userId));
 
     log.info("매물 삭제 완료: propertyId={}, userId={}, deletedImageCount={}",
             propertyId, userId, updatedImageCount);
@@ -333,6 +341,7 @@ public class PropertyService {
             .orElseThrow(() -> new CustomException(ErrorCode.ENTITY_NOT_FOUND));
 
     propertyImage.updateStatus(ImageStatus.DELETED);
+    domainEventPublisher.publishAfterCommit(new PropertyUpdatedEvent(propertyId));
   }
 
   /**
@@ -352,8 +361,11 @@ public class PropertyService {
             .mapToObj(i -> {
               TempImage tempImage = tempImages.get(i);
 
-              String tempImageUrl = convertToWebPath(tempImage.getOriginalUrl());
-              String tempThumbnailUrl = convertToWebPath(tempImage.getThumbnailUrl());
+              String tempImageUrl = toTempImageUrl(tempImage, tempImage.getOriginalUrl());
+              // 객체 스토리지 이미지 중 썸네일을 만들지 못한 것은 원본을 썸네일로 사용
+              String tempThumbnailUrl = toTempImageUrl(tempImage,
+                      tempImage.isStoredInObjectStorage() && !tempImage.isThumbnailReady()
+                              ? tempImage.getOriginalUrl() : tempImage.getThumbnailUrl());
 
               return PropertyImage.builder()
                       .property(property)
@@ -366,6 +378,13 @@ public class PropertyService {
             .toList();
   }
 
+  /**
+   * S3 업로드 전까지 사용할 임시 이미지 URL (객체 스토리지 이미지는 임시 객체의 공개 URL)
+   */
+  private String toTempImageUrl(TempImage tempImage, String location) {
+    return tempImage.isStoredInObjectStorage() ? s3Service.getPublicUrl(location) : convertToWebPath(location);
+  }
+
   /**
    * 파일 시스템 경로를 웹 접근 가능한 경로로 변환
    */
@@ -0,0 +1,181 @@
+package com.imjang.domain.property.service;
+
+import com.imjang.domain.property.entity.TempImage;
+import com.imjang.domain.property.entity.ThumbnailStatus;
+import com.imjang.domain.property.repository.TempImageRepository;
+import com.imjang.infrastructure.s3.S3Service;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 임시 이미지 썸네일 생성
+ * 업로드 요청 스레드 밖(thumbnailExecutor)에서 원본을 디코딩하고, 끝난 뒤 상태만 단건 UPDATE로 기록
+ * 이미지 디코딩 동안 트랜잭션이나 DB 커넥션을 잡지 않음
+ * 원본은 ImageDecoder로 썸네일 크기에 맞춰 서브샘플링해 읽고, 디코딩 한도 대기 초과 시 PENDING으로 남겨 재시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+
+  private final TempImageRepository tempImageRepository;
+  private final S3Service s3Service;
+  private final ImageDecoder imageDecoder;
+
+  @Value("${app.thumbnail.width:300}")
+  private int thumbnailWidth;
+
+  @Value("${app.thumbnail.height:300}")
+  private int thumbnailHeight;
+
+  @Value("${app.thumbnail.format:png}")
+  private String thumbnailFormat;
+
+  /**
+   * 썸네일 생성 작업 제출. 큐가 가득 차면 TaskRejectedException (호출 측에서 처리)
+   */
+  @Async("thumbnailExecutor")
+  public void generateAsync(Long tempImageId, String originalPath, String thumbnailPath) {
+    generate(tempImageId, originalPath, thumbnailPath);
+  }
+
+  /**
+   * 썸네일 생성 후 상태 기록
+   * @return 생성에 성공하면 true
+   */
+  public boolean generate(Long tempImageId, String originalPath, String thumbnailPath) {
+    try {
+      return generateOrDefer(tempImageId, originalPath, thumbnailPath);
+    } catch (ImageDecoder.DecodeCapacityExceededException e) {
+      log.warn("썸네일 생성 보류 (디코딩 한도): tempImageId={}", tempImageId);
+      return false;
+    }
+  }
+
+  /**
+   * 썸네일 생성 후 상태 기록. 디코딩 한도 대기 초과는 상태를 바꾸지 않고 던져 호출 측이 재시도하게 함
+   * @return 생성에 성공하면 true
+   */
+  private boolean generateOrDefer(Long tempImageId, String originalPath, String thumbnailPath)
+          throws ImageDecoder.DecodeCapacityExceededException {
+    try {
+      createThumbnail(new File(originalPath), new File(thumbnailPath));
+    } catch (ImageDecoder.DecodeCapacityExceededException e) {
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      log.error("썸네일 생성 실패: tempImageId={}", tempImageId, e);
+      tempImageRepository.updateThumbnailStatus(tempImageId, ThumbnailStatus.FAILED, LocalDateTime.now());
+      return false;
+    }
+
+    tempImageRepository.updateThumbnailStatus(tempImageId, ThumbnailStatus.COMPLETED, LocalDateTime.now());
+    log.debug("🖼️썸네일 저장 경로: {}", thumbnailPath);
+    return true;
+  }
+
+  /**
+   * 객체 스토리지에 저장된 원본으로 썸네일 생성 작업 제출 (직접 업로드 완료 시)
+   */
+  @Async("thumbnailExecutor")
+  public void generateFromObjectAsync(Long tempImageId, String originalKey, String thumbnailKey) {
+    generateFromObject(tempImageId, originalKey, thumbnailKey);
+  }
+
+  /**
+   * 객체 스토리지 원본을 스트림으로 읽어 디코딩하고 썸네일을 같은 스토리지에 저장한 뒤 상태 기록
+   * @return 생성에 성공하면 true
+   */
+  public boolean generateFromObject(Long tempImageId, String originalKey, String thumbnailKey) {
+    try (InputStream original = s3Service.openObject(originalKey)) {
+      byte[] thumbnail = imageDecoder.decode(original, getThumbnailLongSide(), this::encodeThumbnail);
+      s3Service.uploadBytes(thumbnail, thumbnailKey, "image/" + thumbnailFormat);
+    } catch (ImageDecoder.DecodeCapacityExceededException e) {
+      log.warn("썸네일 생성 보류 (디코딩 한도): tempImageId={}", tempImageId);
+      return false;
+    } catch (IOException | RuntimeException e) {
+      log.error("썸네일 생성 실패: tempImageId={}", tempImageId, e);
+      tempImageRepository.updateThumbnailStatus(tempImageId, ThumbnailStatus.FAILED, LocalDateTime.now());
+      return false;
+    }
+
+    tempImageRepository.updateThumbnailStatus(tempImageId, ThumbnailStatus.COMPLETED, LocalDateTime.now());
+    return true;
+  }
+
+  /**
+   * 저장 위치에 맞는 방식으로 썸네일 생성 (재시도용)
+   */
+  public boolean generate(TempImage tempImage) {
+    return tempImage.isStoredInObjectStorage()
+            ? generateFromObject(tempImage.getId(), tempImage.getOriginalUrl(), tempImage.getThumbnailUrl())
+            : generate(tempImage.getId(), tempImage.getOriginalUrl(), tempImage.getThumbnailUrl());
+  }
+
+  /**
+   * 썸네일이 아직 없으면 호출 스레드에서 생성 (S3 업로드 직전 등 썸네일이 반드시 필요한 경우)
+   * @return 썸네일 파일이 준비됐으면 true, 원본을 디코딩할 수 없으면 false
+   * @throws ImageDecoder.DecodeCapacityExceededException
+   *         디코딩 한도 대기 초과 (일시적이므로 호출 측에서 나중에 재시도)
+   */
+  public boolean ensureThumbnail(TempImage tempImage) throws ImageDecoder.DecodeCapacityExceededException {
+    if (tempImage.isThumbnailReady() && new File(tempImage.getThumbnailUrl()).exists()) {
+      return true;
+    }
+    return generateOrDefer(tempImage.getId(), tempImage.getOriginalUrl(), tempImage.getThumbnailUrl());
+  }
+
+  /**
+   * 이미 디코딩된 이미지로 썸네일 인코딩 (스트리밍 업로드에서 원본을 다시 읽지 않도록)
+   */
+  public byte[] encodeThumbnail(BufferedImage image) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    Thumbnails.of(image)
+            .size(thumbnailWidth, thumbnailHeight)
+            .keepAspectRatio(true)
+            .outputFormat(thumbnailFormat)
+            .toOutputStream(output);
+    return output.toByteArray();
+  }
+
+  public String getThumbnailFormat() {
+    return thumbnailFormat;
+  }
+
+  /**
+   * 썸네일에 필요한 원본 디코딩 해상도 (긴 변 기준)
+   */
+  public int getThumbnailLongSide() {
+    return Math.max(thumbnailWidth, thumbnailHeight);
+  }
+
+  /**
+   * 썸네일 생성 (Thumbnailator 라이브러리 사용)
+   * 외부 설정에 따라 썸네일 크기와 포맷을 동적으로 설정
+   * 원본 전체 해상도 대신 썸네일 크기 이상으로만 서브샘플링해 디코딩
+   *
+   * @param originalFile
+   *         원본 파일
+   * @param thumbnailFile
+   *         썸네일 저장 경로
+   */
+  private void createThumbnail(File originalFile, File thumbnailFile) throws IOException {
+    imageDecoder.decode(originalFile, getThumbnailLongSide(), image -> {
+      Thumbnails.of(image)
+              .size(thumbnailWidth, thumbnailHeight)
+              .keepAspectRatio(true)
+              .outputFormat(thumbnailFormat)
+              .toFile(thumbnailFile);
+      return null;
+    });
+  }
+}
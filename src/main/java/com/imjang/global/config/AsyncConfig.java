@@ -1,10 +1,13 @@
 package com.imjang.global.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 비동기 처리 설정
@@ -35,8 +38,23 @@ public class AsyncConfig {
     return executor;
   }
 
+  /**
+   * 썸네일 생성 전용. 이미지 디코딩은 CPU와 메모리를 많이 쓰므로 스레드 수를 작게 고정하고,
+   * 큐가 가득 차면 제출을 거절(업로드는 성공, 썸네일은 ThumbnailRecoveryScheduler가 재시도)
+   */
+  @Bean(name = "thumbnailExecutor")
+  public Executor thumbnailExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.setQueueCapacity(100);
+    executor.setThreadNamePrefix("Thumbnail-");
+    executor.initialize();
+    return executor;
+  }
+
   @Bean(name = "locationTaskExecutor")
-  public Executor locationTaskExecutor() {
+  public ThreadPoolTaskExecutor locationTaskExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(2);
     executor.setMaxPoolSize(5);
@@ -45,4 +63,15 @@ public class AsyncConfig {
     executor.initialize();
     return executor;
   }
+
+  /**
+   * 위치 정보 수집 중 블로킹 작업(DB 조회, 저장)을 실행할 Reactor 스케줄러
+   * locationTaskExecutor 스레드를 그대로 사용하므로 큐(50)가 차면 작업이 거절되고 구독자에게 오류로 전달됨
+   * executor 종료는 executor 빈이 담당
+   */
+  @Bean(name = "locationScheduler", destroyMethod = "")
+  public Scheduler locationScheduler(
+          @Qualifier("locationTaskExecutor") ThreadPoolTaskExecutor locationTaskExecutor) {
+    return Schedulers.fromExecutorService(locationTaskExecutor.getThreadPoolExecutor(), "location");
+  }
 }
@@ -79,6 +79,8 @@ public class S3Config {
       private String namespace;
       private String imagePrefix = "images/properties";
       private String thumbnailPrefix = "thumbnails/properties";
+      private String tempPrefix = "images/temp";
+      private String variantPrefix = "images/variants";
     }
   }
 }
\ No newline at end of file
@@ -37,6 +37,8 @@ public enum ErrorCode {
   INVALID_FILE_TYPE(HttpStatus.BAD_REQUEST, "F002", "지원하지 않는 파일 형식입니다"),
   FILE_SIZE_EXCEEDED(HttpStatus.BAD_REQUEST, "F003", "파일 크기가 10MB를 초과합니다"),
   EMPTY_FILE(HttpStatus.BAD_REQUEST, "F004", "파일이 비어있습니다"),
+  UPLOAD_ALREADY_COMPLETED(HttpStatus.CONFLICT, "F005", "이미 등록된 업로드입니다"),
+  UPLOADED_FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "F006", "업로드된 파일을 찾을 수 없습니다"),
 
   // Database
   DATA_INTEGRITY_VIOLATION(HttpStatus.CONFLICT, "D001", "데이터 무결성 위반입니다"),
@@ -45,7 +47,8 @@ public enum ErrorCode {
   // External API
   EXTERNAL_API_ERROR(HttpStatus.BAD_GATEWAY, "E001", "외부 API 호출 중 오류가 발생했습니다"),
   EXTERNAL_API_BAD_REQUEST(HttpStatus.BAD_REQUEST, "E002", "외부 API 요청이 잘못되었습니다"),
-  RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "E003", "API 요청 제한을 초과했습니다");
+  RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "E003", "API 요청 제한을 초과했습니다"),
+  EXTERNAL_API_RATE_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "E004", "외부 API 호출 한도에 도달했습니다");
 
   private final HttpStatus httpStatus;
   private final String code;
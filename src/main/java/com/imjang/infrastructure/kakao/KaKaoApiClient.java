@@ -4,13 +4,13 @@ import com.imjang.global.exception.CustomException;
 import com.imjang.global.exception.ErrorCode;
 import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchRequest;
 import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchResponse;
-import io.github.resilience4j.ratelimiter.RateLimiter;
-import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import jakarta.annotation.PostConstruct;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -22,7 +22,11 @@ import reactor.util.retry.Retry;
 @RequiredArgsConstructor
 public class KaKaoApiClient {
 
+  private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
   private final WebClient.Builder webClientBuilder;
+  private final KakaoRequestScheduler requestScheduler;
+  private final KakaoResponseCache responseCache;
 
   @Value("${kakao.api.key}")
   private String kakaoApiKey;
@@ -31,7 +35,6 @@ public class KaKaoApiClient {
   private String kakaoBaseUrl;
 
   private WebClient webClient;
-  private RateLimiter rateLimiter;
 
   @PostConstruct
   public void init() {
@@ -39,22 +42,39 @@ public class KaKaoApiClient {
             .baseUrl(kakaoBaseUrl)
             .defaultHeader("Authorization", "KakaoAK " + kakaoApiKey)
             .build();
+  }
 
-    RateLimiterConfig config = RateLimiterConfig.custom()
-            .limitRefreshPeriod(Duration.ofSeconds(1))
-            .limitForPeriod(10)
-            .timeoutDuration(Duration.ofSeconds(5))
-            .build();
-
-    this.rateLimiter = RateLimiter.of("kakao-api", config);
+  /**
+   * 카테고리로 장소 검색 (사용자 요청 우선순위)
+   */
+  public Mono<KakaoCategorySearchResponse> searchByCategory(KakaoCategorySearchRequest request) {
+    return searchByCategory(request, KakaoRequestPriority.INTERACTIVE);
   }
 
   /**
    * 카테고리로 장소 검색
+   * 응답 디스크 캐시가 켜져 있으면 캐시를 먼저 확인 (REPLAY는 캐시에 없으면 Kakao를 호출하지 않고 실패)
    */
-  public Mono<KakaoCategorySearchResponse> searchByCategory(KakaoCategorySearchRequest request) {
-    return executeWithRateLimit(() ->
-            webClient.get()
+  public Mono<KakaoCategorySearchResponse> searchByCategory(KakaoCategorySearchRequest request,
+                                                            KakaoRequestPriority priority) {
+    return switch (responseCache.mode()) {
+      case OFF -> requestApi(request, priority);
+      case RECORD -> responseCache.get(request)
+              .switchIfEmpty(Mono.defer(() -> requestApi(request, priority)
+                      .flatMap(response -> responseCache.put(request, response).thenReturn(response))));
+      case REPLAY -> responseCache.get(request)
+              .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.EXTERNAL_API_ERROR)));
+    };
+  }
+
+  /**
+   * Kakao API 호출
+   * 호출 허용을 받을 때까지 우선순위 대기열에서 기다리며, 재시도도 매번 다시 허용을 받음
+   */
+  private Mono<KakaoCategorySearchResponse> requestApi(KakaoCategorySearchRequest request,
+                                                       KakaoRequestPriority priority) {
+    return requestScheduler.acquire(priority)
+            .then(Mono.defer(() -> webClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/v2/local/search/category.json")
                             .queryParam("category_group_code", request.categoryGroupCode())
@@ -66,34 +86,47 @@ public class KaKaoApiClient {
                             .queryParam("sort", request.sort())
                             .build())
                     .retrieve()
+                    .onStatus(status -> status.value() == HttpStatus.TOO_MANY_REQUESTS.value(), response -> {
+                      requestScheduler.onThrottled(parseRetryAfter(
+                              response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER)));
+                      return Mono.error(new CustomException(ErrorCode.EXTERNAL_API_RATE_LIMITED));
+                    })
                     .onStatus(HttpStatusCode::is4xxClientError, response ->
                             Mono.error(new CustomException(ErrorCode.EXTERNAL_API_BAD_REQUEST)))
                     .onStatus(HttpStatusCode::is5xxServerError, response ->
                             Mono.error(new CustomException(ErrorCode.EXTERNAL_API_ERROR)))
-                    .bodyToMono(KakaoCategorySearchResponse.class)
-                    .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
-                            .filter(throwable -> throwable instanceof CustomException &&
-                                    ((CustomException) throwable).getErrorCode() == ErrorCode.EXTERNAL_API_ERROR))
-                    .doOnError(error -> log.error("카테고리 검색 실패: {}", request, error))
-    );
+                    .bodyToMono(KakaoCategorySearchResponse.class)))
+            .retryWhen(Retry.backoff(3, Duration.ofSeconds(1))
+                    .filter(KaKaoApiClient::isRetryable))
+            .doOnError(error -> log.error("카테고리 검색 실패: {}", request, error));
+  }
+
+  /**
+   * 현재 바로 통과 가능한 호출 수 (일괄 작업이 사용자 요청 몫을 남기고 호출하도록 확인용)
+   */
+  public int availablePermissions() {
+    return requestScheduler.availablePermissions();
+  }
+
+  private static boolean isRetryable(Throwable throwable) {
+    if (!(throwable instanceof CustomException customException)) {
+      return false;
+    }
+    return customException.getErrorCode() == ErrorCode.EXTERNAL_API_ERROR
+            || customException.getErrorCode() == ErrorCode.EXTERNAL_API_RATE_LIMITED;
   }
 
   /**
-   * Rate Limiting 적용 API 호출
+   * Retry-After 헤더(초) 파싱. 없거나 날짜 형식이면 기본 1초
    */
-  private <T> Mono<T> executeWithRateLimit(java.util.function.Supplier<Mono<T>> supplier) {
-    return Mono.fromSupplier(() -> {
-              boolean permission = rateLimiter.acquirePermission();
-              if (!permission) {
-                log.warn("Rate limit exceeded for Kakao API");
-              }
-              return permission;
-            })
-            .flatMap(hasPermission -> {
-              if (!hasPermission) {
-                return Mono.error(new CustomException(ErrorCode.RATE_LIMIT_EXCEEDED));
-              }
-              return supplier.get();
-            });
+  static Duration parseRetryAfter(String retryAfter) {
+    if (retryAfter == null) {
+      return DEFAULT_RETRY_AFTER;
+    }
+    try {
+      return Duration.ofSeconds(Math.max(1, Long.parseLong(retryAfter.trim())));
+    } catch (NumberFormatException e) {
+      return DEFAULT_RETRY_AFTER;
+    }
   }
 }
@@ -0,0 +1,9 @@
+package com.imjang.infrastructure.kakao;
+
+/**
+ * Kakao API 호출 우선순위 (선언 순서가 높은 우선순위)
+ */
+public enum KakaoRequestPriority {
+  INTERACTIVE,  // 사용자 요청으로 시작된 수집 (위치 정보 사전 수집)
+  BACKGROUND    // 만료 데이터 갱신, 워밍업
+}
@@ -0,0 +1,258 @@
+package com.imjang.infrastructure.kakao;
+
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Kakao API 호출 허용 스케줄러 (우선순위 대기열 + 적응형 토큰 버킷)
+ * 토큰이 없으면 거절하지 않고 대기열에 넣고, 토큰이 생기면 우선순위가 높은 요청부터(같은 우선순위는 먼저 온 순) 통과시킴
+ * 대기는 스레드를 점유하지 않음 (토큰 생성 시점에 단일 dispatcher 스레드에서 이어서 처리)
+ * 429 응답을 받으면 Retry-After 동안 통과를 멈추고 초당 허용 수를 절반으로 줄인 뒤, 이후 초당 1씩 회복
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoRequestScheduler {
+
+  private static final double MIN_RATE = 1.0;
+  private static final double RATE_RECOVERY_PER_SECOND = 1.0;
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${kakao.api.rate-limit.permits-per-second:10}")
+  private int permitsPerSecond;
+
+  @Value("${kakao.api.rate-limit.max-queue-size:200}")
+  private int maxQueueSize;
+
+  @Value("${kakao.api.rate-limit.max-wait-ms:30000}")
+  private long maxWaitMillis;
+
+  private final PriorityBlockingQueue<PendingRequest> queue = new PriorityBlockingQueue<>(64,
+          Comparator.comparing(PendingRequest::priority).thenComparingLong(PendingRequest::sequence));
+  private final AtomicLong sequence = new AtomicLong();
+  private final Map<KakaoRequestPriority, Timer> waitTimers = new EnumMap<>(KakaoRequestPriority.class);
+
+  private Scheduler dispatcher;
+  private Counter throttledCounter;
+  private Counter rejectedCounter;
+
+  // 토큰 버킷 상태. dispatcher 스레드에서만 변경하고, 변경/조회 모두 bucketLock 안에서 수행
+  private final Object bucketLock = new Object();
+  private double rate;
+  private double tokens;
+  private long lastRefillNanos;
+  private long pausedUntilNanos;
+
+  // dispatcher 스레드 전용
+  private boolean timedDrainScheduled;
+
+  // 게이지용
+  private volatile double currentRate;
+
+  @PostConstruct
+  public void init() {
+    this.dispatcher = Schedulers.newSingle("kakao-dispatch", true);
+    this.rate = permitsPerSecond;
+    this.tokens = permitsPerSecond;
+    this.lastRefillNanos = System.nanoTime();
+    this.pausedUntilNanos = lastRefillNanos;
+    this.currentRate = rate;
+
+    for (KakaoRequestPriority priority : KakaoRequestPriority.values()) {
+      Gauge.builder("kakao.queue.depth", queue, q -> q.stream().filter(p -> p.priority() == priority).count())
+              .tag("priority", priority.name())
+              .register(meterRegistry);
+      waitTimers.put(priority, Timer.builder("kakao.queue.wait")
+              .tag("priority", priority.name())
+              .register(meterRegistry));
+    }
+    Gauge.builder("kakao.rate", this, scheduler -> scheduler.currentRate).register(meterRegistry);
+    this.throttledCounter = meterRegistry.counter("kakao.throttled");
+    this.rejectedCounter = meterRegistry.counter("kakao.queue.rejected");
+  }
+
+  @PreDestroy
+  public void destroy() {
+    dispatcher.dispose();
+  }
+
+  /**
+   * 호출 허용을 받으면 완료되는 Mono. 대기열이 가득 찼거나 max-wait 이상 기다리면 RATE_LIMIT_EXCEEDED
+   * 구독을 취소하면 대기열에서 빠지고 토큰을 쓰지 않음
+   */
+  public Mono<Void> acquire(KakaoRequestPriority priority) {
+    return Mono.create(sink -> {
+      if (queue.size() >= maxQueueSize) {
+        rejectedCounter.increment();
+        sink.error(new CustomException(ErrorCode.RATE_LIMIT_EXCEEDED));
+        return;
+      }
+
+      PendingRequest pending = new PendingRequest(priority, sequence.getAndIncrement(), System.nanoTime(), sink);
+      sink.onCancel(() -> queue.remove(pending));
+      queue.offer(pending);
+      dispatcher.schedule(this::drain);
+    });
+  }
+
+  /**
+   * Kakao 429 응답 반영: retryAfter 동안 통과 중지, 초당 허용 수 절반으로 감소
+   */
+  public void onThrottled(Duration retryAfter) {
+    throttledCounter.increment();
+    dispatcher.schedule(() -> {
+      synchronized (bucketLock) {
+        long now = System.nanoTime();
+        refill(now);
+        pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+        rate = Math.max(MIN_RATE, rate / 2);
+        tokens = 0;
+        currentRate = rate;
+      }
+      log.warn("Kakao API 429 응답, {}ms 대기 후 초당 {}회로 재개", retryAfter.toMillis(), rate);
+      drain();
+    });
+  }
+
+  /**
+   * 지금 바로 통과 가능한 호출 수 (대기열이 비어 drain이 돌지 않는 동안 생긴 토큰까지 읽는 시점 기준으로 계산)
+   */
+  public int availablePermissions() {
+    synchronized (bucketLock) {
+      long now = System.nanoTime();
+      if (now < pausedUntilNanos) {
+        return 0;
+      }
+      double elapsedSeconds = elapsedSecondsSinceRefill(now);
+      double recoveredRate = recoveredRate(elapsedSeconds);
+      return (int) Math.min(recoveredRate, tokens + elapsedSeconds * recoveredRate);
+    }
+  }
+
+  public int queueSize() {
+    return queue.size();
+  }
+
+  private void drain() {
+    long now = System.nanoTime();
+    List<PendingRequest> expired = new ArrayList<>();
+    List<PendingRequest> released = new ArrayList<>();
+
+    // 토큰 계산만 잠금 안에서 하고, 구독자 콜백은 잠금 밖에서 호출
+    synchronized (bucketLock) {
+      refill(now);
+      while (!queue.isEmpty()) {
+        PendingRequest head = queue.peek();
+        if (now - head.enqueuedAtNanos() > TimeUnit.MILLISECONDS.toNanos(maxWaitMillis)) {
+          queue.remove(head);
+          expired.add(head);
+          continue;
+        }
+        if (now < pausedUntilNanos || tokens < 1) {
+          break;
+        }
+        if (!queue.remove(head)) {
+          continue;  // 취소됨
+        }
+        tokens -= 1;
+        released.add(head);
+      }
+      currentRate = rate;
+    }
+
+    for (PendingRequest request : expired) {
+      rejectedCounter.increment();
+      request.sink().error(new CustomException(ErrorCode.RATE_LIMIT_EXCEEDED));
+    }
+    for (PendingRequest request : released) {
+      // drain 시작 후 들어온 요청은 now보다 늦게 등록되었으므로 현재 시각 기준으로 기록
+      waitTimers.get(request.priority()).record(
+              Math.max(0, System.nanoTime() - request.enqueuedAtNanos()), TimeUnit.NANOSECONDS);
+      request.sink().success();
+    }
+
+    scheduleNextDrain(now);
+  }
+
+  /**
+   * 대기 중인 요청이 있으면 다음 토큰이 생기는 시점에 다시 처리
+   */
+  private void scheduleNextDrain(long now) {
+    if (queue.isEmpty() || timedDrainScheduled) {
+      return;
+    }
+
+    long delayNanos;
+    synchronized (bucketLock) {
+      long untilResume = Math.max(0, pausedUntilNanos - now);
+      long untilToken = tokens >= 1 ? 0 : (long) ((1 - tokens) / rate * NANOS_PER_SECOND);
+      delayNanos = Math.max(untilResume, untilToken);
+    }
+
+    timedDrainScheduled = true;
+    dispatcher.schedule(() -> {
+      timedDrainScheduled = false;
+      drain();
+    }, Math.max(1, TimeUnit.NANOSECONDS.toMillis(delayNanos)), TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * 마지막 계산 이후 쌓인 토큰과 회복된 초당 허용 수 반영 (bucketLock 안에서 호출)
+   */
+  private void refill(long now) {
+    double elapsedSeconds = elapsedSecondsSinceRefill(now);
+    lastRefillNanos = now;
+    if (elapsedSeconds <= 0) {
+      return;
+    }
+
+    rate = recoveredRate(elapsedSeconds);
+    tokens = Math.min(rate, tokens + elapsedSeconds * rate);
+  }
+
+  /**
+   * 통과 중지 구간을 제외한 마지막 계산 이후 경과 시간
+   */
+  private double elapsedSecondsSinceRefill(long now) {
+    long from = Math.max(lastRefillNanos, pausedUntilNanos);
+    return now <= from ? 0 : (double) (now - from) / NANOS_PER_SECOND;
+  }
+
+  private double recoveredRate(double elapsedSeconds) {
+    return Math.min(permitsPerSecond, rate + elapsedSeconds * RATE_RECOVERY_PER_SECOND);
+  }
+
+  private record PendingRequest(
+          KakaoRequestPriority priority,
+          long sequence,
+          long enqueuedAtNanos,
+          MonoSink<Void> sink
+  ) {
+
+  }
+}
@@ -0,0 +1,113 @@
+package com.imjang.infrastructure.kakao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchRequest;
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchResponse;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Kakao 카테고리 검색 응답 디스크 캐시 (부하 테스트, 운영 트래픽 재생용)
+ * 키는 (카테고리, 반올림한 경도/위도, 반경, 페이지, 크기). 파일 하나에 응답 JSON 하나를 저장
+ * RECORD: 캐시에 없으면 호출 후 저장, REPLAY: 캐시만 사용(없으면 실패, Kakao 호출 없음), OFF: 사용 안 함
+ * 반올림 범위 안의 다른 좌표 요청에도 같은 응답을 돌려주므로 문서의 distance는 최대 반올림 오차만큼 다를 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KakaoResponseCache {
+
+  public enum Mode {
+    OFF,
+    RECORD,
+    REPLAY
+  }
+
+  private final ObjectMapper objectMapper;
+
+  @Value("${kakao.api.response-cache.mode:off}")
+  private String modeName;
+
+  @Value("${kakao.api.response-cache.directory:kakao-response-cache}")
+  private String directory;
+
+  // 좌표 반올림 자릿수 (4 = 약 11m)
+  @Value("${kakao.api.response-cache.coordinate-scale:4}")
+  private int coordinateScale;
+
+  private Mode mode;
+
+  @PostConstruct
+  public void init() {
+    this.mode = Mode.valueOf(modeName.trim().toUpperCase(Locale.ROOT));
+    if (mode != Mode.OFF) {
+      log.info("Kakao 응답 디스크 캐시 사용: mode={}, directory={}", mode, Path.of(directory).toAbsolutePath());
+    }
+  }
+
+  public Mode mode() {
+    return mode;
+  }
+
+  /**
+   * 저장된 응답 조회 (없으면 empty). 파일 IO는 boundedElastic에서 실행
+   */
+  public Mono<KakaoCategorySearchResponse> get(KakaoCategorySearchRequest request) {
+    Path file = pathOf(request);
+    return Mono.fromCallable(() -> {
+              if (!Files.exists(file)) {
+                return null;
+              }
+              return objectMapper.readValue(file.toFile(), KakaoCategorySearchResponse.class);
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(e -> {
+              log.warn("Kakao 응답 캐시 읽기 실패: {}", file, e);
+              return Mono.empty();
+            });
+  }
+
+  /**
+   * 응답 저장. 임시 파일에 쓴 뒤 이동해 동시 읽기에 쓰다 만 파일이 보이지 않게 함
+   */
+  public Mono<Void> put(KakaoCategorySearchRequest request, KakaoCategorySearchResponse response) {
+    Path file = pathOf(request);
+    return Mono.<Void>fromRunnable(() -> {
+              try {
+                Files.createDirectories(file.getParent());
+                Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+                objectMapper.writeValue(temp.toFile(), response);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+              } catch (IOException e) {
+                throw new IllegalStateException(e);
+              }
+            })
+            .subscribeOn(Schedulers.boundedElastic())
+            .onErrorResume(e -> {
+              log.warn("Kakao 응답 캐시 저장 실패: {}", file, e);
+              return Mono.empty();
+            });
+  }
+
+  Path pathOf(KakaoCategorySearchRequest request) {
+    String fileName = round(request.x()) + "_" + round(request.y()) + "_r" + request.radius()
+            + "_p" + request.page() + "_s" + request.size() + ".json";
+    return Path.of(directory, request.categoryGroupCode(), fileName);
+  }
+
+  private String round(String coordinate) {
+    return new BigDecimal(coordinate).setScale(coordinateScale, RoundingMode.HALF_UP).toPlainString();
+  }
+}
@@ -0,0 +1,118 @@
+package com.imjang.infrastructure.kakao.controller;
+
+import com.imjang.infrastructure.kakao.dto.KakaoCategoryCode;
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchResponse;
+import io.swagger.v3.oas.annotations.Hidden;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 부하 테스트용 가짜 Kakao 카테고리 검색 API (loadtest 프로필 전용)
+ * kakao.api.baseurl을 이 서버로 지정하면 Kakao 할당량 없이 위치 정보 수집 경로 전체를 실행할 수 있음
+ * 응답 문서는 (카테고리, 좌표, 반경)으로 시드를 정해 생성하므로 같은 요청에는 항상 같은 응답
+ * 지연(latency-ms ± latency-jitter-ms)과 오류(error-rate: 500, throttle-rate: 429)를 주입 가능
+ */
+@Hidden
+@Slf4j
+@RestController
+@Profile("loadtest")
+public class FakeKakaoApiController {
+
+  private static final double METERS_PER_DEGREE = 111_320;
+
+  @Value("${kakao.fake.latency-ms:80}")
+  private long latencyMillis;
+
+  @Value("${kakao.fake.latency-jitter-ms:40}")
+  private long latencyJitterMillis;
+
+  @Value("${kakao.fake.error-rate:0.0}")
+  private double errorRate;
+
+  @Value("${kakao.fake.throttle-rate:0.0}")
+  private double throttleRate;
+
+  @GetMapping("/v2/local/search/category.json")
+  public Mono<ResponseEntity<KakaoCategorySearchResponse>> searchByCategory(
+          @RequestParam("category_group_code") String categoryGroupCode,
+          @RequestParam double x,
+          @RequestParam double y,
+          @RequestParam(defaultValue = "20000") int radius,
+          @RequestParam(defaultValue = "15") int size) {
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long delay = latencyMillis + (latencyJitterMillis > 0
+            ? random.nextLong(-latencyJitterMillis, latencyJitterMillis + 1) : 0);
+
+    ResponseEntity<KakaoCategorySearchResponse> response;
+    double roll = random.nextDouble();
+    if (roll < throttleRate) {
+      response = ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+              .header(HttpHeaders.RETRY_AFTER, "1")
+              .build();
+    } else if (roll < throttleRate + errorRate) {
+      response = ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    } else {
+      response = ResponseEntity.ok(generate(categoryGroupCode, x, y, radius, size));
+    }
+
+    return Mono.delay(Duration.ofMillis(Math.max(0, delay)))
+            .thenReturn(response);
+  }
+
+  /**
+   * 요청 좌표 주변의 가짜 장소 생성 (거리 오름차순)
+   */
+  static KakaoCategorySearchResponse generate(String categoryGroupCode, double x, double y, int radius, int size) {
+    Random random = new Random(Objects.hash(categoryGroupCode, Math.round(x * 1e4), Math.round(y * 1e4), radius));
+    int totalCount = random.nextInt(16);
+    String categoryName = Arrays.stream(KakaoCategoryCode.values())
+            .filter(category -> category.getCode().equals(categoryGroupCode))
+            .map(KakaoCategoryCode::getDescription)
+            .findFirst()
+            .orElse(categoryGroupCode);
+
+    int[] distances = random.ints(totalCount, 10, Math.max(11, radius + 1)).sorted().toArray();
+    List<KakaoCategorySearchResponse.Document> documents = new ArrayList<>();
+    for (int i = 0; i < Math.min(totalCount, size); i++) {
+      double bearing = random.nextDouble() * 2 * Math.PI;
+      double latitude = y + distances[i] * Math.cos(bearing) / METERS_PER_DEGREE;
+      double longitude = x + distances[i] * Math.sin(bearing) / (METERS_PER_DEGREE * Math.cos(Math.toRadians(y)));
+
+      documents.add(new KakaoCategorySearchResponse.Document(
+              String.valueOf(Math.abs(random.nextLong())),
+              categoryName + " " + (i + 1),
+              categoryName,
+              categoryGroupCode,
+              categoryName,
+              null,
+              "부하 테스트 주소 " + (i + 1),
+              null,
+              String.valueOf(longitude),
+              String.valueOf(latitude),
+              null,
+              String.valueOf(distances[i])
+      ));
+    }
+
+    return new KakaoCategorySearchResponse(
+            new KakaoCategorySearchResponse.Meta(totalCount, totalCount, true),
+            documents
+    );
+  }
+}
@@ -6,14 +6,25 @@ import com.imjang.global.exception.ErrorCode;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 @Slf4j
 @Service
@@ -21,6 +32,7 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 public class S3Service {
 
   private final S3Client s3Client;
+  private final S3Presigner s3Presigner;
   private final S3Config.S3Properties s3Properties;
 
   /**
@@ -55,6 +67,174 @@ public class S3Service {
     return uploadFile(file, key);
   }
 
+  /**
+   * 크기별 변환본 업로드
+   * 형식: {variantPrefix}/{propertyId}/{baseName}_w{width}.{format}
+   *
+   * @return S3 공개 URL
+   */
+  public String uploadVariant(byte[] data, Long propertyId, String baseName, int width, String format) {
+    String key = String.format("%s/%d/%s_w%d.%s",
+            s3Properties.getS3().getVariantPrefix(),
+            propertyId,
+            baseName,
+            width,
+            format);
+    return uploadBytes(data, key, "image/" + ("jpg".equals(format) ? "jpeg" : format));
+  }
+
+  /**
+   * 임시 이미지(매물 등록 전) 객체 키 생성
+   * 형식: {tempPrefix}/user{userId}/{yyyy}/{MM}/{fileName}
+   */
+  public String generateTempKey(Long userId, String fileName) {
+    LocalDate now = LocalDate.now();
+    return String.format("%s/user%d/%d/%02d/%s",
+            s3Properties.getS3().getTempPrefix(),
+            userId,
+            now.getYear(),
+            now.getMonthValue(),
+            fileName);
+  }
+
+  /**
+   * 해당 사용자에게 발급된 임시 이미지 키인지 확인
+   */
+  public boolean isTempKeyOf(String key, Long userId) {
+    String prefix = s3Properties.getS3().getTempPrefix() + "/user" + userId + "/";
+    return key.startsWith(prefix) && !key.contains("..");
+  }
+
+  /**
+   * 객체 스토리지로 바로 쓰는 업로드 스트림 열기 (멀티파트, 파트 크기 S3UploadStream.MIN_PART_SIZE)
+   */
+  public S3UploadStream openUploadStream(String key, String contentType) {
+    return new S3UploadStream(s3Client, s3Properties.getS3().getBucket(), key, contentType,
+            S3UploadStream.MIN_PART_SIZE);
+  }
+
+  /**
+   * 메모리에 있는 작은 데이터(썸네일 등) 업로드
+   *
+   * @return S3 공개 URL
+   */
+  public String uploadBytes(byte[] data, String key, String contentType) {
+    try {
+      s3Client.putObject(PutObjectRequest.builder()
+                      .bucket(s3Properties.getS3().getBucket())
+                      .key(key)
+                      .contentType(contentType)
+                      .build(),
+              RequestBody.fromBytes(data));
+      return generatePublicUrl(key);
+    } catch (S3Exception e) {
+      log.error("S3 업로드 실패: {}", key, e);
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+  }
+
+  /**
+   * 임시 이미지 객체를 매물 이미지 위치로 복사 (서버 측 복사, 데이터가 애플리케이션을 거치지 않음)
+   *
+   * @return S3 공개 URL
+   */
+  public String copyToImage(String sourceKey, Long propertyId, String fileName) {
+    return copyObject(sourceKey, generateImageKey(propertyId, fileName));
+  }
+
+  /**
+   * 임시 썸네일 객체를 매물 썸네일 위치로 복사
+   *
+   * @return S3 공개 URL
+   */
+  public String copyToThumbnail(String sourceKey, Long propertyId, String fileName) {
+    return copyObject(sourceKey, generateThumbnailKey(propertyId, fileName));
+  }
+
+  /**
+   * 클라이언트가 버킷에 직접 PUT할 수 있는 서명된 URL 발급
+   * Content-Type과 Content-Length가 서명에 포함되므로 다른 형식, 다른 크기로는 업로드할 수 없음
+   */
+  public PresignedPutObjectRequest presignUpload(String key, String contentType, long contentLength,
+                                                 Duration ttl) {
+    PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+            .bucket(s3Properties.getS3().getBucket())
+            .key(key)
+            .contentType(contentType)
+            .contentLength(contentLength)
+            .build();
+
+    return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+            .signatureDuration(ttl)
+            .putObjectRequest(putObjectRequest)
+            .build());
+  }
+
+  /**
+   * 객체 메타데이터 조회. 객체가 없으면 빈 값
+   */
+  public Optional<HeadObjectResponse> headObject(String key) {
+    try {
+      return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+              .bucket(s3Properties.getS3().getBucket())
+              .key(key)
+              .build()));
+    } catch (S3Exception e) {
+      if (e.statusCode() == 404) {
+        return Optional.empty();
+      }
+      log.error("S3 메타데이터 조회 실패: {}", key, e);
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+  }
+
+  /**
+   * 객체 내용을 스트림으로 열기 (호출 측에서 닫아야 함)
+   */
+  public InputStream openObject(String key) {
+    try {
+      return s3Client.getObject(GetObjectRequest.builder()
+              .bucket(s3Properties.getS3().getBucket())
+              .key(key)
+              .build());
+    } catch (S3Exception e) {
+      log.error("S3 객체 조회 실패: {}", key, e);
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+  }
+
+  public String getPublicUrl(String key) {
+    return generatePublicUrl(key);
+  }
+
+  /**
+   * 공개 URL에서 객체 키 추출 (이 버킷의 URL이 아니면 null)
+   */
+  public String keyOf(String publicUrl) {
+    String prefix = generatePublicUrl("");
+    return publicUrl != null && publicUrl.startsWith(prefix) ? publicUrl.substring(prefix.length()) : null;
+  }
+
+  private String copyObject(String sourceKey, String destinationKey) {
+    try {
+      String bucket = s3Properties.getS3().getBucket();
+      s3Client.copyObject(CopyObjectRequest.builder()
+              .sourceBucket(bucket)
+              .sourceKey(sourceKey)
+              .destinationBucket(bucket)
+              .destinationKey(destinationKey)
+              .build());
+
+      String url = generatePublicUrl(destinationKey);
+      log.info("S3 복사 성공: {} -> {}", sourceKey, url);
+      return url;
+
+    } catch (S3Exception e) {
+      log.error("S3 복사 실패: {} -> {}", sourceKey, destinationKey, e);
+      throw new CustomException(ErrorCode.FILE_UPLOAD_FAILED);
+    }
+  }
+
   private String uploadFile(File file, String key) {
     try (FileInputStream inputStream = new FileInputStream(file)) {
 
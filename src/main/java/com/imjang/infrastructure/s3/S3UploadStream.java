@@ -0,0 +1,181 @@
+package com.imjang.infrastructure.s3;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * 객체 스토리지로 바로 쓰는 OutputStream
+ * partSize만큼 버퍼에 모아 멀티파트 업로드 파트로 전송하므로 메모리에는 최대 한 파트만 유지
+ * 전체 크기가 한 파트 이하이면 멀티파트 없이 단건 PUT. close()로 완료하고, 실패 시 abort()로 정리
+ */
+@Slf4j
+public class S3UploadStream extends OutputStream {
+
+  // S3 멀티파트 최소 파트 크기 (마지막 파트 제외)
+  public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+  private final S3Client s3Client;
+  private final String bucket;
+  private final String key;
+  private final String contentType;
+  private final byte[] buffer;
+  private final List<CompletedPart> completedParts = new ArrayList<>();
+
+  private int position;
+  private long size;
+  private String uploadId;
+  private boolean closed;
+
+  S3UploadStream(S3Client s3Client, String bucket, String key, String contentType, int partSize) {
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+    this.key = key;
+    this.contentType = contentType;
+    this.buffer = new byte[Math.max(partSize, MIN_PART_SIZE)];
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    ensureOpen();
+    if (position == buffer.length) {
+      uploadPart();
+    }
+    buffer[position++] = (byte) b;
+    size++;
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException {
+    ensureOpen();
+    while (length > 0) {
+      if (position == buffer.length) {
+        uploadPart();
+      }
+      int chunk = Math.min(length, buffer.length - position);
+      System.arraycopy(bytes, offset, buffer, position, chunk);
+      position += chunk;
+      offset += chunk;
+      length -= chunk;
+      size += chunk;
+    }
+  }
+
+  /**
+   * 업로드 완료
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    try {
+      if (uploadId == null) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(),
+                bufferedBody());
+        return;
+      }
+
+      if (position > 0) {
+        uploadPart();
+      }
+      s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+              .bucket(bucket)
+              .key(key)
+              .uploadId(uploadId)
+              .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+              .build());
+    } catch (SdkException e) {
+      abortQuietly();
+      throw new IOException("객체 스토리지 업로드 완료 실패: " + key, e);
+    }
+  }
+
+  /**
+   * 업로드 취소 (진행 중인 멀티파트 파트 정리)
+   */
+  public void abort() {
+    closed = true;
+    abortQuietly();
+  }
+
+  private void uploadPart() throws IOException {
+    try {
+      if (uploadId == null) {
+        uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+      }
+
+      int partNumber = completedParts.size() + 1;
+      String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                      .bucket(bucket)
+                      .key(key)
+                      .uploadId(uploadId)
+                      .partNumber(partNumber)
+                      .build(),
+              bufferedBody()).eTag();
+      completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+      position = 0;
+    } catch (SdkException e) {
+      abort();
+      throw new IOException("객체 스토리지 파트 업로드 실패: " + key, e);
+    }
+  }
+
+  // 버퍼를 복사하지 않고 전송 (동기 호출이 끝난 뒤에만 버퍼를 재사용)
+  private RequestBody bufferedBody() {
+    return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position);
+  }
+
+  private void abortQuietly() {
+    if (uploadId == null) {
+      return;
+    }
+    try {
+      s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+              .bucket(bucket)
+              .key(key)
+              .uploadId(uploadId)
+              .build());
+    } catch (SdkException e) {
+      log.warn("멀티파트 업로드 취소 실패: key={}, uploadId={}", key, uploadId, e);
+    }
+    uploadId = null;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("이미 닫힌 업로드 스트림: " + key);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.imjang.domain.property.event;
 
+import com.imjang.domain.property.location.service.LocationFetchOutcome;
 import com.imjang.domain.property.location.service.LocationInfoService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,10 +9,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Mono;
 
 import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -34,6 +37,9 @@ class PropertyEventListenerIntegrationTest {
                 1L
         );
 
+        when(locationInfoService.fetchAndCacheLocationInfo(anyDouble(), anyDouble()))
+                .thenReturn(Mono.just(LocationFetchOutcome.FETCHED));
+
         // When
         eventPublisher.publishEvent(event);
 
@@ -1,25 +1,49 @@
 package com.imjang.domain.property.location.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imjang.domain.property.location.dto.AmenityInfo;
+import com.imjang.domain.property.location.dto.LocationInfo;
+import com.imjang.domain.property.location.dto.TransitInfo;
+import com.imjang.domain.property.location.entity.LocationAmenity;
 import com.imjang.domain.property.location.entity.LocationCache;
+import com.imjang.domain.property.location.repository.LocationAmenityRepository;
 import com.imjang.domain.property.location.repository.LocationCacheRepository;
 import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
 import com.imjang.infrastructure.kakao.KaKaoApiClient;
+import com.imjang.infrastructure.kakao.KakaoRequestPriority;
+import com.imjang.infrastructure.kakao.dto.KakaoCategoryCode;
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchRequest;
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @ExtendWith(MockitoExtension.class)
 class LocationInfoServiceTest {
@@ -37,7 +61,21 @@ class LocationInfoServiceTest {
   private H3Util h3Util;
 
   @Mock
-  private ObjectMapper objectMapper;
+  private LocationAmenityRepository locationAmenityRepository;
+
+  @Mock
+  private LocationCacheWriter locationCacheWriter;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Spy
+  private LocationInfoCache locationInfoCache = new LocationInfoCache(meterRegistry);
+
+  @Spy
+  private Scheduler locationScheduler = Schedulers.immediate();
+
+  @Spy
+  private MeterRegistry outcomeRegistry = new SimpleMeterRegistry();
 
   @Test
   @DisplayName("캐시 히트 시 API를 호출하지 않는다")
@@ -45,17 +83,18 @@ class LocationInfoServiceTest {
     // Given
     Double lat = 37.5665;
     Double lng = 126.9780;
-    String h3Index = "8930e1d8b93ffff";
+    long h3Cell = 0x8930e1d8b93ffffL;
 
-    when(h3Util.getH3Index(lat, lng)).thenReturn(h3Index);
-    when(locationCacheRepository.findValidCacheByH3Index(eq(h3Index), any(LocalDateTime.class)))
+    when(h3Util.getH3Cell(lat, lng)).thenReturn(h3Cell);
+    when(locationCacheRepository.findValidCacheByH3Cell(eq(h3Cell), any(LocalDateTime.class)))
             .thenReturn(Optional.of(LocationCache.builder().build()));
 
     // When
-    locationInfoService.fetchAndCacheLocationInfo(lat, lng);
+    LocationFetchOutcome outcome = locationInfoService.fetchAndCacheLocationInfo(lat, lng).block();
 
     // Then
-    verify(kakaoApiClient, never()).searchByCategory(any());
+    assertThat(outcome).isEqualTo(LocationFetchOutcome.CACHED);
+    verify(kakaoApiClient, never()).searchByCategory(any(), any());
     verify(locationCacheRepository, never()).save(any());
   }
 
@@ -65,59 +104,326 @@ class LocationInfoServiceTest {
     // Given
     Double lat = 37.5665;
     Double lng = 126.9780;
-    String h3Index = "8930e1d8b93ffff";
+    long h3Cell = 0x8930e1d8b93ffffL;
 
-    when(h3Util.getH3Index(lat, lng)).thenReturn(h3Index);
-    when(locationCacheRepository.findValidCacheByH3Index(eq(h3Index), any(LocalDateTime.class)))
+    when(h3Util.getH3Cell(lat, lng)).thenReturn(h3Cell);
+    when(locationCacheRepository.findValidCacheByH3Cell(eq(h3Cell), any(LocalDateTime.class)))
             .thenReturn(Optional.empty());
 
     // When
-    locationInfoService.fetchAndCacheLocationInfo(lat, lng);
+    locationInfoService.fetchAndCacheLocationInfo(lat, lng).block();
 
     // Then
     // 최소한 캐시 조회는 했는지 확인
-    verify(locationCacheRepository).findValidCacheByH3Index(eq(h3Index), any(LocalDateTime.class));
+    verify(locationCacheRepository).findValidCacheByH3Cell(eq(h3Cell), any(LocalDateTime.class));
+  }
+
+  @Test
+  @DisplayName("같은 셀의 동시 수집 요청은 진행 중인 수집에 합류해 API를 한 번만 호출한다")
+  void shouldJoinInFlightFetchForSameCell() {
+    // Given - 응답이 아직 오지 않은 수집
+    Double lat = 37.5665;
+    Double lng = 126.9780;
+    long h3Cell = 0x8930e1d8b93ffffL;
+
+    when(h3Util.getH3Cell(lat, lng)).thenReturn(h3Cell);
+    when(locationCacheRepository.findValidCacheByH3Cell(eq(h3Cell), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+    when(kakaoApiClient.searchByCategory(any(), any())).thenReturn(Mono.never());
+
+    // When
+    locationInfoService.fetchAndCacheLocationInfo(lat, lng).subscribe();
+    locationInfoService.fetchAndCacheLocationInfo(lat, lng).subscribe();
+
+    // Then - 지하철 1회 + 편의시설 5개 카테고리
+    verify(kakaoApiClient, times(6)).searchByCategory(any(), any());
+  }
+
+  @Test
+  @DisplayName("늦게 끝난 이전 수집은 그 사이 새로 등록된 같은 셀의 수집을 해제하지 않는다")
+  @SuppressWarnings("unchecked")
+  void shouldNotEvictNewerInFlightFetch() {
+    // Given - 응답 대기 중인 수집
+    long h3Cell = 0x8930e1d8b93ffffL;
+    Sinks.One<KakaoCategorySearchResponse> response = Sinks.one();
+    when(kakaoApiClient.searchByCategory(any(), any())).thenReturn(response.asMono());
+
+    locationInfoService.fetchLocationInfo(h3Cell, 37.5665, 126.9780, KakaoRequestPriority.BACKGROUND).subscribe();
+    Map<Long, Mono<LocationInfo>> inFlightFetches =
+            (Map<Long, Mono<LocationInfo>>) ReflectionTestUtils.getField(locationInfoService, "inFlightFetches");
+    Mono<LocationInfo> newer = Mono.never();
+    inFlightFetches.put(h3Cell, newer);
+
+    // When - 이전 수집 종료
+    response.tryEmitError(new IllegalStateException("timeout"));
+
+    // Then
+    assertThat(inFlightFetches.get(h3Cell)).isSameAs(newer);
+  }
+
+  @Test
+  @DisplayName("유효한 이웃 셀 데이터가 있으면 거리만 다시 계산해 저장하고 API를 호출하지 않는다")
+  void shouldReuseNeighborCacheWithRecomputedDistance() throws Exception {
+    // Given
+    ReflectionTestUtils.setField(locationInfoService, "neighborKRing", 1);
+    Double lat = 37.5665;
+    Double lng = 126.9780;
+    long h3Cell = 0x8930e1d8b93ffffL;
+    long neighborCell = 0x8930e1d8b97ffffL;
+    LocalDateTime fetchedAt = LocalDateTime.now().minusDays(2);
+
+    LocationCache neighbor = LocationCache.builder()
+            .h3Cell(neighborCell)
+            .centerLat(37.5670)
+            .centerLng(126.9790)
+            .subwayStationName("시청역")
+            .subwayDistance(150)
+            .subwayWalkTime(2)
+            .busStopCount(0)
+            .subwayLat(37.5657)
+            .subwayLng(126.9769)
+            .subwayFetchedAt(fetchedAt)
+            .source("KAKAO")
+            .lastFetchedAt(fetchedAt)
+            .build();
+
+    when(h3Util.getH3Cell(lat, lng)).thenReturn(h3Cell);
+    when(h3Util.getNeighborCells(h3Cell, 1)).thenReturn(new long[] {neighborCell});
+    when(h3Util.distanceMeters(lat, lng, 37.5657, 126.9769)).thenReturn(132.4);
+    when(locationCacheRepository.findValidCacheByH3Cell(eq(h3Cell), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+    when(locationCacheRepository.findValidCachesByH3CellIn(eq(java.util.List.of(neighborCell)),
+            any(LocalDateTime.class), eq("KAKAO")))
+            .thenReturn(java.util.List.of(neighbor));
+
+    // When
+    LocationFetchOutcome outcome = locationInfoService.fetchAndCacheLocationInfo(lat, lng).block();
+
+    // Then
+    assertThat(outcome).isEqualTo(LocationFetchOutcome.NEIGHBOR_REUSED);
+    verify(kakaoApiClient, never()).searchByCategory(any(), any());
+    verify(locationCacheWriter).upsert(eq(h3Cell), any(), eq(lat), eq(lng), any(LocationInfo.class), any(Integer.class),
+            eq("NEIGHBOR"), eq(0), any(), eq(fetchedAt));
+    assertThat(locationInfoCache.get(h3Cell)).hasValueSatisfying(info -> {
+      assertThat(info.transitInfo().subwayDistance()).isEqualTo(132);
+      assertThat(info.transitInfo().nearestSubwayStation()).isEqualTo("시청역");
+    });
+  }
+
+  @Test
+  @DisplayName("한 카테고리 수집이 실패해도 나머지 결과를 저장하고 누락 카테고리를 기록한다")
+  void shouldSavePartialResultWhenOneCategoryFails() {
+    // Given
+    Double lat = 37.5665;
+    Double lng = 126.9780;
+    long h3Cell = 0x8930e1d8b93ffffL;
+
+    when(h3Util.getH3Cell(lat, lng)).thenReturn(h3Cell);
+    when(locationCacheRepository.findValidCacheByH3Cell(eq(h3Cell), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+    when(kakaoApiClient.searchByCategory(any(), any())).thenAnswer(invocation -> {
+      KakaoCategorySearchRequest request = invocation.getArgument(0);
+      if (KakaoCategoryCode.BANK.getCode().equals(request.categoryGroupCode())) {
+        return Mono.error(new CustomException(ErrorCode.EXTERNAL_API_ERROR));
+      }
+      return Mono.just(new KakaoCategorySearchResponse(null, List.of()));
+    });
+
+    // When
+    LocationFetchOutcome outcome = locationInfoService.fetchAndCacheLocationInfo(lat, lng).block();
+
+    // Then
+    assertThat(outcome).isEqualTo(LocationFetchOutcome.FETCHED);
+    verify(locationCacheWriter).upsert(eq(h3Cell), any(), eq(lat), eq(lng), any(LocationInfo.class), any(Integer.class),
+            eq("KAKAO"), eq(6), eq(KakaoCategoryCode.BANK.getCode()), any());
+    assertThat(locationInfoCache.get(h3Cell)).hasValueSatisfying(info -> {
+      assertThat(info.transitInfo()).isNotNull();
+      assertThat(info.amenityInfos()).extracting(AmenityInfo::categoryCode)
+              .doesNotContain(KakaoCategoryCode.BANK.getCode())
+              .hasSize(4);
+    });
+  }
+
+  @Test
+  @DisplayName("재수집 시 유효기간이 남은 카테고리는 다시 호출하지 않고 누락된 카테고리만 호출한다")
+  void shouldRefetchOnlyMissingCategories() {
+    // Given - 은행만 누락된 저장 데이터
+    long h3Cell = 0x8930e1d8b93ffffL;
+    LocalDateTime fetchedAt = LocalDateTime.now().minusDays(1);
+    List<AmenityInfo> storedAmenities = List.of(
+            KakaoCategoryCode.CONVENIENCE_STORE,
+            KakaoCategoryCode.MART,
+            KakaoCategoryCode.HOSPITAL,
+            KakaoCategoryCode.PHARMACY
+    ).stream()
+            .map(category -> new AmenityInfo(category.getDescription(), category.getCode(), 0,
+                    null, null, null, null, fetchedAt))
+            .toList();
+    locationInfoCache.put(h3Cell, LocationInfo.of(h3Cell, TransitInfo.empty().withFetchedAt(fetchedAt),
+            storedAmenities), fetchedAt);
+
+    when(kakaoApiClient.searchByCategory(any(), any()))
+            .thenReturn(Mono.just(new KakaoCategorySearchResponse(null, List.of())));
+
+    // When
+    locationInfoService.refreshLocationInfo(h3Cell, 37.5665, 126.9780);
+
+    // Then
+    verify(kakaoApiClient, times(1)).searchByCategory(
+            argThat(request -> KakaoCategoryCode.BANK.getCode().equals(request.categoryGroupCode())), any());
+    verify(locationCacheWriter).upsert(eq(h3Cell), any(), any(), any(), any(LocationInfo.class), any(Integer.class),
+            eq("KAKAO"), eq(1), isNull(), any());
+  }
+
+  @Test
+  @DisplayName("H3 셀로 캐시된 위치 정보를 조회한다")
+  void shouldRetrieveCachedLocationInfoByH3Cell() {
+    // Given
+    long h3Cell = 0x8930e1d8b93ffffL;
+    LocationCache mockCache = LocationCache.builder()
+            .h3Cell(h3Cell)
+            .centerLat(37.5665)
+            .centerLng(126.9780)
+            .subwayStationName("시청역")
+            .subwayDistance(320)
+            .subwayWalkTime(4)
+            .busStopCount(0)
+            .subwayFetchedAt(LocalDateTime.now().minusDays(1))
+            .build();
+    LocationAmenity bank = LocationAmenity.builder()
+            .h3Cell(h3Cell)
+            .categoryCode(KakaoCategoryCode.BANK.getCode())
+            .categoryName(KakaoCategoryCode.BANK.getDescription())
+            .count(2)
+            .fetchedAt(LocalDateTime.now().minusDays(1))
+            .build();
+    LocationAmenity convenienceStore = LocationAmenity.builder()
+            .h3Cell(h3Cell)
+            .categoryCode(KakaoCategoryCode.CONVENIENCE_STORE.getCode())
+            .categoryName(KakaoCategoryCode.CONVENIENCE_STORE.getDescription())
+            .count(5)
+            .fetchedAt(LocalDateTime.now().minusDays(1))
+            .build();
+
+    when(locationCacheRepository.findByH3Cell(h3Cell))
+            .thenReturn(Optional.of(mockCache));
+    when(locationAmenityRepository.findByH3Cell(h3Cell))
+            .thenReturn(List.of(bank, convenienceStore));
+
+    // When
+    var result = locationInfoService.getLocationInfoByH3Cell(h3Cell);
+
+    // Then
+    verify(locationCacheRepository).findByH3Cell(h3Cell);
+    assertThat(result).hasValueSatisfying(info -> {
+      assertThat(info.transitInfo().nearestSubwayStation()).isEqualTo("시청역");
+      assertThat(info.transitInfo().subwayDistance()).isEqualTo(320);
+      // 편의시설은 카테고리 순서(편의점, 마트, 은행, ...)로 정렬
+      assertThat(info.amenityInfos()).extracting(AmenityInfo::categoryCode)
+              .containsExactly(KakaoCategoryCode.CONVENIENCE_STORE.getCode(), KakaoCategoryCode.BANK.getCode());
+    });
   }
 
   @Test
-  @DisplayName("H3 인덱스로 캐시된 위치 정보를 조회한다")
-  void shouldRetrieveCachedLocationInfoByH3Index() throws Exception {
+  @DisplayName("유효기간 내 위치 정보는 L1 캐시에서 DB 조회 없이 반환한다")
+  void shouldServeFromL1CacheAfterFirstLoad() {
     // Given
-    String h3Index = "8930e1d8b93ffff";
+    long h3Cell = 0x8930e1d8b93ffffL;
     LocationCache mockCache = LocationCache.builder()
-            .h3Index(h3Index)
+            .h3Cell(h3Cell)
             .centerLat(37.5665)
             .centerLng(126.9780)
-            .transitData(
-                    "{\"nearestSubwayStation\":null,\"subwayDistance\":null,\"subwayWalkTime\":null,"
-                            + "\"busStopCount\":0}")
-            .amenitiesData("[]")
+            .lastFetchedAt(LocalDateTime.now().minusDays(1))
             .build();
 
-    when(locationCacheRepository.findByH3Index(h3Index))
+    when(locationCacheRepository.findByH3Cell(h3Cell))
             .thenReturn(Optional.of(mockCache));
-    when(objectMapper.readValue(anyString(), eq(com.imjang.domain.property.location.dto.TransitInfo.class)))
-            .thenReturn(com.imjang.domain.property.location.dto.TransitInfo.empty());
-    when(objectMapper.readValue(anyString(), any(com.fasterxml.jackson.databind.type.CollectionType.class)))
-            .thenReturn(new java.util.ArrayList<>());
-    when(objectMapper.getTypeFactory()).thenReturn(new com.fasterxml.jackson.databind.ObjectMapper().getTypeFactory());
 
     // When
-    var result = locationInfoService.getLocationInfoByH3Index(h3Index);
+    var first = locationInfoService.getLocationInfoByH3Cell(h3Cell);
+    var second = locationInfoService.getLocationInfoByH3Cell(h3Cell);
+
+    // Then
+    assertThat(second).isPresent();
+    assertThat(second.get()).isSameAs(first.get());
+    verify(locationCacheRepository, times(1)).findByH3Cell(h3Cell);
+    verify(locationAmenityRepository, times(1)).findByH3Cell(h3Cell);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", LocationInfoCache.CACHE_NAME).tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("유효기간이 지난 위치 정보도 갱신 전까지 L1 캐시에서 제공한다")
+  void shouldServeExpiredLocationInfoUntilRefreshed() {
+    // Given
+    long h3Cell = 0x8930e1d8b93ffffL;
+    LocationCache expiredCache = LocationCache.builder()
+            .h3Cell(h3Cell)
+            .centerLat(37.5665)
+            .centerLng(126.9780)
+            .lastFetchedAt(LocalDateTime.now().minusDays(LocationInfoService.CACHE_VALID_DAYS + 1))
+            .build();
+
+    when(locationCacheRepository.findByH3Cell(h3Cell))
+            .thenReturn(Optional.of(expiredCache));
+
+    // When
+    locationInfoService.getLocationInfoByH3Cell(h3Cell);
+    locationInfoService.getLocationInfoByH3Cell(h3Cell);
+
+    // Then
+    verify(locationCacheRepository, times(1)).findByH3Cell(h3Cell);
+  }
+
+  @Test
+  @DisplayName("만료된 행이 있는 셀은 수집 시 API를 호출하지 않고 백그라운드 갱신에 맡긴다")
+  void shouldLeaveStaleCellToBackgroundRefresh() {
+    // Given
+    Double lat = 37.5665;
+    Double lng = 126.9780;
+    long h3Cell = 0x8930e1d8b93ffffL;
+
+    when(h3Util.getH3Cell(lat, lng)).thenReturn(h3Cell);
+    when(locationCacheRepository.findValidCacheByH3Cell(eq(h3Cell), any(LocalDateTime.class)))
+            .thenReturn(Optional.empty());
+    when(locationCacheRepository.existsByH3Cell(h3Cell)).thenReturn(true);
+
+    // When
+    LocationFetchOutcome outcome = locationInfoService.fetchAndCacheLocationInfo(lat, lng).block();
+
+    // Then
+    assertThat(outcome).isEqualTo(LocationFetchOutcome.PENDING_REFRESH);
+    verify(kakaoApiClient, never()).searchByCategory(any(), any());
+    verify(h3Util, never()).getNeighborCells(any(Long.class), any(Integer.class));
+  }
+
+  @Test
+  @DisplayName("작업 큐가 가득 차 거절되면 조회 없이 REJECTED로 끝나고 지표에 기록한다")
+  void shouldReportRejectedWhenExecutorQueueIsFull() {
+    // Given - 제출을 항상 거절하는 스케줄러
+    ReflectionTestUtils.setField(locationInfoService, "locationScheduler",
+            Schedulers.fromExecutor(task -> {
+              throw new RejectedExecutionException("queue full");
+            }));
+
+    // When
+    LocationFetchOutcome outcome = locationInfoService.fetchAndCacheLocationInfo(37.5665, 126.9780).block();
 
     // Then
-    verify(locationCacheRepository).findByH3Index(h3Index);
-    assert (result.isPresent());
+    assertThat(outcome).isEqualTo(LocationFetchOutcome.REJECTED);
+    verify(locationCacheRepository, never()).findValidCacheByH3Cell(any(), any());
+    assertThat(outcomeRegistry.get("location.fetch").tag("outcome", "REJECTED").counter().count())
+            .isEqualTo(1.0);
   }
 
   @Test
-  @DisplayName("null H3 인덱스로 조회 시 빈 Optional을 반환한다")
-  void shouldReturnEmptyOptionalWhenH3IndexIsNull() {
+  @DisplayName("null H3 셀로 조회 시 빈 Optional을 반환한다")
+  void shouldReturnEmptyOptionalWhenH3CellIsNull() {
     // When
-    var result = locationInfoService.getLocationInfoByH3Index(null);
+    var result = locationInfoService.getLocationInfoByH3Cell(null);
 
     // Then
     assert (result.isEmpty());
-    verify(locationCacheRepository, never()).findByH3Index(any());
+    verify(locationCacheRepository, never()).findByH3Cell(any());
   }
 }
@@ -0,0 +1,146 @@
+package com.imjang.domain.property.location.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.imjang.domain.property.location.entity.LocationWarmupCheckpoint;
+import com.imjang.domain.property.location.repository.LocationWarmupCheckpointRepository;
+import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.repository.PropertyRepository;
+import com.imjang.infrastructure.kakao.KaKaoApiClient;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class LocationWarmupServiceTest {
+
+  @Mock
+  private LocationInfoService locationInfoService;
+
+  @Mock
+  private LocationWarmupCheckpointRepository checkpointRepository;
+
+  @Mock
+  private PropertyRepository propertyRepository;
+
+  @Mock
+  private KaKaoApiClient kakaoApiClient;
+
+  private H3Util h3Util;
+  private LocationWarmupProperties properties;
+  private LocationWarmupService locationWarmupService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    h3Util = new H3Util();
+    properties = new LocationWarmupProperties();
+    properties.setBatchSize(2);
+    properties.setPermitWaitMillis(0);
+    locationWarmupService = new LocationWarmupService(
+            locationInfoService, checkpointRepository, propertyRepository, kakaoApiClient, h3Util, properties);
+  }
+
+  @Test
+  @DisplayName("영역 작업은 저장된 체크포인트 순번부터 이어서 batchSize개 셀까지 수집한다")
+  void shouldResumeRegionFromCheckpoint() {
+    // Given
+    LocationWarmupProperties.Region region = gangnamRegion();
+    properties.setRegions(List.of(region));
+
+    LocationWarmupCheckpoint propertyCheckpoint = LocationWarmupCheckpoint.start(
+            LocationWarmupService.PROPERTY_JOB_KEY, "k1");
+    propertyCheckpoint.complete();
+    LocationWarmupCheckpoint regionCheckpoint = LocationWarmupCheckpoint.start(
+            LocationWarmupService.REGION_JOB_KEY_PREFIX + region.getName(), region.signature());
+    regionCheckpoint.advance(3, false);
+
+    when(checkpointRepository.findByJobKey(LocationWarmupService.PROPERTY_JOB_KEY))
+            .thenReturn(Optional.of(propertyCheckpoint));
+    when(checkpointRepository.findByJobKey(LocationWarmupService.REGION_JOB_KEY_PREFIX + region.getName()))
+            .thenReturn(Optional.of(regionCheckpoint));
+    when(kakaoApiClient.availablePermissions()).thenReturn(10);
+
+    // When
+    locationWarmupService.runBatch();
+
+    // Then
+    verify(locationInfoService, times(2)).refreshLocationInfo(anyLong(), anyDouble(), anyDouble());
+    assertThat(regionCheckpoint.getPosition()).isEqualTo(5L);
+    assertThat(regionCheckpoint.getFetchedCount()).isEqualTo(2L);
+    assertThat(regionCheckpoint.isCompleted()).isFalse();
+    verify(checkpointRepository).save(regionCheckpoint);
+  }
+
+  @Test
+  @DisplayName("Kakao 호출 허용 수가 사용자 몫까지 부족하면 수집하지 않고 체크포인트를 유지한다")
+  void shouldDeferWhenPermitsAreReserved() {
+    // Given
+    long propertyCell = h3Util.getH3Cell(37.4979, 127.0276);
+    when(checkpointRepository.findByJobKey(LocationWarmupService.PROPERTY_JOB_KEY))
+            .thenReturn(Optional.empty());
+    when(propertyRepository.findActiveH3CellsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(propertyCell));
+    // 셀당 6회 + 예약 2회 = 8회 필요
+    when(kakaoApiClient.availablePermissions()).thenReturn(7);
+
+    // When
+    locationWarmupService.runBatch();
+
+    // Then
+    verify(locationInfoService, never()).refreshLocationInfo(anyLong(), anyDouble(), anyDouble());
+    verify(checkpointRepository).save(any(LocationWarmupCheckpoint.class));
+    verify(checkpointRepository, never()).findByJobKey(
+            LocationWarmupService.REGION_JOB_KEY_PREFIX + "gangnam");
+  }
+
+  @Test
+  @DisplayName("매물 셀 작업은 이미 저장된 셀을 건너뛰고 마지막 셀을 체크포인트로 남긴 뒤 완료한다")
+  void shouldSkipStoredCellsAndCompletePropertyJob() {
+    // Given
+    long propertyCell = h3Util.getH3Cell(37.4979, 127.0276);
+    LocationWarmupCheckpoint propertyCheckpoint = LocationWarmupCheckpoint.start(
+            LocationWarmupService.PROPERTY_JOB_KEY, "k1");
+
+    when(checkpointRepository.findByJobKey(LocationWarmupService.PROPERTY_JOB_KEY))
+            .thenReturn(Optional.of(propertyCheckpoint));
+    when(propertyRepository.findActiveH3CellsAfter(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(propertyCell));
+    when(propertyRepository.findActiveH3CellsAfter(eq(propertyCell), any(Pageable.class)))
+            .thenReturn(List.of());
+    when(locationInfoService.hasLocationInfo(anyLong())).thenReturn(true);
+
+    // When
+    locationWarmupService.runBatch();
+
+    // Then
+    verify(locationInfoService, times(7)).hasLocationInfo(anyLong());
+    verify(locationInfoService, never()).refreshLocationInfo(anyLong(), anyDouble(), anyDouble());
+    assertThat(propertyCheckpoint.getPosition()).isEqualTo(propertyCell);
+    assertThat(propertyCheckpoint.getProcessedCount()).isEqualTo(1L);
+    assertThat(propertyCheckpoint.isCompleted()).isTrue();
+  }
+
+  private LocationWarmupProperties.Region gangnamRegion() {
+    LocationWarmupProperties.Region region = new LocationWarmupProperties.Region();
+    region.setName("gangnam");
+    region.setNorthEastLat(37.5050);
+    region.setNorthEastLng(127.0350);
+    region.setSouthWestLat(37.4900);
+    region.setSouthWestLng(127.0200);
+    return region;
+  }
+}
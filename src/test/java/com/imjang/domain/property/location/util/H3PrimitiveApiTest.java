@@ -0,0 +1,57 @@
+package com.imjang.domain.property.location.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.uber.h3core.H3Core;
+import com.uber.h3core.util.LatLng;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class H3PrimitiveApiTest {
+
+  private H3Core h3Core;
+  private H3PrimitiveApi primitiveApi;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    h3Core = H3Core.newInstance();
+    primitiveApi = new H3PrimitiveApi(h3Core);
+  }
+
+  @Test
+  @DisplayName("고정된 h3 버전에서 내부 native 핸들을 찾아 primitive 경로를 사용한다")
+  void shouldResolveNativePathAgainstPinnedVersion() {
+    assertThat(primitiveApi.isNative())
+            .as("h3 내부 구조가 바뀌어 공개 API(boxing) 경로로 대체됨. build.gradle의 고정 버전 확인 필요")
+            .isTrue();
+  }
+
+  @Test
+  @DisplayName("primitive 경로의 polyfill/compact 결과가 공개 API와 같다")
+  void shouldMatchPublicApi() {
+    // Given
+    double minLat = 37.49;
+    double minLng = 127.02;
+    double maxLat = 37.51;
+    double maxLng = 127.05;
+    int resolution = 9;
+
+    // When
+    long[] cells = primitiveApi.rectangleToCells(minLat, minLng, maxLat, maxLng, resolution);
+    long[] compacted = primitiveApi.compactCells(cells);
+
+    // Then
+    List<Long> expected = h3Core.polygonToCells(List.of(
+            new LatLng(minLat, minLng),
+            new LatLng(maxLat, minLng),
+            new LatLng(maxLat, maxLng),
+            new LatLng(minLat, maxLng)
+    ), null, resolution);
+    assertThat(Arrays.stream(cells).boxed().toList()).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(Arrays.stream(compacted).boxed().toList())
+            .containsExactlyInAnyOrderElementsOf(h3Core.compactCells(expected));
+  }
+}
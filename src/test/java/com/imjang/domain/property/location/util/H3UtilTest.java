@@ -2,6 +2,9 @@ package com.imjang.domain.property.location.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.uber.h3core.H3Core;
+import com.uber.h3core.util.LatLng;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +19,7 @@ class H3UtilTest {
   }
 
   @Test
-  @DisplayName("같은 지역의 좌표는 같은 H3 인덱스를 반환한다")
+  @DisplayName("같은 지역의 좌표는 같은 H3 셀을 반환한다")
   void shouldReturnSameH3IndexForNearbyCoordinates() {
     // Given - 강남역 주변 좌표들
     Double lat1 = 37.4979;
@@ -26,15 +29,15 @@ class H3UtilTest {
     Double lng2 = 127.0277;
 
     // When
-    String h3Index1 = h3Util.getH3Index(lat1, lng1);
-    String h3Index2 = h3Util.getH3Index(lat2, lng2);
+    long h3Cell1 = h3Util.getH3Cell(lat1, lng1);
+    long h3Cell2 = h3Util.getH3Cell(lat2, lng2);
 
     // Then
-    assertThat(h3Index1).isEqualTo(h3Index2);
+    assertThat(h3Cell1).isEqualTo(h3Cell2);
   }
 
   @Test
-  @DisplayName("다른 지역의 좌표는 다른 H3 인덱스를 반환한다")
+  @DisplayName("다른 지역의 좌표는 다른 H3 셀을 반환한다")
   void shouldReturnDifferentH3IndexForDistantCoordinates() {
     // Given
     Double gangnamLat = 37.4979;
@@ -44,10 +47,154 @@ class H3UtilTest {
     Double sinchonLng = 126.9424;
 
     // When
-    String gangnamH3 = h3Util.getH3Index(gangnamLat, gangnamLng);
-    String sinchonH3 = h3Util.getH3Index(sinchonLat, sinchonLng);
+    long gangnamH3 = h3Util.getH3Cell(gangnamLat, gangnamLng);
+    long sinchonH3 = h3Util.getH3Cell(sinchonLat, sinchonLng);
 
     // Then
     assertThat(gangnamH3).isNotEqualTo(sinchonH3);
   }
+
+  @Test
+  @DisplayName("줌 레벨이 낮을수록 더 상위(낮은) 해상도를 반환한다")
+  void shouldMapZoomLevelToResolution() {
+    assertThat(H3Util.resolutionForZoom(18)).isEqualTo(H3Util.PROPERTY_RESOLUTION);
+    assertThat(H3Util.resolutionForZoom(15)).isEqualTo(H3Util.PROPERTY_RESOLUTION);
+    assertThat(H3Util.resolutionForZoom(14)).isLessThan(H3Util.PROPERTY_RESOLUTION);
+
+    for (int zoom = 2; zoom <= 21; zoom++) {
+      assertThat(H3Util.resolutionForZoom(zoom))
+              .isGreaterThanOrEqualTo(H3Util.resolutionForZoom(zoom - 1));
+    }
+  }
+
+  @Test
+  @DisplayName("부모 셀은 같은 좌표를 상위 해상도로 변환한 값과 같다")
+  void shouldReturnParentIndexMatchingCoarseResolution() {
+    // Given - 강남역
+    Double lat = 37.4979;
+    Double lng = 127.0276;
+    long h3Cell = h3Util.getH3Cell(lat, lng);
+
+    // When
+    long parent = h3Util.getParentCell(h3Cell, 6);
+
+    // Then
+    assertThat(parent).isEqualTo(h3Util.getH3Cell(lat, lng, 6));
+  }
+
+  @Test
+  @DisplayName("H3 셀과 문자열 주소는 서로 손실 없이 변환된다")
+  void shouldConvertBetweenCellAndAddress() {
+    // Given
+    long h3Cell = h3Util.getH3Cell(37.4979, 127.0276);
+
+    // When
+    String address = h3Util.toAddress(h3Cell);
+
+    // Then
+    assertThat(address).hasSize(15);
+    assertThat(h3Util.toCell(address)).isEqualTo(h3Cell);
+  }
+
+  @Test
+  @DisplayName("viewport 셀 집합을 압축하면 모든 셀이 부모 셀 컬럼 중 하나로 덮인다")
+  void shouldCoverEveryViewportCellAfterCompaction() {
+    // Given - 강남구 일대 viewport
+    long[] cells = h3Util.getH3CellsForBounds(37.5300, 127.0700, 37.4700, 127.0000,
+            H3Util.PROPERTY_RESOLUTION);
+
+    // When
+    H3CellCover cover = h3Util.getCellCover(cells);
+
+    // Then
+    assertThat(cover.size()).isLessThan(cells.length);
+    for (long cell : cells) {
+      boolean covered = cover.res9Cells().contains(cell)
+              || cover.res7Cells().contains(h3Util.getParentCell(cell, H3Util.MID_PARENT_RESOLUTION))
+              || cover.res5Cells().contains(h3Util.getParentCell(cell, H3Util.COARSE_PARENT_RESOLUTION));
+      assertThat(covered).as("cell %s", cell).isTrue();
+    }
+  }
+
+  @Test
+  @DisplayName("viewport polyfill 결과는 H3 공개 API(polygonToCells) 결과와 같다")
+  void shouldMatchPublicPolygonToCells() throws Exception {
+    // Given - 강남구 일대 viewport
+    H3Core h3Core = H3Core.newInstance();
+    List<Long> expected = h3Core.polygonToCells(List.of(
+            new LatLng(37.4700, 127.0000),
+            new LatLng(37.5300, 127.0000),
+            new LatLng(37.5300, 127.0700),
+            new LatLng(37.4700, 127.0700)
+    ), null, H3Util.PROPERTY_RESOLUTION);
+
+    // When
+    long[] cells = h3Util.getH3CellsForBounds(37.5300, 127.0700, 37.4700, 127.0000,
+            H3Util.PROPERTY_RESOLUTION);
+
+    // Then
+    assertThat(cells).doesNotContain(0L)
+            .containsExactlyInAnyOrder(expected.stream().mapToLong(Long::longValue).toArray());
+  }
+
+  @Test
+  @DisplayName("viewport 셀 수 추정치는 실제 polyfill 셀 수와 크게 다르지 않다")
+  void shouldEstimateCellCountCloseToPolyfill() {
+    // Given - 강남구 일대 viewport
+    long[] cells = h3Util.getH3CellsForBounds(37.5300, 127.0700, 37.4700, 127.0000,
+            H3Util.PROPERTY_RESOLUTION);
+
+    // When
+    long estimated = h3Util.estimateCellCount(37.5300, 127.0700, 37.4700, 127.0000,
+            H3Util.PROPERTY_RESOLUTION);
+
+    // Then
+    assertThat(estimated).isBetween((long) (cells.length * 0.8), (long) (cells.length * 1.2));
+  }
+
+  @Test
+  @DisplayName("covering 셀은 영역 안의 모든 지점이 속한 셀을 포함한다")
+  void shouldIncludeEveryCellTouchingBounds() {
+    // Given - 강남역 일대 viewport
+    double northEastLat = 37.5100;
+    double northEastLng = 127.0500;
+    double southWestLat = 37.4900;
+    double southWestLng = 127.0300;
+    int resolution = H3Util.MID_PARENT_RESOLUTION;
+
+    // When
+    long[] cells = h3Util.getCoveringCells(northEastLat, northEastLng, southWestLat, southWestLng, resolution);
+
+    // Then - 경계 포함 격자 지점 전부 확인
+    for (int i = 0; i <= 20; i++) {
+      for (int j = 0; j <= 20; j++) {
+        double lat = southWestLat + (northEastLat - southWestLat) * i / 20;
+        double lng = southWestLng + (northEastLng - southWestLng) * j / 20;
+        assertThat(cells).contains(h3Util.getH3Cell(lat, lng, resolution));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("k=1 이웃 셀은 자신을 제외한 인접 셀 6개다")
+  void shouldReturnNeighborCellsExcludingOrigin() {
+    // Given - 강남역
+    long origin = h3Util.getH3Cell(37.4979, 127.0276);
+
+    // When
+    long[] neighbors = h3Util.getNeighborCells(origin, 1);
+
+    // Then
+    assertThat(neighbors).hasSize(6).doesNotContain(origin);
+  }
+
+  @Test
+  @DisplayName("강남역-역삼역 대원 거리는 약 800m다")
+  void shouldCalculateGreatCircleDistance() {
+    // When
+    double distance = h3Util.distanceMeters(37.4979, 127.0276, 37.5006, 127.0364);
+
+    // Then
+    assertThat(distance).isBetween(750.0, 870.0);
+  }
 }
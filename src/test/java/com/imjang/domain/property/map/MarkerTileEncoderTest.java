@@ -0,0 +1,61 @@
+package com.imjang.domain.property.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.imjang.domain.property.entity.PropertyType;
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarkerTileEncoderTest {
+
+  @Test
+  @DisplayName("타일 중심의 매물은 MoveTo(2048, 2048) 점 지오메트리로 인코딩된다")
+  void shouldEncodePointAtTileCenter() {
+    // Given - z1/1/0 타일의 중심 (경도 90, 위도 약 66.51)
+    TileCoordinate tile = TileCoordinate.of(1, 1, 0);
+    double centerLat = Math.toDegrees(Math.atan(Math.sinh(Math.PI / 2)));
+    PropertyMarker marker = new PropertyMarker(7L, centerLat, 90.0, null, "서초구 서초동 789-12",
+            PropertyType.JEONSE, 280000000L, 0L, 0L, 4, "thumbnail.jpg");
+
+    // When
+    byte[] encoded = MarkerTileEncoder.encode(List.of(marker), tile);
+
+    // Then - geometry(field 4, 길이 5): MoveTo(1), zigzag(2048) = 4096, zigzag(2048) = 4096
+    byte[] geometry = {0x22, 5, 9, (byte) 0x80, 0x20, (byte) 0x80, 0x20};
+    assertThat(indexOf(encoded, geometry)).isNotNegative();
+    assertThat(indexOf(encoded, MarkerTileEncoder.LAYER_NAME.getBytes(StandardCharsets.UTF_8))).isNotNegative();
+    assertThat(indexOf(encoded, "thumbnail.jpg".getBytes(StandardCharsets.UTF_8))).isNotNegative();
+  }
+
+  @Test
+  @DisplayName("마커가 없으면 빈 타일을 반환한다")
+  void shouldReturnEmptyTile() {
+    assertThat(MarkerTileEncoder.encode(List.of(), TileCoordinate.of(15, 27944, 12698))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("줌 레벨 범위를 벗어난 타일 좌표는 예외")
+  void shouldRejectInvalidTile() {
+    assertThatThrownBy(() -> TileCoordinate.of(2, 4, 0))
+            .isInstanceOf(CustomException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+  }
+
+  private static int indexOf(byte[] source, byte[] target) {
+    outer:
+    for (int i = 0; i <= source.length - target.length; i++) {
+      for (int j = 0; j < target.length; j++) {
+        if (source[i + j] != target[j]) {
+          continue outer;
+        }
+      }
+      return i;
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,134 @@
+package com.imjang.domain.property.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import com.imjang.domain.auth.entity.User;
+import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.entity.PropertyType;
+import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.repository.PropertyImageRepository;
+import com.imjang.domain.property.repository.PropertyRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PropertyMarkerIndexTest {
+
+  private static final Long USER_ID = 1L;
+
+  private PropertyRepository propertyRepository;
+  private PropertyImageRepository propertyImageRepository;
+  private H3Util h3Util;
+  private PropertyMarkerIndex propertyMarkerIndex;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    propertyRepository = mock(PropertyRepository.class);
+    propertyImageRepository = mock(PropertyImageRepository.class);
+    h3Util = new H3Util();
+    propertyMarkerIndex = new PropertyMarkerIndex(propertyRepository, propertyImageRepository, h3Util);
+
+    lenient().when(propertyImageRepository.findByPropertyIdInAndDisplayOrder(anyList(), anyInt()))
+            .thenReturn(List.of());
+  }
+
+  @Test
+  @DisplayName("첫 조회 시 사용자 매물을 적재하고 이후 조회는 DB를 다시 조회하지 않는다")
+  void shouldLoadOnceAndServeFromMemory() {
+    // Given - 강남역, 신촌역
+    PropertyMarker gangnam = createMarker(1L, 37.4979, 127.0276);
+    PropertyMarker sinchon = createMarker(2L, 37.5597, 126.9424);
+    given(propertyRepository.countByUserIdAndDeletedAtIsNull(USER_ID)).willReturn(2L);
+    given(propertyRepository.findMarkersByUserId(USER_ID)).willReturn(List.of(gangnam, sinchon));
+
+    // When - 강남역 일대 viewport
+    Optional<List<PropertyMarker>> first = propertyMarkerIndex.findInBounds(USER_ID, 37.5100, 127.0500, 37.4900, 127.0100);
+    Optional<List<PropertyMarker>> second = propertyMarkerIndex.findInBounds(USER_ID, 37.5100, 127.0500, 37.4900, 127.0100);
+
+    // Then
+    assertThat(first).isPresent();
+    assertThat(first.get()).extracting(PropertyMarker::id).containsExactly(1L);
+    assertThat(second.get()).extracting(PropertyMarker::id).containsExactly(1L);
+    verify(propertyRepository, times(1)).findMarkersByUserId(USER_ID);
+  }
+
+  @Test
+  @DisplayName("매물 수가 상한을 넘는 사용자는 인덱스에 적재하지 않는다")
+  void shouldSkipOversizedUser() {
+    // Given
+    given(propertyRepository.countByUserIdAndDeletedAtIsNull(USER_ID))
+            .willReturn((long) PropertyMarkerIndex.MAX_INDEXED_PROPERTIES + 1);
+
+    // When
+    Optional<List<PropertyMarker>> result = propertyMarkerIndex.findInBounds(USER_ID, 37.5100, 127.0500, 37.4900, 127.0100);
+
+    // Then
+    assertThat(result).isEmpty();
+    verify(propertyRepository, never()).findMarkersByUserId(USER_ID);
+  }
+
+  @Test
+  @DisplayName("매물 생성/삭제가 적재된 인덱스에 반영된다")
+  void shouldApplyCreateAndDelete() {
+    // Given
+    PropertyMarker gangnam = createMarker(1L, 37.4979, 127.0276);
+    given(propertyRepository.countByUserIdAndDeletedAtIsNull(USER_ID)).willReturn(1L);
+    given(propertyRepository.findMarkersByUserId(USER_ID)).willReturn(List.of(gangnam));
+    propertyMarkerIndex.findInBounds(USER_ID, 37.5100, 127.0500, 37.4900, 127.0100);
+
+    Property created = createProperty(2L, 37.5000, 127.0300);
+
+    // When
+    propertyMarkerIndex.refresh(created);
+    propertyMarkerIndex.remove(USER_ID, 1L);
+
+    // Then
+    Optional<List<PropertyMarker>> result = propertyMarkerIndex.findInBounds(USER_ID, 37.5100, 127.0500, 37.4900, 127.0100);
+    assertThat(result.get()).extracting(PropertyMarker::id).containsExactly(2L);
+    verify(propertyRepository, times(1)).findMarkersByUserId(USER_ID);
+  }
+
+  @Test
+  @DisplayName("인덱스가 적재되지 않은 사용자의 매물 변경은 무시한다")
+  void shouldIgnoreChangesForUnloadedUser() {
+    // Given
+    Property created = createProperty(2L, 37.5000, 127.0300);
+
+    // When
+    propertyMarkerIndex.refresh(created);
+
+    // Then
+    verify(propertyImageRepository, never()).findByPropertyIdAndDisplayOrder(2L, 0);
+  }
+
+  private PropertyMarker createMarker(Long id, double latitude, double longitude) {
+    return new PropertyMarker(id, latitude, longitude, h3Util.getH3Cell(latitude, longitude), "서울시 강남구",
+            PropertyType.JEONSE, 300000000L, 0L, 0L, 4, null);
+  }
+
+  private Property createProperty(Long id, double latitude, double longitude) {
+    User user = mock(User.class, withSettings().lenient());
+    lenient().when(user.getId()).thenReturn(USER_ID);
+
+    Property property = mock(Property.class, withSettings().lenient());
+    lenient().when(property.getId()).thenReturn(id);
+    lenient().when(property.getUser()).thenReturn(user);
+    lenient().when(property.getLatitude()).thenReturn(latitude);
+    lenient().when(property.getLongitude()).thenReturn(longitude);
+    lenient().when(property.getH3Cell()).thenReturn(h3Util.getH3Cell(latitude, longitude));
+    lenient().when(property.getPriceType()).thenReturn(PropertyType.JEONSE);
+    lenient().when(property.getRating()).thenReturn(4);
+    return property;
+  }
+}
@@ -0,0 +1,37 @@
+package com.imjang.domain.property.migration;
+
+import static org.mockito.Mockito.inOrder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StartupBackfillRunnerTest {
+
+  @InjectMocks
+  private StartupBackfillRunner startupBackfillRunner;
+
+  @Mock
+  private PropertyH3BackfillRunner propertyH3BackfillRunner;
+
+  @Mock
+  private LocationCacheColumnBackfillRunner locationCacheColumnBackfillRunner;
+
+  @Test
+  @DisplayName("H3 셀 백필을 먼저 끝낸 뒤 위치 캐시 컬럼 백필을 실행한다")
+  void shouldRunH3BackfillBeforeColumnBackfill() {
+    // When
+    startupBackfillRunner.backfill();
+
+    // Then
+    InOrder order = inOrder(propertyH3BackfillRunner, locationCacheColumnBackfillRunner);
+    order.verify(propertyH3BackfillRunner).backfill();
+    order.verify(locationCacheColumnBackfillRunner).backfill();
+    order.verifyNoMoreInteractions();
+  }
+}
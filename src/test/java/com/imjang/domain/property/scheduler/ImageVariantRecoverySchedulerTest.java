@@ -0,0 +1,90 @@
+package com.imjang.domain.property.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.imjang.domain.property.entity.ImageStatus;
+import com.imjang.domain.property.entity.ImageStorage;
+import com.imjang.domain.property.entity.Property;
+import com.imjang.domain.property.entity.PropertyImage;
+import com.imjang.domain.property.repository.PropertyImageRepository;
+import com.imjang.domain.property.service.ImageVariantProperties;
+import com.imjang.domain.property.service.ImageVariantService;
+import com.imjang.infrastructure.s3.S3Service;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantRecoverySchedulerTest {
+
+  @InjectMocks
+  private ImageVariantRecoveryScheduler scheduler;
+
+  @Mock
+  private PropertyImageRepository propertyImageRepository;
+
+  @Mock
+  private ImageVariantService imageVariantService;
+
+  @Spy
+  private ImageVariantProperties imageVariantProperties = new ImageVariantProperties();
+
+  @Mock
+  private S3Service s3Service;
+
+  @Test
+  @DisplayName("변환본이 없는 업로드 완료 이미지는 객체 스토리지의 최종 원본으로 변환본을 다시 만든다")
+  void shouldRegenerateMissingVariantsFromStoredOriginal() throws Exception {
+    // Given
+    PropertyImage image = completedImage(3L, 7L, "https://bucket/o/images/properties/7/photo.jpg");
+    given(propertyImageRepository.findWithoutVariants(eq(ImageStatus.COMPLETED), any(), any(), any()))
+            .willReturn(List.of(image));
+    given(s3Service.keyOf("https://bucket/o/images/properties/7/photo.jpg"))
+            .willReturn("images/properties/7/photo.jpg");
+
+    // When
+    scheduler.retryMissingVariants();
+
+    // Then
+    verify(imageVariantService).generate(3L, 7L, ImageStorage.OBJECT_STORAGE, "images/properties/7/photo.jpg");
+  }
+
+  @Test
+  @DisplayName("변환이 꺼져 있으면 조회하지 않는다")
+  void shouldSkipWhenVariantsDisabled() throws Exception {
+    // Given
+    imageVariantProperties.setEnabled(false);
+
+    // When
+    scheduler.retryMissingVariants();
+
+    // Then
+    verify(propertyImageRepository, never()).findWithoutVariants(any(), any(), any(), any());
+    verify(imageVariantService, never()).generate(anyLong(), anyLong(), any(), anyString());
+  }
+
+  private PropertyImage completedImage(Long imageId, Long propertyId, String imageUrl) {
+    Property property = mock(Property.class);
+    given(property.getId()).willReturn(propertyId);
+    PropertyImage image = PropertyImage.builder()
+            .property(property)
+            .imageUrl(imageUrl)
+            .status(ImageStatus.COMPLETED)
+            .build();
+    ReflectionTestUtils.setField(image, "id", imageId);
+    return image;
+  }
+}
@@ -0,0 +1,138 @@
+package com.imjang.domain.property.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.imjang.domain.property.location.entity.LocationFetchFailure;
+import com.imjang.domain.property.location.repository.LocationCacheRepository;
+import com.imjang.domain.property.location.repository.LocationFetchFailureRepository;
+import com.imjang.domain.property.location.service.LocationInfoService;
+import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.repository.PropertyRepository;
+import com.uber.h3core.util.LatLng;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class LocationCacheRefreshSchedulerTest {
+
+  @InjectMocks
+  private LocationCacheRefreshScheduler scheduler;
+
+  @Mock
+  private LocationCacheRepository locationCacheRepository;
+
+  @Mock
+  private LocationInfoService locationInfoService;
+
+  @Mock
+  private PropertyRepository propertyRepository;
+
+  @Mock
+  private LocationFetchFailureRepository locationFetchFailureRepository;
+
+  @Mock
+  private H3Util h3Util;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(scheduler, "enabled", true);
+    ReflectionTestUtils.setField(scheduler, "batchSize", 3);
+  }
+
+  @Test
+  @DisplayName("사전 수집이 거절되어 위치 정보가 없는 매물 셀을 이웃 재사용 또는 Kakao 수집으로 채운다")
+  void shouldFillCellsWithoutLocationCache() {
+    // Given
+    given(propertyRepository.findH3CellsWithoutLocationCache(any(), any(), eq(PageRequest.of(0, 1))))
+            .willReturn(List.of(1L));
+    given(h3Util.getH3Center(anyLong())).willReturn(new LatLng(37.5, 127.0));
+    given(locationInfoService.reuseNeighborLocationInfo(1L, 37.5, 127.0)).willReturn(false);
+
+    // When
+    scheduler.refreshStaleLocationCaches();
+
+    // Then - 누락 셀 몫은 batch-size 3의 절반(1개), 남은 두 자리는 만료 셀 갱신에 사용
+    verify(locationInfoService).refreshLocationInfo(1L, 37.5, 127.0);
+    verify(locationCacheRepository).findStaleCachesOrderByActivePropertyCount(any(), any(),
+            eq(PageRequest.of(0, 2)));
+  }
+
+  @Test
+  @DisplayName("누락 셀은 배치의 절반까지만 처리하고 나머지는 만료 셀 갱신에 남긴다")
+  void shouldCapMissingCellShareOfBatch() {
+    // Given
+    ReflectionTestUtils.setField(scheduler, "batchSize", 4);
+    given(propertyRepository.findH3CellsWithoutLocationCache(any(), any(), eq(PageRequest.of(0, 2))))
+            .willReturn(List.of(1L, 2L));
+    given(h3Util.getH3Center(anyLong())).willReturn(new LatLng(37.5, 127.0));
+    given(locationInfoService.reuseNeighborLocationInfo(anyLong(), anyDouble(), anyDouble())).willReturn(true);
+
+    // When
+    scheduler.refreshStaleLocationCaches();
+
+    // Then
+    verify(locationCacheRepository).findStaleCachesOrderByActivePropertyCount(any(), any(),
+            eq(PageRequest.of(0, 2)));
+  }
+
+  @Test
+  @DisplayName("수집에 실패한 셀은 실패 횟수와 다음 시도 시각을 기록하고, 반복 실패할수록 대기 시간이 늘어난다")
+  void shouldRecordFailureWithBackoff() {
+    // Given
+    LocationFetchFailure existing = LocationFetchFailure.of(1L);
+    existing.recordFailure(LocalDateTime.now().minusHours(1));
+    given(propertyRepository.findH3CellsWithoutLocationCache(any(), any(), any())).willReturn(List.of(1L));
+    given(h3Util.getH3Center(anyLong())).willReturn(new LatLng(37.5, 127.0));
+    given(locationInfoService.reuseNeighborLocationInfo(anyLong(), anyDouble(), anyDouble())).willReturn(false);
+    willThrow(new RuntimeException("Kakao 429")).given(locationInfoService)
+            .refreshLocationInfo(1L, 37.5, 127.0);
+    given(locationFetchFailureRepository.findByH3Cell(1L)).willReturn(Optional.of(existing));
+
+    // When
+    LocalDateTime before = LocalDateTime.now();
+    scheduler.refreshStaleLocationCaches();
+
+    // Then - 두 번째 실패이므로 20분 대기
+    verify(locationFetchFailureRepository).save(existing);
+    assertThat(existing.getAttempts()).isEqualTo(2);
+    assertThat(existing.getNextAttemptAt()).isAfterOrEqualTo(before.plusMinutes(20));
+    assertThat(existing.getNextAttemptAt()).isBefore(before.plusMinutes(21));
+  }
+
+  @Test
+  @DisplayName("수집에 성공하면 실패 기록을 삭제한다")
+  void shouldClearFailureOnSuccess() {
+    // Given
+    LocationFetchFailure existing = LocationFetchFailure.of(1L);
+    existing.recordFailure(LocalDateTime.now().minusHours(1));
+    given(propertyRepository.findH3CellsWithoutLocationCache(any(), any(), any())).willReturn(List.of(1L));
+    given(h3Util.getH3Center(anyLong())).willReturn(new LatLng(37.5, 127.0));
+    given(locationInfoService.reuseNeighborLocationInfo(anyLong(), anyDouble(), anyDouble())).willReturn(false);
+    given(locationFetchFailureRepository.findByH3Cell(1L)).willReturn(Optional.of(existing));
+
+    // When
+    scheduler.refreshStaleLocationCaches();
+
+    // Then
+    verify(locationFetchFailureRepository).delete(existing);
+    verify(locationFetchFailureRepository, never()).save(any());
+  }
+}
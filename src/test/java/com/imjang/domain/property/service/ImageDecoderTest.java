@@ -0,0 +1,72 @@
+package com.imjang.domain.property.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ImageDecoderTest {
+
+  private ImageDecoder imageDecoder;
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    imageDecoder = new ImageDecoder();
+    ReflectionTestUtils.setField(imageDecoder, "maxPixels", 1_000_000);
+    ReflectionTestUtils.setField(imageDecoder, "acquireTimeoutSeconds", 0L);
+    imageDecoder.init();
+  }
+
+  @Test
+  @DisplayName("필요한 해상도 이상이 되도록 서브샘플링해 디코딩하고, 처리 후 허용량을 반납한다")
+  void shouldDecodeWithSubsampling() throws Exception {
+    // Given
+    File original = tempDir.resolve("large.png").toFile();
+    ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_BYTE_GRAY), "png", original);
+
+    // When
+    int[] size = imageDecoder.decode(original, 300, image -> {
+      assertThat(imageDecoder.availablePixels()).isEqualTo(1_000_000 - 334 * 167);
+      return new int[]{image.getWidth(), image.getHeight()};
+    });
+
+    // Then
+    assertThat(size).containsExactly(334, 167);
+    assertThat(imageDecoder.availablePixels()).isEqualTo(1_000_000);
+  }
+
+  @Test
+  @DisplayName("디코딩 허용량이 부족하면 대기 시간 후 DecodeCapacityExceededException")
+  void shouldFailWhenPixelBudgetIsExhausted() throws Exception {
+    // Given
+    File original = tempDir.resolve("full.png").toFile();
+    ImageIO.write(new BufferedImage(1000, 1000, BufferedImage.TYPE_BYTE_GRAY), "png", original);
+
+    // When & Then
+    imageDecoder.decode(original, 0, image -> {
+      assertThatThrownBy(() -> imageDecoder.decode(original, 1000, ignored -> null))
+              .isInstanceOf(ImageDecoder.DecodeCapacityExceededException.class);
+      return null;
+    });
+    assertThat(imageDecoder.availablePixels()).isEqualTo(1_000_000);
+  }
+
+  @Test
+  @DisplayName("원본이 목표보다 작으면 서브샘플링하지 않는다")
+  void subsamplingFor() {
+    assertThat(ImageDecoder.subsamplingFor(4000, 300)).isEqualTo(13);
+    assertThat(ImageDecoder.subsamplingFor(200, 300)).isEqualTo(1);
+    assertThat(ImageDecoder.subsamplingFor(4000, 0)).isEqualTo(1);
+  }
+}
@@ -0,0 +1,121 @@
+package com.imjang.domain.property.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.imjang.domain.auth.entity.User;
+import com.imjang.domain.auth.repository.UserRepository;
+import com.imjang.domain.property.dto.response.ImageUploadResponse;
+import com.imjang.domain.property.entity.ImageStorage;
+import com.imjang.domain.property.entity.TempImage;
+import com.imjang.domain.property.entity.ThumbnailStatus;
+import com.imjang.domain.property.repository.TempImageRepository;
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
+import com.imjang.infrastructure.s3.S3Service;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+
+  private static final Long USER_ID = 1L;
+  private static final String KEY = "images/temp/user1/2025/01/photo.jpg";
+  private static final String THUMBNAIL_KEY = "images/temp/user1/2025/01/thumb_photo.png";
+
+  @InjectMocks
+  private ImageService imageService;
+
+  @Mock
+  private TempImageRepository tempImageRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ThumbnailService thumbnailService;
+
+  @Mock
+  private S3Service s3Service;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(imageService, "maxFileSize", 10_485_760L);
+    ReflectionTestUtils.setField(imageService, "thumbnailFormat", "png");
+  }
+
+  @Test
+  @DisplayName("직접 업로드 완료 시 저장된 객체를 임시 이미지로 등록하고 썸네일 생성을 맡긴다")
+  void shouldRegisterUploadedObjectAndSubmitThumbnail() {
+    // Given
+    when(s3Service.isTempKeyOf(KEY, USER_ID)).thenReturn(true);
+    when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder().email("a@b.c").build()));
+    when(s3Service.headObject(KEY)).thenReturn(Optional.of(HeadObjectResponse.builder()
+            .contentType("image/jpeg")
+            .contentLength(3_000_000L)
+            .build()));
+    when(s3Service.generateTempKey(USER_ID, "thumb_photo.png")).thenReturn(THUMBNAIL_KEY);
+    when(tempImageRepository.save(any(TempImage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    when(s3Service.getPublicUrl(THUMBNAIL_KEY)).thenReturn("https://storage/" + THUMBNAIL_KEY);
+
+    // When
+    ImageUploadResponse response = imageService.completePresignedUpload(KEY, USER_ID);
+
+    // Then
+    ArgumentCaptor<TempImage> saved = ArgumentCaptor.forClass(TempImage.class);
+    verify(tempImageRepository).save(saved.capture());
+    assertThat(saved.getValue().getStorage()).isEqualTo(ImageStorage.OBJECT_STORAGE);
+    assertThat(saved.getValue().getOriginalUrl()).isEqualTo(KEY);
+    assertThat(saved.getValue().getThumbnailStatus()).isEqualTo(ThumbnailStatus.PENDING);
+    assertThat(response.status()).isEqualTo(ThumbnailStatus.PENDING.name());
+    verify(thumbnailService).generateFromObjectAsync(any(), eq(KEY), eq(THUMBNAIL_KEY));
+  }
+
+  @Test
+  @DisplayName("다른 사용자에게 발급된 키로는 업로드를 완료할 수 없다")
+  void shouldRejectKeyIssuedToAnotherUser() {
+    // Given
+    when(s3Service.isTempKeyOf(anyString(), eq(USER_ID))).thenReturn(false);
+
+    // When & Then
+    assertThatThrownBy(() -> imageService.completePresignedUpload("images/temp/user2/2025/01/x.jpg", USER_ID))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ACCESS_DENIED);
+    verify(tempImageRepository, never()).save(any());
+  }
+
+  @Test
+  @DisplayName("저장된 객체가 허용 크기를 넘으면 등록하지 않는다")
+  void shouldRejectOversizedObject() {
+    // Given
+    when(s3Service.isTempKeyOf(KEY, USER_ID)).thenReturn(true);
+    when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder().email("a@b.c").build()));
+    when(s3Service.headObject(KEY)).thenReturn(Optional.of(HeadObjectResponse.builder()
+            .contentType("image/jpeg")
+            .contentLength(50_000_000L)
+            .build()));
+
+    // When & Then
+    assertThatThrownBy(() -> imageService.completePresignedUpload(KEY, USER_ID))
+            .isInstanceOf(CustomException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.FILE_SIZE_EXCEEDED);
+    verify(tempImageRepository, never()).save(any());
+  }
+}
@@ -0,0 +1,115 @@
+package com.imjang.domain.property.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import com.imjang.domain.property.entity.ImageStorage;
+import com.imjang.domain.property.entity.PropertyImageVariant;
+import com.imjang.domain.property.repository.PropertyImageVariantRepository;
+import com.imjang.infrastructure.s3.S3Service;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+  @Mock
+  private PropertyImageVariantRepository variantRepository;
+
+  @Mock
+  private S3Service s3Service;
+
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @TempDir
+  Path tempDir;
+
+  private ImageVariantService imageVariantService;
+
+  @BeforeEach
+  void setUp() {
+    ImageDecoder imageDecoder = new ImageDecoder();
+    ReflectionTestUtils.setField(imageDecoder, "maxPixels", 10_000_000);
+    ReflectionTestUtils.setField(imageDecoder, "acquireTimeoutSeconds", 1L);
+    imageDecoder.init();
+    imageVariantService = new ImageVariantService(
+            new ImageVariantProperties(), variantRepository, s3Service, imageDecoder, transactionTemplate);
+    imageVariantService.init();
+  }
+
+  @Test
+  @DisplayName("원본보다 큰 설정 크기는 제외하고, 가장 작은 설정보다 작으면 원본 크기 하나만 사용")
+  void targetWidths() {
+    assertThat(imageVariantService.targetWidths(1000)).containsExactly(150, 300, 800);
+    assertThat(imageVariantService.targetWidths(4000)).containsExactly(150, 300, 800, 1600);
+    assertThat(imageVariantService.targetWidths(100)).containsExactly(100);
+  }
+
+  @Test
+  @DisplayName("원본을 한 번 읽어 크기별로 축소해 업로드하고 목록을 교체")
+  @SuppressWarnings("unchecked")
+  void generate() throws Exception {
+    // Given
+    File original = tempDir.resolve("photo.png").toFile();
+    ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB), "png", original);
+    ArgumentCaptor<byte[]> encoded = ArgumentCaptor.forClass(byte[].class);
+    given(s3Service.uploadVariant(encoded.capture(), eq(7L), eq("photo"), anyInt(), eq("webp")))
+            .willAnswer(invocation -> "https://bucket/photo_w" + invocation.getArgument(3) + ".webp");
+    doAnswer(invocation -> {
+      ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+      return null;
+    }).when(transactionTemplate).executeWithoutResult(any());
+
+    // When
+    List<PropertyImageVariant> variants = imageVariantService.generate(
+            3L, 7L, ImageStorage.LOCAL, original.getPath());
+
+    // Then
+    assertThat(variants).extracting(PropertyImageVariant::getWidth).containsExactly(150, 300, 800);
+    assertThat(variants.get(2).getPixelWidth()).isEqualTo(800);
+    assertThat(variants.get(2).getPixelHeight()).isEqualTo(400);
+    assertThat(variants.get(0).getUrl()).isEqualTo("https://bucket/photo_w150.webp");
+    assertThat(variants.get(0).getFormat()).isEqualTo("webp");
+    assertThat(new String(encoded.getValue(), 8, 4, StandardCharsets.US_ASCII)).isEqualTo("WEBP");
+    verify(variantRepository).deleteByPropertyImageId(3L);
+    verify(variantRepository).saveAll(variants);
+  }
+
+  @Test
+  @DisplayName("설정 형식의 writer가 없으면 jpg로 대체")
+  void fallbackToJpg() {
+    // Given
+    ImageVariantProperties properties = new ImageVariantProperties();
+    properties.setFormat("heic");
+    ImageVariantService service = new ImageVariantService(
+            properties, variantRepository, s3Service, new ImageDecoder(), transactionTemplate);
+
+    // When
+    service.init();
+
+    // Then
+    assertThat(ReflectionTestUtils.getField(service, "format")).isEqualTo("jpg");
+  }
+}
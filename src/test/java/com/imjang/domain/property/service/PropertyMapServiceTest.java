@@ -2,21 +2,37 @@ package com.imjang.domain.property.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import com.imjang.domain.auth.entity.User;
 import com.imjang.domain.property.dto.request.MapBoundsRequest;
 import com.imjang.domain.property.dto.response.MapMarkersResponse;
+import com.imjang.domain.property.dto.response.MarkerClusterResponse;
+import com.imjang.domain.property.dto.response.PropertyMarkerResponse;
 import com.imjang.domain.property.dto.response.PropertySummaryCardResponse;
 import com.imjang.domain.property.entity.Property;
 import com.imjang.domain.property.entity.PropertyImage;
 import com.imjang.domain.property.entity.PropertyType;
+import com.imjang.domain.property.location.util.H3CellCover;
 import com.imjang.domain.property.location.util.H3Util;
+import com.imjang.domain.property.map.MapViewportCache;
+import com.imjang.domain.property.map.MarkerTile;
+import com.imjang.domain.property.map.MarkerTileCache;
+import com.imjang.domain.property.map.PropertyMarker;
+import com.imjang.domain.property.map.PropertyMarkerIndex;
+import com.imjang.domain.property.map.PropertyMarkerVersions;
+import com.imjang.domain.property.map.TileCoordinate;
 import com.imjang.domain.property.repository.PropertyImageRepository;
 import com.imjang.domain.property.repository.PropertyRepository;
 import com.imjang.global.exception.CustomException;
@@ -30,6 +46,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -47,6 +64,18 @@ class PropertyMapServiceTest {
   @Mock
   private H3Util h3Util;
 
+  @Mock
+  private PropertyMarkerIndex propertyMarkerIndex;
+
+  @Mock
+  private PropertyMarkerVersions propertyMarkerVersions;
+
+  @Spy
+  private MapViewportCache mapViewportCache = new MapViewportCache();
+
+  @Spy
+  private MarkerTileCache markerTileCache = new MarkerTileCache();
+
   @Test
   @DisplayName("지도 마커 조회 - 정상 케이스")
   void getMapMarkers_Success() {
@@ -55,31 +84,18 @@ class PropertyMapServiceTest {
             37.5100, 127.0500, 37.4900, 127.0300, 15
     );
     Long userId = 1L;
-    Set<String> h3Indices = Set.of("891f0d92b93ffff");
-
-    Property property = mock(Property.class, withSettings().lenient());
-    when(property.getId()).thenReturn(1L);
-    when(property.getLatitude()).thenReturn(37.5012);
-    when(property.getLongitude()).thenReturn(127.0396);
-    when(property.getRating()).thenReturn(4);
-    when(property.getAddress()).thenReturn("서초구 서초동 789-12");
-    when(property.getPriceType()).thenReturn(PropertyType.JEONSE);
-    when(property.getDeposit()).thenReturn(280000000L);
-    when(property.getMonthlyRent()).thenReturn(0L);
-    when(property.getPrice()).thenReturn(0L);
-
-    List<Property> properties = List.of(property);
+    long[] h3Cells = {0x891f0d92b93ffffL};
+    H3CellCover cover = new H3CellCover(Set.of(), Set.of(), Set.of(0x891f0d92b93ffffL));
 
-    given(h3Util.getH3IndicesForBounds(
-            request.northEastLat(), request.northEastLng(),
-            request.southWestLat(), request.southWestLng(), 9)
-    ).willReturn(h3Indices);
+    List<PropertyMarker> markers = List.of(createTestMarker(1L, 37.5012, 127.0396));
 
-    given(propertyRepository.findByUserIdAndH3IndexInAndDeletedAtIsNull(userId, h3Indices))
-            .willReturn(properties);
+    given(h3Util.getH3CellsForBounds(
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(9))
+    ).willReturn(h3Cells);
 
-    given(propertyImageRepository.findByPropertyIdInAndDisplayOrder(List.of(1L), 0))
-            .willReturn(List.of());
+    given(h3Util.getCellCover(h3Cells)).willReturn(cover);
+    given(propertyRepository.findMarkersByUserIdAndH3CellCover(userId, Set.of(), Set.of(), cover.res9Cells()))
+            .willReturn(markers);
 
     // When
     MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
@@ -92,10 +108,10 @@ class PropertyMapServiceTest {
     assertThat(response.markers().get(0).address()).isEqualTo("서초구 서초동 789-12");
     assertThat(response.markers().get(0).priceType()).isEqualTo("JEONSE");
 
-    verify(h3Util).getH3IndicesForBounds(
-            request.northEastLat(), request.northEastLng(),
-            request.southWestLat(), request.southWestLng(), 9);
-    verify(propertyRepository).findByUserIdAndH3IndexInAndDeletedAtIsNull(userId, h3Indices);
+    verify(h3Util).getH3CellsForBounds(
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(9));
+    verify(propertyRepository).findMarkersByUserIdAndH3CellCover(userId, Set.of(), Set.of(), cover.res9Cells());
+    verify(propertyImageRepository, never()).findByPropertyIdInAndDisplayOrder(any(), anyInt());
   }
 
   @Test
@@ -106,13 +122,14 @@ class PropertyMapServiceTest {
             37.5100, 127.0500, 37.4900, 127.0300, 15
     );
     Long userId = 1L;
-    Set<String> h3Indices = Set.of("891f0d92b93ffff");
-
-    given(h3Util.getH3IndicesForBounds(
-            request.northEastLat(), request.northEastLng(),
-            request.southWestLat(), request.southWestLng(), 9))
-            .willReturn(h3Indices);
-    given(propertyRepository.findByUserIdAndH3IndexInAndDeletedAtIsNull(userId, h3Indices))
+    long[] h3Cells = {0x891f0d92b93ffffL};
+    H3CellCover cover = new H3CellCover(Set.of(), Set.of(), Set.of(0x891f0d92b93ffffL));
+
+    given(h3Util.getH3CellsForBounds(
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(9)))
+            .willReturn(h3Cells);
+    given(h3Util.getCellCover(h3Cells)).willReturn(cover);
+    given(propertyRepository.findMarkersByUserIdAndH3CellCover(userId, Set.of(), Set.of(), cover.res9Cells()))
             .willReturn(Collections.emptyList());
 
     // When
@@ -123,36 +140,25 @@ class PropertyMapServiceTest {
   }
 
   @Test
-  @DisplayName("지도 마커 조회 - 썸네일 IN절 매핑 검증")
+  @DisplayName("지도 마커 조회 - projection으로 조인된 썸네일 매핑 검증")
   void getMapMarkers_Success_WithThumbnail() {
     // Given
     MapBoundsRequest request = new MapBoundsRequest(
             37.5100, 127.0500, 37.4900, 127.0300, 15
     );
     Long userId = 1L;
-    Set<String> h3Indices = Set.of("891f0d92b93ffff");
+    long[] h3Cells = {0x891f0d92b93ffffL};
+    H3CellCover cover = new H3CellCover(Set.of(), Set.of(), Set.of(0x891f0d92b93ffffL));
 
-    Property property = mock(Property.class, withSettings().lenient());
-    when(property.getId()).thenReturn(1L);
-    when(property.getLatitude()).thenReturn(37.5012);
-    when(property.getLongitude()).thenReturn(127.0396);
-    when(property.getRating()).thenReturn(4);
-    when(property.getAddress()).thenReturn("서초구 서초동 789-12");
-    when(property.getPriceType()).thenReturn(PropertyType.JEONSE);
-    when(property.getDeposit()).thenReturn(280000000L);
-    when(property.getMonthlyRent()).thenReturn(0L);
-    when(property.getPrice()).thenReturn(0L);
-
-    PropertyImage thumbnailImage = createTestPropertyImage(1L);
-
-    given(h3Util.getH3IndicesForBounds(
-            request.northEastLat(), request.northEastLng(),
-            request.southWestLat(), request.southWestLng(), 9))
-            .willReturn(h3Indices);
-    given(propertyRepository.findByUserIdAndH3IndexInAndDeletedAtIsNull(userId, h3Indices))
-            .willReturn(List.of(property));
-    given(propertyImageRepository.findByPropertyIdInAndDisplayOrder(List.of(1L), 0))
-            .willReturn(List.of(thumbnailImage));
+    PropertyMarker marker = new PropertyMarker(1L, 37.5012, 127.0396, 0x891f0d92b93ffffL,
+            "서초구 서초동 789-12", PropertyType.JEONSE, 280000000L, 0L, 0L, 4, "thumbnail.jpg");
+
+    given(h3Util.getH3CellsForBounds(
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(9)))
+            .willReturn(h3Cells);
+    given(h3Util.getCellCover(h3Cells)).willReturn(cover);
+    given(propertyRepository.findMarkersByUserIdAndH3CellCover(userId, Set.of(), Set.of(), cover.res9Cells()))
+            .willReturn(List.of(marker));
 
     // When
     MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
@@ -163,24 +169,293 @@ class PropertyMapServiceTest {
   }
 
   @Test
-  @DisplayName("지도 마커 조회 - H3 변환 실패 시 빈 마커 반환")
+  @DisplayName("지도 마커 조회 - H3 변환 실패 시 위경도 범위 조회로 대체")
   void getMapMarkers_H3ConversionFails() {
     // Given
     MapBoundsRequest request = new MapBoundsRequest(
             37.5100, 127.0500, 37.4900, 127.0300, 15
     );
     Long userId = 1L;
+    PropertyMarker marker = createTestMarker(1L, 37.5012, 127.0396);
 
-    given(h3Util.getH3IndicesForBounds(
-            request.northEastLat(), request.northEastLng(),
-            request.southWestLat(), request.southWestLng(), 9))
+    given(h3Util.getH3CellsForBounds(
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(9)))
             .willThrow(new RuntimeException("H3 변환 오류"));
+    given(propertyRepository.findMarkersByUserIdInBounds(
+            eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(List.of(marker));
+
+    // When
+    MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
+
+    // Then — 예외 전파나 빈 목록 없이 범위 조회 결과 반환
+    assertThat(response.markers()).hasSize(1);
+    verify(propertyRepository, never()).findMarkersByUserIdAndH3CellCover(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - 추정 셀 수가 임계치를 넘으면 polyfill 없이 위경도 범위 조회")
+  void getMapMarkers_HugeViewportUsesBoundingBox() {
+    // Given
+    MapBoundsRequest request = new MapBoundsRequest(
+            37.7000, 127.2000, 37.4000, 126.8000, 15
+    );
+    Long userId = 1L;
+    PropertyMarker marker = createTestMarker(1L, 37.5012, 127.0396);
+
+    given(h3Util.estimateCellCount(
+            anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(9)))
+            .willReturn(PropertyMapService.MAX_POLYFILL_CELLS + 1);
+    given(propertyRepository.findMarkersByUserIdInBounds(
+            eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(List.of(marker));
 
     // When
     MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
 
-    // Then — 예외 전파 없이 빈 목록 반환
+    // Then
+    assertThat(response.clustered()).isFalse();
+    assertThat(response.markers()).hasSize(1);
+    verify(h3Util, never()).getH3CellsForBounds(any(), any(), any(), any(), anyInt());
+    verify(propertyRepository, never()).findMarkersByUserIdAndH3CellCover(any(), any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - 줌 아웃 시 상위 셀 단위 클러스터 집계")
+  void getMapMarkers_ClusterMode() {
+    // Given
+    MapBoundsRequest request = new MapBoundsRequest(
+            37.7000, 127.2000, 37.4000, 126.8000, 12
+    );
+    Long userId = 1L;
+    int resolution = H3Util.resolutionForZoom(12);
+    long parentCell = 0x861f0d927ffffffL;
+
+    PropertyMarker first = new PropertyMarker(1L, 37.50, 127.00, 0x891f0d92b93ffffL,
+            "서초구 서초동 789-12", PropertyType.JEONSE, 280000000L, 0L, 0L, 3, null);
+    PropertyMarker second = new PropertyMarker(2L, 37.52, 127.02, 0x891f0d92b97ffffL,
+            "서초구 서초동 789-13", PropertyType.JEONSE, 280000000L, 0L, 0L, 5, "thumbnail.jpg");
+
+    given(propertyRepository.findMarkersByUserIdInBounds(
+            eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(List.of(first, second));
+    given(h3Util.getParentCell(0x891f0d92b93ffffL, resolution)).willReturn(parentCell);
+    given(h3Util.getParentCell(0x891f0d92b97ffffL, resolution)).willReturn(parentCell);
+    given(h3Util.toAddress(parentCell)).willReturn("861f0d927ffffff");
+
+    // When
+    MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
+
+    // Then
+    assertThat(response.clustered()).isTrue();
     assertThat(response.markers()).isEmpty();
+    assertThat(response.clusters()).hasSize(1);
+
+    MarkerClusterResponse cluster = response.clusters().get(0);
+    assertThat(cluster.h3Index()).isEqualTo("861f0d927ffffff");
+    assertThat(cluster.count()).isEqualTo(2);
+    assertThat(cluster.latitude()).isCloseTo(37.51, within(1e-9));
+    assertThat(cluster.longitude()).isCloseTo(127.01, within(1e-9));
+    assertThat(cluster.averageRating()).isEqualTo(4.0);
+    assertThat(cluster.representativePropertyId()).isEqualTo(2L);
+    assertThat(cluster.thumbnailUrl()).isEqualTo("thumbnail.jpg");
+
+    verify(h3Util, never()).getH3CellsForBounds(any(), any(), any(), any(), anyInt());
+    verify(propertyImageRepository, never()).findByPropertyIdInAndDisplayOrder(any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - 인메모리 인덱스에 적재된 사용자는 DB를 조회하지 않음")
+  void getMapMarkers_ServedFromIndex() {
+    // Given
+    MapBoundsRequest request = new MapBoundsRequest(
+            37.5100, 127.0500, 37.4900, 127.0300, 15
+    );
+    Long userId = 1L;
+    PropertyMarker marker = new PropertyMarker(1L, 37.5012, 127.0396, 0x891f0d92b93ffffL,
+            "서초구 서초동 789-12", PropertyType.JEONSE, 280000000L, 0L, 0L, 4, "thumbnail.jpg");
+
+    given(propertyMarkerIndex.findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(Optional.of(List.of(marker)));
+
+    // When
+    MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
+
+    // Then
+    assertThat(response.markers()).hasSize(1);
+    assertThat(response.markers().get(0).thumbnailUrl()).isEqualTo("thumbnail.jpg");
+    verify(h3Util, never()).getH3CellsForBounds(any(), any(), any(), any(), anyInt());
+    verify(propertyRepository, never()).findMarkersByUserIdAndH3CellCover(any(), any(), any(), any());
+    verify(propertyImageRepository, never()).findByPropertyIdInAndDisplayOrder(any(), anyInt());
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - 이전 viewport와 version이 일치하면 추가/제거된 마커만 반환")
+  void getMapMarkers_Delta() {
+    // Given - 동쪽으로 이동 (이전: 127.0200~127.0400, 현재: 127.0300~127.0500)
+    MapBoundsRequest request = new MapBoundsRequest(
+            37.5100, 127.0500, 37.4900, 127.0300, 15,
+            37.5100, 127.0400, 37.4900, 127.0200, 15, "v-1"
+    );
+    Long userId = 1L;
+    PropertyMarker kept = createTestMarker(1L, 37.5000, 127.0350);
+    PropertyMarker added = createTestMarker(2L, 37.5000, 127.0450);
+    PropertyMarker removed = createTestMarker(3L, 37.5000, 127.0250);
+    // 이전 viewport 밖이지만 이전 전체 응답(스냅 영역, 서쪽 경계 약 127.0184)에는 포함된 마커
+    PropertyMarker removedFromMargin = createTestMarker(4L, 37.5000, 127.0190);
+
+    given(propertyMarkerVersions.current(userId)).willReturn("v-1");
+    given(propertyMarkerIndex.findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(Optional.of(List.of(kept, added, removed, removedFromMargin)));
+
+    // When
+    MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
+
+    // Then
+    assertThat(response.delta()).isTrue();
+    assertThat(response.version()).isEqualTo("v-1");
+    assertThat(response.markers()).extracting(PropertyMarkerResponse::id).containsExactly(2L);
+    assertThat(response.removedIds()).containsExactly(3L, 4L);
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - 전체 응답은 스냅 영역 밖의 마커를 포함하지 않음")
+  void getMapMarkers_FullResponseLimitedToSnappedBounds() {
+    // Given - 스냅 영역 동쪽 경계 약 127.0514
+    MapBoundsRequest request = new MapBoundsRequest(37.5100, 127.0500, 37.4900, 127.0300, 15);
+    Long userId = 1L;
+    PropertyMarker inside = createTestMarker(1L, 37.5000, 127.0510);
+    PropertyMarker outside = createTestMarker(2L, 37.5000, 127.0530);
+
+    given(propertyMarkerVersions.current(userId)).willReturn("v-1");
+    given(propertyMarkerIndex.findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(Optional.of(List.of(inside, outside)));
+
+    // When
+    MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
+
+    // Then
+    assertThat(response.markers()).extracting(PropertyMarkerResponse::id).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - 이전 응답이 클러스터 줌이었으면 version이 같아도 전체 마커 반환")
+  void getMapMarkers_DeltaFromClusterZoom() {
+    // Given - 클러스터 줌(12)에서 마커 줌(15)으로 확대하며 겹치는 영역으로 이동
+    MapBoundsRequest request = new MapBoundsRequest(
+            37.5100, 127.0500, 37.4900, 127.0300, 15,
+            37.5100, 127.0400, 37.4900, 127.0200, 12, "v-1"
+    );
+    Long userId = 1L;
+    PropertyMarker kept = createTestMarker(1L, 37.5000, 127.0350);
+    PropertyMarker added = createTestMarker(2L, 37.5000, 127.0450);
+
+    given(propertyMarkerVersions.current(userId)).willReturn("v-1");
+    given(propertyMarkerIndex.findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(Optional.of(List.of(kept, added)));
+
+    // When
+    MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
+
+    // Then - 겹치는 영역의 마커(1L)도 포함
+    assertThat(response.delta()).isFalse();
+    assertThat(response.markers()).extracting(PropertyMarkerResponse::id).containsExactly(1L, 2L);
+    assertThat(propertyMapService.getMarkersETag(request, userId)).isNotNull();
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - version이 바뀌었으면 전체 마커 반환")
+  void getMapMarkers_DeltaWithStaleVersion() {
+    // Given
+    MapBoundsRequest request = new MapBoundsRequest(
+            37.5100, 127.0500, 37.4900, 127.0300, 15,
+            37.5100, 127.0400, 37.4900, 127.0200, 15, "v-1"
+    );
+    Long userId = 1L;
+    PropertyMarker kept = createTestMarker(1L, 37.5000, 127.0350);
+    PropertyMarker added = createTestMarker(2L, 37.5000, 127.0450);
+
+    given(propertyMarkerVersions.current(userId)).willReturn("v-2");
+    given(propertyMarkerIndex.findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(Optional.of(List.of(kept, added)));
+
+    // When
+    MapMarkersResponse response = propertyMapService.getMapMarkers(request, userId);
+
+    // Then
+    assertThat(response.delta()).isFalse();
+    assertThat(response.version()).isEqualTo("v-2");
+    assertThat(response.markers()).extracting(PropertyMarkerResponse::id).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("지도 마커 조회 - 같은 격자 영역을 다시 조회하면 캐시된 응답 반환")
+  void getMapMarkers_CachedViewport() {
+    // Given - 격자 한 칸보다 작게 이동
+    MapBoundsRequest first = new MapBoundsRequest(37.5100, 127.0500, 37.4900, 127.0300, 15);
+    MapBoundsRequest second = new MapBoundsRequest(37.5098, 127.0499, 37.4901, 127.0301, 15);
+    Long userId = 1L;
+    PropertyMarker marker = createTestMarker(1L, 37.5000, 127.0400);
+
+    given(propertyMarkerVersions.current(userId)).willReturn("v-1");
+    given(propertyMarkerIndex.findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(Optional.of(List.of(marker)));
+
+    // When
+    MapMarkersResponse firstResponse = propertyMapService.getMapMarkers(first, userId);
+    MapMarkersResponse secondResponse = propertyMapService.getMapMarkers(second, userId);
+
+    // Then
+    assertThat(secondResponse).isSameAs(firstResponse);
+    assertThat(propertyMapService.getMarkersETag(second, userId))
+            .isEqualTo(propertyMapService.getMarkersETag(first, userId));
+    verify(propertyMarkerIndex, times(1)).findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+  }
+
+  @Test
+  @DisplayName("지도 마커 ETag - 데이터 버전이 바뀌면 ETag도 바뀌고, 증분 조회 대상이면 발급하지 않음")
+  void getMarkersETag_FollowsVersion() {
+    // Given
+    MapBoundsRequest request = new MapBoundsRequest(37.5100, 127.0500, 37.4900, 127.0300, 15);
+    MapBoundsRequest deltaRequest = new MapBoundsRequest(
+            37.5100, 127.0500, 37.4900, 127.0300, 15,
+            37.5100, 127.0400, 37.4900, 127.0200, 15, "v-2"
+    );
+    Long userId = 1L;
+    given(propertyMarkerVersions.current(userId)).willReturn("v-1", "v-2", "v-2");
+
+    // When
+    String before = propertyMapService.getMarkersETag(request, userId);
+    String after = propertyMapService.getMarkersETag(request, userId);
+    String delta = propertyMapService.getMarkersETag(deltaRequest, userId);
+
+    // Then
+    assertThat(before).isNotEqualTo(after);
+    assertThat(delta).isNull();
+  }
+
+  @Test
+  @DisplayName("마커 타일 조회 - 같은 버전의 타일은 한 번만 인코딩")
+  void getMarkerTile_CachedByVersion() {
+    // Given - 강남역 일대 z15 타일
+    TileCoordinate tile = TileCoordinate.of(15, 27946, 12697);
+    Long userId = 1L;
+    PropertyMarker marker = createTestMarker(1L, 37.4979, 127.0276);
+
+    given(propertyMarkerVersions.current(userId)).willReturn("v-1");
+    given(propertyMarkerIndex.findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+            .willReturn(Optional.of(List.of(marker)));
+
+    // When
+    MarkerTile first = propertyMapService.getMarkerTile(tile, userId);
+    MarkerTile second = propertyMapService.getMarkerTile(tile, userId);
+
+    // Then
+    assertThat(first.data()).isNotEmpty();
+    assertThat(first.version()).isEqualTo("v-1");
+    assertThat(second).isSameAs(first);
+    assertThat(propertyMapService.getMarkerTileETag(tile, userId)).isEqualTo("\"v-1:15/27946/12697\"");
+    verify(propertyMarkerIndex, times(1)).findInBounds(eq(userId), anyDouble(), anyDouble(), anyDouble(), anyDouble());
   }
 
   @Test
@@ -295,6 +570,11 @@ class PropertyMapServiceTest {
     return property;
   }
 
+  private PropertyMarker createTestMarker(Long id, double latitude, double longitude) {
+    return new PropertyMarker(id, latitude, longitude, null,
+            "서초구 서초동 789-12", PropertyType.JEONSE, 280000000L, 0L, 0L, 4, null);
+  }
+
   private PropertyImage createTestPropertyImage(Long propertyId) {
     Property mockProperty = mock(Property.class, withSettings().lenient());
     lenient().when(mockProperty.getId()).thenReturn(propertyId);
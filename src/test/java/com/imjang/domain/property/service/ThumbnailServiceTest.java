@@ -0,0 +1,109 @@
+package com.imjang.domain.property.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.imjang.domain.property.entity.TempImage;
+import com.imjang.domain.property.entity.ThumbnailStatus;
+import com.imjang.domain.property.repository.TempImageRepository;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest {
+
+  @InjectMocks
+  private ThumbnailService thumbnailService;
+
+  @Mock
+  private TempImageRepository tempImageRepository;
+
+  @Spy
+  private ImageDecoder imageDecoder = new ImageDecoder();
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(thumbnailService, "thumbnailWidth", 300);
+    ReflectionTestUtils.setField(thumbnailService, "thumbnailHeight", 300);
+    ReflectionTestUtils.setField(thumbnailService, "thumbnailFormat", "png");
+    ReflectionTestUtils.setField(imageDecoder, "maxPixels", 10_000_000);
+    ReflectionTestUtils.setField(imageDecoder, "acquireTimeoutSeconds", 1L);
+    imageDecoder.init();
+  }
+
+  @Test
+  @DisplayName("썸네일을 생성하고 상태를 COMPLETED로 기록한다")
+  void shouldGenerateThumbnailAndMarkCompleted() throws Exception {
+    // Given
+    File original = tempDir.resolve("original.png").toFile();
+    ImageIO.write(new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB), "png", original);
+    Path thumbnail = tempDir.resolve("thumb_original.png");
+
+    // When
+    boolean generated = thumbnailService.generate(1L, original.getPath(), thumbnail.toString());
+
+    // Then
+    assertThat(generated).isTrue();
+    assertThat(Files.exists(thumbnail)).isTrue();
+    BufferedImage result = ImageIO.read(thumbnail.toFile());
+    assertThat(result.getWidth()).isEqualTo(300);
+    assertThat(result.getHeight()).isEqualTo(200);
+    verify(tempImageRepository).updateThumbnailStatus(eq(1L), eq(ThumbnailStatus.COMPLETED), any());
+  }
+
+  @Test
+  @DisplayName("원본을 디코딩할 수 없으면 상태를 FAILED로 기록한다")
+  void shouldMarkFailedWhenOriginalIsUnreadable() throws Exception {
+    // Given
+    Path original = Files.writeString(tempDir.resolve("broken.png"), "not an image");
+    Path thumbnail = tempDir.resolve("thumb_broken.png");
+
+    // When
+    boolean generated = thumbnailService.generate(2L, original.toString(), thumbnail.toString());
+
+    // Then
+    assertThat(generated).isFalse();
+    verify(tempImageRepository).updateThumbnailStatus(eq(2L), eq(ThumbnailStatus.FAILED), any());
+  }
+
+  @Test
+  @DisplayName("썸네일이 필요한 시점에 디코딩 한도 대기를 초과하면 상태를 바꾸지 않고 예외를 던져 재시도하게 한다")
+  void shouldPropagateDecodeCapacityExceededWhenEnsuringThumbnail() throws Exception {
+    // Given
+    TempImage tempImage = mock(TempImage.class);
+    given(tempImage.getId()).willReturn(3L);
+    given(tempImage.getOriginalUrl()).willReturn(tempDir.resolve("original.png").toString());
+    given(tempImage.getThumbnailUrl()).willReturn(tempDir.resolve("thumb_original.png").toString());
+    doThrow(new ImageDecoder.DecodeCapacityExceededException("디코딩 한도 대기 초과"))
+            .when(imageDecoder).decode(any(File.class), anyInt(), any());
+
+    // When & Then
+    assertThatThrownBy(() -> thumbnailService.ensureThumbnail(tempImage))
+            .isInstanceOf(ImageDecoder.DecodeCapacityExceededException.class);
+    verify(tempImageRepository, never()).updateThumbnailStatus(any(), any(), any());
+  }
+}
@@ -0,0 +1,109 @@
+package com.imjang.infrastructure.kakao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.imjang.global.exception.CustomException;
+import com.imjang.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.test.StepVerifier;
+
+class KakaoRequestSchedulerTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private KakaoRequestScheduler scheduler;
+
+  @AfterEach
+  void tearDown() {
+    scheduler.destroy();
+  }
+
+  @Test
+  @DisplayName("토큰이 없으면 거절하지 않고 대기했다가 우선순위가 높은 요청부터 통과시킨다")
+  void shouldReleaseHigherPriorityFirstWhenTokensAreExhausted() {
+    // Given - 초당 2회, 버킷을 모두 사용한 상태
+    scheduler = createScheduler(2, 10);
+    scheduler.acquire(KakaoRequestPriority.INTERACTIVE).block(Duration.ofSeconds(1));
+    scheduler.acquire(KakaoRequestPriority.INTERACTIVE).block(Duration.ofSeconds(1));
+
+    List<KakaoRequestPriority> released = new CopyOnWriteArrayList<>();
+
+    // When - 백그라운드 요청이 먼저 대기열에 들어가도
+    scheduler.acquire(KakaoRequestPriority.BACKGROUND)
+            .doOnSuccess(ignored -> released.add(KakaoRequestPriority.BACKGROUND))
+            .subscribe();
+    scheduler.acquire(KakaoRequestPriority.INTERACTIVE)
+            .doOnSuccess(ignored -> released.add(KakaoRequestPriority.INTERACTIVE))
+            .block(Duration.ofSeconds(3));
+
+    // Then
+    assertThat(released).first().isEqualTo(KakaoRequestPriority.INTERACTIVE);
+    assertThat(meterRegistry.get("kakao.queue.wait").tag("priority", "INTERACTIVE").timer().count())
+            .isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("대기열이 빈 동안 쌓인 토큰도 조회 시점 기준으로 반영한다")
+  void shouldRefillAvailablePermissionsWhileIdle() throws Exception {
+    // Given - 초당 10회, 6회 사용
+    scheduler = createScheduler(10, 10);
+    for (int i = 0; i < 6; i++) {
+      scheduler.acquire(KakaoRequestPriority.BACKGROUND).block(Duration.ofSeconds(1));
+    }
+    assertThat(scheduler.availablePermissions()).isLessThan(8);
+
+    // When - 추가 요청 없이 대기
+    Thread.sleep(700);
+
+    // Then
+    assertThat(scheduler.availablePermissions()).isGreaterThanOrEqualTo(8);
+  }
+
+  @Test
+  @DisplayName("429 응답 후에는 Retry-After 동안 통과시키지 않고 초당 허용 수를 줄인다")
+  void shouldPauseAndSlowDownAfterThrottled() {
+    // Given
+    scheduler = createScheduler(10, 10);
+
+    // When
+    scheduler.onThrottled(Duration.ofMillis(500));
+    long start = System.nanoTime();
+    scheduler.acquire(KakaoRequestPriority.INTERACTIVE).block(Duration.ofSeconds(3));
+    long waitedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+    // Then
+    assertThat(waitedMillis).isGreaterThanOrEqualTo(400);
+    assertThat(meterRegistry.get("kakao.rate").gauge().value()).isLessThan(10);
+    assertThat(meterRegistry.get("kakao.throttled").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 즉시 RATE_LIMIT_EXCEEDED로 실패한다")
+  void shouldRejectWhenQueueIsFull() {
+    // Given - 토큰 1개, 대기열 1개
+    scheduler = createScheduler(1, 1);
+    scheduler.acquire(KakaoRequestPriority.INTERACTIVE).block(Duration.ofSeconds(1));
+    scheduler.acquire(KakaoRequestPriority.BACKGROUND).subscribe();
+
+    // When & Then
+    StepVerifier.create(scheduler.acquire(KakaoRequestPriority.BACKGROUND))
+            .expectErrorSatisfies(error -> assertThat(((CustomException) error).getErrorCode())
+                    .isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED))
+            .verify(Duration.ofSeconds(1));
+  }
+
+  private KakaoRequestScheduler createScheduler(int permitsPerSecond, int maxQueueSize) {
+    KakaoRequestScheduler created = new KakaoRequestScheduler(meterRegistry);
+    ReflectionTestUtils.setField(created, "permitsPerSecond", permitsPerSecond);
+    ReflectionTestUtils.setField(created, "maxQueueSize", maxQueueSize);
+    ReflectionTestUtils.setField(created, "maxWaitMillis", 30_000L);
+    created.init();
+    return created;
+  }
+}
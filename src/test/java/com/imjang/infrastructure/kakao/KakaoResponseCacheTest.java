@@ -0,0 +1,70 @@
+package com.imjang.infrastructure.kakao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchRequest;
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchResponse;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class KakaoResponseCacheTest {
+
+  @TempDir
+  Path directory;
+
+  private KakaoResponseCache responseCache;
+
+  @BeforeEach
+  void setUp() {
+    responseCache = new KakaoResponseCache(new ObjectMapper());
+    ReflectionTestUtils.setField(responseCache, "modeName", "record");
+    ReflectionTestUtils.setField(responseCache, "directory", directory.toString());
+    ReflectionTestUtils.setField(responseCache, "coordinateScale", 4);
+    responseCache.init();
+  }
+
+  @Test
+  @DisplayName("저장한 응답은 반올림 범위 안의 좌표 요청에서 그대로 조회된다")
+  void shouldReturnStoredResponseForRoundedCoordinate() {
+    // Given
+    KakaoCategorySearchRequest request = KakaoCategorySearchRequest.of("CS2", 127.02479, 37.50458, 500);
+    KakaoCategorySearchResponse response = sampleResponse();
+    responseCache.put(request, response).block();
+
+    // When
+    KakaoCategorySearchResponse cached = responseCache.get(
+            KakaoCategorySearchRequest.of("CS2", 127.024791, 37.504581, 500)).block();
+
+    // Then
+    assertThat(responseCache.mode()).isEqualTo(KakaoResponseCache.Mode.RECORD);
+    assertThat(cached).isEqualTo(response);
+  }
+
+  @Test
+  @DisplayName("카테고리나 반경이 다르면 다른 항목으로 취급한다")
+  void shouldMissForDifferentCategoryOrRadius() {
+    // Given
+    KakaoCategorySearchRequest request = KakaoCategorySearchRequest.of("CS2", 127.02479, 37.50458, 500);
+    responseCache.put(request, sampleResponse()).block();
+
+    // When & Then
+    assertThat(responseCache.get(KakaoCategorySearchRequest.of("PM9", 127.02479, 37.50458, 500)).block())
+            .isNull();
+    assertThat(responseCache.get(KakaoCategorySearchRequest.of("CS2", 127.02479, 37.50458, 1000)).block())
+            .isNull();
+  }
+
+  private KakaoCategorySearchResponse sampleResponse() {
+    return new KakaoCategorySearchResponse(
+            new KakaoCategorySearchResponse.Meta(1, 1, true),
+            List.of(new KakaoCategorySearchResponse.Document("1", "편의점 1", "편의점", "CS2", "편의점", null,
+                    "서울 강남구", null, "127.0250", "37.5047", null, "35"))
+    );
+  }
+}
@@ -0,0 +1,25 @@
+package com.imjang.infrastructure.kakao.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.imjang.infrastructure.kakao.dto.KakaoCategorySearchResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FakeKakaoApiControllerTest {
+
+  @Test
+  @DisplayName("같은 요청에는 항상 같은 장소 목록을 거리 오름차순으로 생성한다")
+  void shouldGenerateDeterministicDocumentsSortedByDistance() {
+    // When
+    KakaoCategorySearchResponse first = FakeKakaoApiController.generate("CS2", 127.02479, 37.50458, 500, 15);
+    KakaoCategorySearchResponse second = FakeKakaoApiController.generate("CS2", 127.02479, 37.50458, 500, 15);
+
+    // Then
+    assertThat(first).isEqualTo(second);
+    assertThat(first.documents())
+            .extracting(document -> Integer.parseInt(document.distance()))
+            .isSorted()
+            .allSatisfy(distance -> assertThat(distance).isBetween(10, 500));
+  }
+}
@@ -0,0 +1,98 @@
+package com.imjang.infrastructure.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@ExtendWith(MockitoExtension.class)
+class S3UploadStreamTest {
+
+  private static final int PART_SIZE = S3UploadStream.MIN_PART_SIZE;
+
+  @Mock
+  private S3Client s3Client;
+
+  @Test
+  @DisplayName("한 파트 이하 데이터는 멀티파트 없이 단건 PUT으로 저장한다")
+  void shouldPutSmallObjectInSingleRequest() throws IOException {
+    // Given
+    S3UploadStream upload = new S3UploadStream(s3Client, "bucket", "images/temp/a.jpg", "image/jpeg", PART_SIZE);
+
+    // When
+    upload.write(new byte[1024]);
+    upload.close();
+
+    // Then
+    ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+    verify(s3Client).putObject(any(PutObjectRequest.class), body.capture());
+    assertThat(body.getValue().optionalContentLength()).contains(1024L);
+    verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("파트 크기를 넘으면 파트 단위로 전송하고 완료 시 멀티파트 업로드를 마무리한다")
+  void shouldUploadLargeObjectInParts() throws IOException {
+    // Given
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+    S3UploadStream upload = new S3UploadStream(s3Client, "bucket", "images/temp/b.jpg", "image/jpeg", PART_SIZE);
+
+    // When - 2.5 파트 분량
+    byte[] chunk = new byte[PART_SIZE / 2];
+    for (int i = 0; i < 5; i++) {
+      upload.write(chunk);
+    }
+    upload.close();
+
+    // Then
+    ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+    verify(s3Client, times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+    assertThat(parts.getAllValues()).extracting(UploadPartRequest::partNumber).containsExactly(1, 2, 3);
+    ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(complete.capture());
+    assertThat(complete.getValue().multipartUpload().parts()).hasSize(3);
+    assertThat(upload.getSize()).isEqualTo(5L * (PART_SIZE / 2));
+    verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+  }
+
+  @Test
+  @DisplayName("파트 전송이 실패하면 멀티파트 업로드를 취소한다")
+  void shouldAbortMultipartUploadWhenPartFails() {
+    // Given
+    when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-2").build());
+    when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenThrow(S3Exception.builder().message("boom").build());
+    S3UploadStream upload = new S3UploadStream(s3Client, "bucket", "images/temp/c.jpg", "image/jpeg", PART_SIZE);
+
+    // When & Then
+    assertThatThrownBy(() -> upload.write(new byte[PART_SIZE + 1])).isInstanceOf(IOException.class);
+    verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+}